@@ -0,0 +1,53 @@
+package com.nagarro.advanced.framework.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nagarro.advanced.framework.controller.model.BookDto;
+import com.nagarro.advanced.framework.event.BookChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class BookDtoCache {
+
+    private static final String CACHE_NAME = "books";
+
+    private final Cache<String, BookDto> cache;
+
+    @Autowired
+    public BookDtoCache(MeterRegistry meterRegistry,
+                        @Value("${bookstore.cache.books.maximum-size:10000}") long maximumSize,
+                        @Value("${bookstore.cache.books.ttl:PT10M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public BookDto get(String isbn, Function<String, BookDto> loader) {
+        return cache.get(isbn, loader);
+    }
+
+    public void invalidate(String isbn) {
+        cache.invalidate(isbn);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        invalidate(event.isbn());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
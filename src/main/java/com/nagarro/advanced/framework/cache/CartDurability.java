@@ -0,0 +1,6 @@
+package com.nagarro.advanced.framework.cache;
+
+public enum CartDurability {
+    WRITE_BEHIND,
+    WRITE_THROUGH
+}
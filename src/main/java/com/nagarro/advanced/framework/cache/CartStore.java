@@ -0,0 +1,491 @@
+package com.nagarro.advanced.framework.cache;
+
+import com.nagarro.advanced.framework.persistence.CartBookWriter;
+import com.nagarro.advanced.framework.persistence.CartBookWriter.CartBookRow;
+import com.nagarro.advanced.framework.persistence.CartBookWriter.PendingCart;
+import com.nagarro.advanced.framework.persistence.EntityIdGenerator;
+import com.nagarro.advanced.framework.persistence.entity.Cart;
+import com.nagarro.advanced.framework.persistence.entity.CartBook;
+import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.util.LoggingConfiguration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+@Component
+public class CartStore {
+
+    private static final String FLUSHER_THREAD_NAME = "cart-store-flusher";
+
+    private final Logger logger = new LoggingConfiguration().getLogger();
+    private final CartBookWriter cartBookWriter;
+    private final EntityIdGenerator entityIdGenerator;
+    private final boolean enabled;
+    private final CartDurability durability;
+    private final Duration flushInterval;
+    private final int flushBatchSize;
+    private final long idleTimeoutNanos;
+    private final Lock[] locks;
+    private final Condition[] settled;
+    private final Lock flushLock = new ReentrantLock();
+    private final Map<String, CartEntry> entries = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService flusher;
+
+    @Autowired
+    public CartStore(CartBookWriter cartBookWriter, EntityIdGenerator entityIdGenerator, MeterRegistry meterRegistry,
+                     @Value("${bookstore.carts.store.enabled:true}") boolean enabled,
+                     @Value("${bookstore.carts.store.durability:WRITE_BEHIND}") CartDurability durability,
+                     @Value("${bookstore.carts.store.flush-interval:PT1S}") Duration flushInterval,
+                     @Value("${bookstore.carts.store.flush-batch-size:200}") int flushBatchSize,
+                     @Value("${bookstore.carts.store.idle-timeout:PT30M}") Duration idleTimeout,
+                     @Value("${bookstore.carts.store.lock-stripes:64}") int lockStripes) {
+        this.cartBookWriter = cartBookWriter;
+        this.entityIdGenerator = entityIdGenerator;
+        this.enabled = enabled;
+        this.durability = durability;
+        this.flushInterval = flushInterval;
+        this.flushBatchSize = Math.max(1, flushBatchSize);
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        int stripes = 1;
+        while (stripes < lockStripes) {
+            stripes <<= 1;
+        }
+        this.locks = new Lock[stripes];
+        this.settled = new Condition[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+            settled[i] = locks[i].newCondition();
+        }
+        Gauge.builder("cart.store.size", entries, Map::size).register(meterRegistry);
+        Gauge.builder("cart.store.dirty", dirty, Set::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            logger.log(Level.INFO, "Cart store is disabled, carts are read and written through the database");
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, FLUSHER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushAndEvictIdle, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.log(Level.INFO, "Cart store started in " + durability + " mode");
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(flushInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+        }
+        if (enabled) {
+            flush();
+        }
+    }
+
+    public Cart get(String userUuid, Function<String, Cart> loader) {
+        if (!enabled) {
+            return loader.apply(userUuid);
+        }
+        int stripe = stripeOf(userUuid);
+        Lock lock = locks[stripe];
+        lock.lock();
+        try {
+            return awaitCheckout(stripe, userUuid, loader).toCart();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Cart update(String userUuid, Function<String, Cart> loader, Consumer<Map<Long, CartBook>> mutation) {
+        if (!enabled) {
+            CartEntry entry = toEntry(userUuid, loader.apply(userUuid));
+            mutation.accept(entry.items);
+            assignId(entry);
+            cartBookWriter.write(List.of(entry.prepareWrite()));
+            return entry.toCart();
+        }
+        Cart cart;
+        int stripe = stripeOf(userUuid);
+        Lock lock = locks[stripe];
+        lock.lock();
+        try {
+            CartEntry entry = awaitCheckout(stripe, userUuid, loader);
+            mutation.accept(entry.items);
+            assignId(entry);
+            entry.dirty = true;
+            dirty.add(userUuid);
+            cart = entry.toCart();
+        } finally {
+            lock.unlock();
+        }
+        if (durability == CartDurability.WRITE_THROUGH) {
+            flush(List.of(userUuid));
+        }
+        return cart;
+    }
+
+    public <T> T checkout(String userUuid, Function<String, Cart> loader, Function<Cart, T> placeOrder) {
+        if (!enabled) {
+            return placeOrder.apply(loader.apply(userUuid));
+        }
+        int stripe = stripeOf(userUuid);
+        Lock lock = locks[stripe];
+        CartEntry entry;
+        Cart cart;
+        lock.lock();
+        try {
+            entry = entry(userUuid, loader);
+            while (entry.writing || entry.checkingOut) {
+                settled[stripe].awaitUninterruptibly();
+                entry = entry(userUuid, loader);
+            }
+            entry.checkingOut = true;
+            cart = entry.toCart();
+        } finally {
+            lock.unlock();
+        }
+        boolean placed = false;
+        try {
+            T result = placeOrder.apply(cart);
+            placed = true;
+            return result;
+        } finally {
+            lock.lock();
+            try {
+                entry.checkingOut = false;
+                if (placed) {
+                    entry.checkedOut();
+                    dirty.remove(userUuid);
+                }
+                settled[stripe].signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public void evict(String userUuid) {
+        Lock lock = lockFor(userUuid);
+        lock.lock();
+        try {
+            entries.remove(userUuid);
+            dirty.remove(userUuid);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<String> batch = new ArrayList<>(flushBatchSize);
+            for (String userUuid : dirty) {
+                batch.add(userUuid);
+                if (batch.size() == flushBatchSize) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+            write(batch);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int dirtyCount() {
+        return dirty.size();
+    }
+
+    void evictIdle() {
+        long now = System.nanoTime();
+        for (Map.Entry<String, CartEntry> cached : entries.entrySet()) {
+            String userUuid = cached.getKey();
+            if (now - cached.getValue().lastAccessNanos < idleTimeoutNanos) {
+                continue;
+            }
+            Lock lock = lockFor(userUuid);
+            lock.lock();
+            try {
+                CartEntry entry = entries.get(userUuid);
+                if (entry != null && !entry.dirty && !entry.checkingOut
+                        && now - entry.lastAccessNanos >= idleTimeoutNanos) {
+                    entries.remove(userUuid);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void flushAndEvictIdle() {
+        try {
+            flush();
+            evictIdle();
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Cart flush failed, " + dirty.size() + " carts will be retried", e);
+        }
+    }
+
+    private void flush(List<String> userUuids) {
+        flushLock.lock();
+        try {
+            write(userUuids);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(List<String> userUuids) {
+        List<CartEntry> flushed = new ArrayList<>(userUuids.size());
+        List<PendingCart> pending = new ArrayList<>(userUuids.size());
+        for (String userUuid : userUuids) {
+            Lock lock = lockFor(userUuid);
+            lock.lock();
+            try {
+                CartEntry entry = entries.get(userUuid);
+                if (entry != null && entry.checkingOut) {
+                    continue;
+                }
+                dirty.remove(userUuid);
+                if (entry != null && entry.dirty) {
+                    entry.dirty = false;
+                    entry.writing = true;
+                    flushed.add(entry);
+                    pending.add(entry.prepareWrite());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            cartBookWriter.write(pending);
+            flushed.forEach(CartEntry::written);
+        } catch (DataIntegrityViolationException e) {
+            if (pending.size() == 1) {
+                logger.log(Level.WARNING, "Dropping cart of user " + flushed.get(0).userUuid
+                        + " that can no longer be written", e);
+                evict(flushed.get(0).userUuid);
+                return;
+            }
+            RuntimeException failure = null;
+            for (int i = 0; i < pending.size(); i++) {
+                try {
+                    writeAlone(flushed.get(i), pending.get(i));
+                } catch (RuntimeException writeFailure) {
+                    if (failure == null) {
+                        failure = writeFailure;
+                    } else {
+                        failure.addSuppressed(writeFailure);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } catch (RuntimeException e) {
+            flushed.forEach(this::markDirty);
+            throw e;
+        } finally {
+            flushed.forEach(this::writeDone);
+        }
+    }
+
+    private void writeDone(CartEntry entry) {
+        int stripe = stripeOf(entry.userUuid);
+        locks[stripe].lock();
+        try {
+            entry.writing = false;
+            settled[stripe].signalAll();
+        } finally {
+            locks[stripe].unlock();
+        }
+    }
+
+    private void writeAlone(CartEntry entry, PendingCart pendingCart) {
+        try {
+            cartBookWriter.write(List.of(pendingCart));
+            entry.written();
+        } catch (DataIntegrityViolationException e) {
+            logger.log(Level.WARNING, "Dropping cart of user " + entry.userUuid + " that can no longer be written", e);
+            evict(entry.userUuid);
+        } catch (RuntimeException e) {
+            markDirty(entry);
+            throw e;
+        }
+    }
+
+    private void markDirty(CartEntry entry) {
+        Lock lock = lockFor(entry.userUuid);
+        lock.lock();
+        try {
+            if (entries.get(entry.userUuid) == entry) {
+                entry.dirty = true;
+                dirty.add(entry.userUuid);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CartEntry awaitCheckout(int stripe, String userUuid, Function<String, Cart> loader) {
+        CartEntry entry = entry(userUuid, loader);
+        while (entry.checkingOut) {
+            settled[stripe].awaitUninterruptibly();
+            entry = entry(userUuid, loader);
+        }
+        return entry;
+    }
+
+    private CartEntry entry(String userUuid, Function<String, Cart> loader) {
+        CartEntry entry = entries.get(userUuid);
+        if (entry == null) {
+            entry = toEntry(userUuid, loader.apply(userUuid));
+            entries.put(userUuid, entry);
+        }
+        entry.lastAccessNanos = System.nanoTime();
+        return entry;
+    }
+
+    private CartEntry toEntry(String userUuid, Cart cart) {
+        if (cart.getId() == null) {
+            return new CartEntry(null, UUID.randomUUID().toString(), cart.getUser().getId(), userUuid,
+                    cart.getItems(), false);
+        }
+        return new CartEntry(cart.getId(), cart.getUuid(), cart.getUser().getId(), userUuid, cart.getItems(), true);
+    }
+
+    private void assignId(CartEntry entry) {
+        if (entry.cartId == null) {
+            entry.cartId = entityIdGenerator.nextIds(Cart.class, 1).get(0);
+        }
+    }
+
+    private Lock lockFor(String userUuid) {
+        return locks[stripeOf(userUuid)];
+    }
+
+    private int stripeOf(String userUuid) {
+        int hash = userUuid.hashCode();
+        return (hash ^ (hash >>> 16)) & (locks.length - 1);
+    }
+
+    private static final class CartEntry {
+
+        private Long cartId;
+        private final String cartUuid;
+        private final Long userId;
+        private final String userUuid;
+        private final Map<Long, CartBook> items = new LinkedHashMap<>();
+        private Map<Long, Integer> persistedQuantities;
+        private Map<Long, Integer> writingQuantities;
+        private volatile boolean persisted;
+        private boolean dirty;
+        private boolean writing;
+        private boolean checkingOut;
+        private volatile long lastAccessNanos;
+
+        private CartEntry(Long cartId, String cartUuid, Long userId, String userUuid, Collection<CartBook> loadedItems,
+                          boolean persisted) {
+            this.cartId = cartId;
+            this.cartUuid = cartUuid;
+            this.userId = userId;
+            this.userUuid = userUuid;
+            if (loadedItems != null) {
+                for (CartBook item : loadedItems) {
+                    items.put(item.getBook().getId(),
+                            CartBook.builder().book(item.getBook()).quantity(item.getQuantity()).build());
+                }
+            }
+            this.persistedQuantities = persisted ? quantities() : new HashMap<>();
+            this.persisted = persisted;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        private Cart toCart() {
+            User user = User.builder().id(userId).uuid(userUuid).build();
+            Cart cart = Cart.builder().id(cartId).uuid(cartUuid).user(user).items(new LinkedHashSet<>()).build();
+            items.values().forEach(item -> cart.getItems().add(new CartBook(cart, item.getBook(), item.getQuantity())));
+            return cart;
+        }
+
+        private PendingCart prepareWrite() {
+            Map<Long, Integer> quantities = quantities();
+            List<CartBookRow> inserted = new ArrayList<>();
+            List<CartBookRow> updated = new ArrayList<>();
+            List<Long> deleted = new ArrayList<>();
+            quantities.forEach((bookId, quantity) -> {
+                Integer persistedQuantity = persistedQuantities.get(bookId);
+                if (persistedQuantity == null) {
+                    inserted.add(new CartBookRow(bookId, quantity));
+                } else if (!persistedQuantity.equals(quantity)) {
+                    updated.add(new CartBookRow(bookId, quantity));
+                }
+            });
+            for (Long bookId : persistedQuantities.keySet()) {
+                if (!quantities.containsKey(bookId)) {
+                    deleted.add(bookId);
+                }
+            }
+            writingQuantities = quantities;
+            return new PendingCart(cartId, cartUuid, userId, !persisted, inserted, updated, deleted);
+        }
+
+        private void written() {
+            persistedQuantities = writingQuantities;
+            persisted = true;
+        }
+
+        private void checkedOut() {
+            items.clear();
+            persistedQuantities = new HashMap<>();
+            dirty = false;
+        }
+
+        private Map<Long, Integer> quantities() {
+            Map<Long, Integer> quantities = new HashMap<>();
+            items.forEach((bookId, item) -> quantities.put(bookId, item.getQuantity()));
+            return quantities;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.nagarro.advanced.framework.cache;
+
+import com.nagarro.advanced.framework.event.RoleChangedEvent;
+import com.nagarro.advanced.framework.persistence.entity.Role;
+import com.nagarro.advanced.framework.persistence.repository.RoleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class RoleRegistry {
+
+    private final RoleRepository roleRepository;
+    private final long refreshIntervalNanos;
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public RoleRegistry(RoleRepository roleRepository,
+                        @Value("${bookstore.roles.registry.refresh-interval:PT5M}") Duration refreshInterval) {
+        this.roleRepository = roleRepository;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        load();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRoleChanged(RoleChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        if (event.type() == RoleChangedEvent.Type.DELETED) {
+            snapshot = current.without(event.roleId());
+        } else {
+            snapshot = current.with(new Role(event.roleId(), event.name()));
+        }
+    }
+
+    public Optional<Role> findById(long id) {
+        return Optional.ofNullable(current().byId().get(id)).map(RoleRegistry::copyOf);
+    }
+
+    public Optional<Role> findByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current().byName().get(name)).map(RoleRegistry::copyOf);
+    }
+
+    public List<Role> findAll() {
+        return current().roles().stream().map(RoleRegistry::copyOf).toList();
+    }
+
+    public void reload() {
+        load();
+    }
+
+    private synchronized Snapshot load() {
+        Snapshot loaded = Snapshot.of(roleRepository.findAll(), System.nanoTime());
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || System.nanoTime() - current.loadedAt() >= refreshIntervalNanos) {
+            return load();
+        }
+        return current;
+    }
+
+    private static Role copyOf(Role role) {
+        return new Role(role.getId(), role.getName());
+    }
+
+    private record Snapshot(List<Role> roles, Map<Long, Role> byId, Map<String, Role> byName, long loadedAt) {
+
+        static Snapshot of(Collection<Role> roles, long loadedAt) {
+            List<Role> sortedRoles = roles.stream()
+                    .map(RoleRegistry::copyOf)
+                    .sorted(Comparator.comparing(Role::getId))
+                    .toList();
+            Map<Long, Role> byId = new HashMap<>();
+            Map<String, Role> byName = new HashMap<>();
+            for (Role role : sortedRoles) {
+                byId.put(role.getId(), role);
+                byName.put(role.getName(), role);
+            }
+            return new Snapshot(sortedRoles, Map.copyOf(byId), Map.copyOf(byName), loadedAt);
+        }
+
+        Snapshot with(Role role) {
+            Map<Long, Role> updated = new HashMap<>(byId);
+            updated.put(role.getId(), role);
+            return of(updated.values(), loadedAt);
+        }
+
+        Snapshot without(long id) {
+            Map<Long, Role> updated = new HashMap<>(byId);
+            updated.remove(id);
+            return of(updated.values(), loadedAt);
+        }
+    }
+}
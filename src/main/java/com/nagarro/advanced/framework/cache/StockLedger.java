@@ -0,0 +1,258 @@
+package com.nagarro.advanced.framework.cache;
+
+import com.nagarro.advanced.framework.exception.AppException;
+import com.nagarro.advanced.framework.persistence.StockTable;
+import com.nagarro.advanced.framework.util.LoggingConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+@Component
+public class StockLedger {
+
+    private static final String RECONCILER_THREAD_NAME = "stock-ledger-reconciler";
+    private static final String OUT_OF_STOCK = "The book is out of stock!";
+    private static final int REJECTED = -1;
+
+    private final Logger logger = new LoggingConfiguration().getLogger();
+    private final StockTable stockTable;
+    private final int stripes;
+    private final int leaseSize;
+    private final boolean reconcileEnabled;
+    private final Duration reconcileInterval;
+    private final Map<Long, Allotment> allotments = new ConcurrentHashMap<>();
+    private final Counter rejected;
+    private ScheduledExecutorService reconciler;
+
+    @Autowired
+    public StockLedger(StockTable stockTable, MeterRegistry meterRegistry,
+                       @Value("${bookstore.stock.stripes:16}") int stripes,
+                       @Value("${bookstore.stock.lease-size:50}") int leaseSize,
+                       @Value("${bookstore.stock.reconcile.enabled:true}") boolean reconcileEnabled,
+                       @Value("${bookstore.stock.reconcile.interval:PT5S}") Duration reconcileInterval) {
+        this.stockTable = stockTable;
+        this.stripes = Math.max(1, stripes);
+        this.leaseSize = Math.max(1, leaseSize);
+        this.reconcileEnabled = reconcileEnabled;
+        this.reconcileInterval = reconcileInterval;
+        Gauge.builder("stock.leased", this, StockLedger::leased).register(meterRegistry);
+        this.rejected = Counter.builder("stock.reservations.rejected").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!reconcileEnabled) {
+            logger.log(Level.INFO, "Stock reconciliation is disabled, leased stock is returned on shutdown");
+            return;
+        }
+        reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, RECONCILER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = reconcileInterval.toMillis();
+        reconciler.scheduleWithFixedDelay(this::reconcileQuietly, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (reconciler != null) {
+            reconciler.shutdown();
+            reconciler.awaitTermination(reconcileInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+        }
+        reconcile();
+    }
+
+    public Map<Long, Integer> reserve(Map<Long, Integer> quantities) {
+        Map<Long, Integer> reserved = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<Long, Integer> quantity : quantities.entrySet()) {
+                int taken = allotment(quantity.getKey()).reserve(quantity.getValue());
+                if (taken == REJECTED) {
+                    rejected.increment();
+                    throw new AppException(OUT_OF_STOCK, HttpStatus.CONFLICT);
+                }
+                if (taken > 0) {
+                    reserved.put(quantity.getKey(), taken);
+                }
+            }
+        } catch (RuntimeException e) {
+            release(reserved);
+            throw e;
+        }
+        return reserved;
+    }
+
+    public void release(Map<Long, Integer> reserved) {
+        reserved.forEach((bookId, quantity) -> allotment(bookId).release(quantity));
+    }
+
+    public Integer available(long bookId) {
+        Allotment allotment = allotment(bookId);
+        synchronized (allotment) {
+            Integer stock = stockTable.findStock(bookId);
+            allotment.untracked = stock == null;
+            return stock == null ? null : stock + allotment.sum();
+        }
+    }
+
+    public void restock(long bookId, int quantity) {
+        Allotment allotment = allotment(bookId);
+        synchronized (allotment) {
+            stockTable.add(bookId, quantity);
+            allotment.untracked = false;
+        }
+    }
+
+    public void reconcile() {
+        for (Allotment allotment : allotments.values()) {
+            allotment.giveBack();
+        }
+    }
+
+    long leased() {
+        long leased = 0;
+        for (Allotment allotment : allotments.values()) {
+            leased += allotment.sum();
+        }
+        return leased;
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Stock reconciliation failed, leased stock stays in memory", e);
+        }
+    }
+
+    private Allotment allotment(long bookId) {
+        return allotments.computeIfAbsent(bookId, Allotment::new);
+    }
+
+    private final class Allotment {
+
+        private final long bookId;
+        private final AtomicIntegerArray units = new AtomicIntegerArray(stripes);
+        private volatile boolean untracked;
+
+        private Allotment(long bookId) {
+            this.bookId = bookId;
+        }
+
+        private int reserve(int quantity) {
+            if (untracked) {
+                return 0;
+            }
+            if (tryTake(quantity)) {
+                return quantity;
+            }
+            synchronized (this) {
+                while (!untracked) {
+                    if (tryTake(quantity) || takeAcrossStripes(quantity)) {
+                        return quantity;
+                    }
+                    int missing = Math.max(1, quantity - sum());
+                    int leased = stockTable.lease(bookId, Math.max(leaseSize, quantity), missing);
+                    if (leased == StockTable.UNTRACKED) {
+                        untracked = true;
+                    } else if (leased == 0) {
+                        return REJECTED;
+                    } else {
+                        units.addAndGet(probe(), leased);
+                    }
+                }
+                return 0;
+            }
+        }
+
+        private void release(int quantity) {
+            units.addAndGet(probe(), quantity);
+        }
+
+        private synchronized void giveBack() {
+            int drained = 0;
+            for (int i = 0; i < stripes; i++) {
+                drained += units.getAndSet(i, 0);
+            }
+            if (drained == 0) {
+                untracked = false;
+                return;
+            }
+            try {
+                stockTable.giveBack(bookId, drained);
+                untracked = false;
+            } catch (RuntimeException e) {
+                units.addAndGet(probe(), drained);
+                throw e;
+            }
+        }
+
+        private boolean tryTake(int quantity) {
+            int start = probe();
+            for (int i = 0; i < stripes; i++) {
+                int stripe = (start + i) % stripes;
+                int current = units.get(stripe);
+                while (current >= quantity) {
+                    if (units.compareAndSet(stripe, current, current - quantity)) {
+                        return true;
+                    }
+                    current = units.get(stripe);
+                }
+            }
+            return false;
+        }
+
+        private boolean takeAcrossStripes(int quantity) {
+            int taken = 0;
+            int[] takenPerStripe = new int[stripes];
+            for (int i = 0; i < stripes && taken < quantity; i++) {
+                int wanted = quantity - taken;
+                int before = units.getAndUpdate(i, current -> current - Math.min(current, wanted));
+                takenPerStripe[i] = Math.min(before, wanted);
+                taken += takenPerStripe[i];
+            }
+            if (taken == quantity) {
+                return true;
+            }
+            for (int i = 0; i < stripes; i++) {
+                if (takenPerStripe[i] > 0) {
+                    units.addAndGet(i, takenPerStripe[i]);
+                }
+            }
+            return false;
+        }
+
+        private int sum() {
+            int sum = 0;
+            for (int i = 0; i < stripes; i++) {
+                sum += units.get(i);
+            }
+            return sum;
+        }
+
+        private int probe() {
+            long id = Thread.currentThread().getId();
+            return (int) ((id ^ (id >>> 16)) % stripes);
+        }
+    }
+}
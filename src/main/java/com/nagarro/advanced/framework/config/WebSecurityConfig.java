@@ -1,9 +1,16 @@
 package com.nagarro.advanced.framework.config;
 
 
+import com.nagarro.advanced.framework.cache.UserDetailsCache;
+import com.nagarro.advanced.framework.security.BearerTokenAuthenticationFilter;
+import com.nagarro.advanced.framework.security.BCryptStrengthCalibrator;
+import com.nagarro.advanced.framework.security.BearerTokenService;
+import com.nagarro.advanced.framework.security.TimedBCryptPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -12,6 +19,8 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -20,22 +29,31 @@ public class WebSecurityConfig {
 
     private final UserDetailsService userDetailsService;
 
+    private final UserDetailsCache userDetailsCache;
+
+    private final BearerTokenService tokenService;
+
     @Autowired
-    public WebSecurityConfig(UserDetailsService userDetailsService) {
+    public WebSecurityConfig(UserDetailsService userDetailsService, UserDetailsCache userDetailsCache, BearerTokenService tokenService) {
         this.userDetailsService = userDetailsService;
+        this.userDetailsCache = userDetailsCache;
+        this.tokenService = tokenService;
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(BCryptPasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(new BCryptPasswordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserCache(userDetailsCache);
         return provider;
     }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.httpBasic();
+        http.addFilterBefore(new BearerTokenAuthenticationFilter(tokenService, new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)),
+                BasicAuthenticationFilter.class);
         http
                 .csrf().disable()
                 .authorizeHttpRequests()
@@ -47,7 +65,7 @@ public class WebSecurityConfig {
     }
 
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(BCryptStrengthCalibrator calibrator, MeterRegistry meterRegistry) {
+        return new TimedBCryptPasswordEncoder(calibrator.calibrate(), meterRegistry);
     }
 }
@@ -1,9 +1,11 @@
 package com.nagarro.advanced.framework.controller.api;
 
+import com.nagarro.advanced.framework.controller.model.LoginResponse;
 import com.nagarro.advanced.framework.controller.model.LoginUser;
 import com.nagarro.advanced.framework.controller.model.UserRegistrationDto;
 import com.nagarro.advanced.framework.controller.model.UserRegistrationResult;
 import com.nagarro.advanced.framework.facade.AuthenticationFacade;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -27,13 +29,14 @@ public class AuthController {
     }
 
     @GetMapping(value = "/login", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<String> login(@Valid @RequestBody LoginUser user) {
-        return new ResponseEntity<>(authenticationFacade.login(user), HttpStatus.OK);
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginUser user, HttpServletRequest request) {
+        return new ResponseEntity<>(authenticationFacade.login(user, request.getRemoteAddr()), HttpStatus.OK);
     }
 
     @PostMapping(value = "/register", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<UserRegistrationResult> register(@Valid @RequestBody UserRegistrationDto registrationUserDto) {
-        UserRegistrationResult userRegistration = authenticationFacade.register(registrationUserDto);
+    public ResponseEntity<UserRegistrationResult> register(@Valid @RequestBody UserRegistrationDto registrationUserDto,
+                                                           HttpServletRequest request) {
+        UserRegistrationResult userRegistration = authenticationFacade.register(registrationUserDto, request.getRemoteAddr());
         return new ResponseEntity<>(userRegistration, HttpStatus.CREATED);
     }
 }
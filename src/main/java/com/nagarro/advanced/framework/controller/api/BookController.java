@@ -1,12 +1,18 @@
 package com.nagarro.advanced.framework.controller.api;
 
 import com.nagarro.advanced.framework.controller.model.BookDto;
+import com.nagarro.advanced.framework.controller.model.BookExportDto;
+import com.nagarro.advanced.framework.controller.model.BookImportReport;
+import com.nagarro.advanced.framework.controller.model.BookSearchHitDto;
+import com.nagarro.advanced.framework.controller.model.CursorPage;
 import com.nagarro.advanced.framework.facade.BookFacade;
+import com.nagarro.advanced.framework.util.AcceptEncoding;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,13 +24,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.List;
 
 @RestController
 @RequestMapping("/books")
 public class BookController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String GZIP = "gzip";
+
     private final BookFacade bookFacade;
 
     public BookController(BookFacade bookFacade) {
@@ -44,6 +60,39 @@ public class BookController {
         return new ResponseEntity<>(bookFacade.saveBook(book), HttpStatus.CREATED);
     }
 
+    @Operation(summary = "Import books", description = "Bulk import books from an NDJSON or CSV stream", tags = "Save")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see the report for rejected rows",
+                    content = {@Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = BookImportReport.class))}),
+            @ApiResponse(responseCode = "415", description = "Unsupported import format!",
+                    content = @Content)})
+    @PostMapping(value = "/import", consumes = {NDJSON, "text/csv"})
+    @Secured("ROLE_ADMIN")
+    public ResponseEntity<BookImportReport> importBooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                        InputStream body) {
+        return new ResponseEntity<>(bookFacade.importBooks(body, contentType), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Export books", description = "Stream the whole catalog as NDJSON, gzip on request",
+            tags = "Get")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One book per line with category and review aggregates",
+                    content = {@Content(mediaType = NDJSON,
+                            schema = @Schema(implementation = BookExportDto.class))})})
+    @GetMapping(value = "/export", produces = NDJSON)
+    @Secured("ROLE_ADMIN")
+    public ResponseEntity<StreamingResponseBody> exportBooks(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = AcceptEncoding.accepts(acceptEncoding, GZIP);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(bookFacade.exportBooks(gzip));
+    }
+
     @Operation(summary = "Get a book", description = "Get a book from library", tags = "Get")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Found the book!",
@@ -57,6 +106,33 @@ public class BookController {
         return new ResponseEntity<>(bookFacade.findBookByIsbn(isbn), HttpStatus.OK);
     }
 
+    @Operation(summary = "List books", description = "List the library catalog page by page", tags = "Get")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found the page!"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or price range!",
+                    content = @Content)})
+    @GetMapping
+    @Secured({"ROLE_USER"})
+    public ResponseEntity<CursorPage<BookDto>> findAll(@RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "20") int size,
+                                                       @RequestParam(required = false) String categoryUuid,
+                                                       @RequestParam(required = false) BigDecimal minPrice,
+                                                       @RequestParam(required = false) BigDecimal maxPrice) {
+        return new ResponseEntity<>(bookFacade.findBooks(cursor, size, categoryUuid, minPrice, maxPrice), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Search books", description = "Full-text search over title, author and details", tags = "Get")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranked search hits"),
+            @ApiResponse(responseCode = "400", description = "Empty search query!",
+                    content = @Content)})
+    @GetMapping("/search")
+    @Secured({"ROLE_USER"})
+    public ResponseEntity<List<BookSearchHitDto>> search(@RequestParam("q") String query,
+                                                         @RequestParam(defaultValue = "10") int limit) {
+        return new ResponseEntity<>(bookFacade.searchBooks(query, limit), HttpStatus.OK);
+    }
+
     @Operation(summary = "Delete book", description = "Delete book from library", tags = "Delete")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Delete successfully!"),
@@ -1,6 +1,8 @@
 package com.nagarro.advanced.framework.controller.api;
 
+import com.nagarro.advanced.framework.controller.model.BookRatingDto;
 import com.nagarro.advanced.framework.controller.model.BookReviewDto;
+import com.nagarro.advanced.framework.controller.model.CursorPage;
 import com.nagarro.advanced.framework.facade.BookReviewFacade;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,11 +14,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 public class BookReviewController {
     private final BookReviewFacade reviewFacade;
@@ -45,8 +46,17 @@ public class BookReviewController {
 
     @GetMapping("/books/{book_isbn}/reviews")
     @Secured({"ROLE_USER"})
-    public ResponseEntity<List<BookReviewDto>> getAll(@PathVariable("book_isbn") String bookIsbn) {
-        return new ResponseEntity<>(reviewFacade.getAll(bookIsbn), HttpStatus.OK);
+    public ResponseEntity<CursorPage<BookReviewDto>> getAll(@PathVariable("book_isbn") String bookIsbn,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "20") int size,
+                                                            @RequestParam(defaultValue = "newest") String sort) {
+        return new ResponseEntity<>(reviewFacade.getReviews(bookIsbn, cursor, size, sort), HttpStatus.OK);
+    }
+
+    @GetMapping("/books/{book_isbn}/rating")
+    @Secured({"ROLE_USER"})
+    public ResponseEntity<BookRatingDto> getRating(@PathVariable("book_isbn") String bookIsbn) {
+        return new ResponseEntity<>(reviewFacade.getRating(bookIsbn), HttpStatus.OK);
     }
 
     @PutMapping("/books/{book_isbn}/users/{user_uuid}/reviews/{review_uuid}")
@@ -1,7 +1,7 @@
 package com.nagarro.advanced.framework.controller.api;
 
-import com.nagarro.advanced.framework.controller.model.BookDto;
 import com.nagarro.advanced.framework.controller.model.CartDto;
+import com.nagarro.advanced.framework.controller.model.CartItemDto;
 import com.nagarro.advanced.framework.facade.CartFacade;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -43,7 +43,7 @@ public class CartController {
 
     @GetMapping("/users/{userUuid}/books")
     @Secured({"ROLE_USER"})
-    public ResponseEntity<List<BookDto>> getUserCartBooks(@PathVariable("userUuid") String userUuid) {
+    public ResponseEntity<List<CartItemDto>> getUserCartBooks(@PathVariable("userUuid") String userUuid) {
         return new ResponseEntity<>(cartFacade.getUserCartBooks(userUuid), HttpStatus.OK);
     }
 
@@ -0,0 +1,46 @@
+package com.nagarro.advanced.framework.controller.api;
+
+import com.nagarro.advanced.framework.controller.model.CheckoutDto;
+import com.nagarro.advanced.framework.controller.model.CursorPage;
+import com.nagarro.advanced.framework.controller.model.OrderDto;
+import com.nagarro.advanced.framework.facade.OrderFacade;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class OrderController {
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final OrderFacade orderFacade;
+
+    @Autowired
+    public OrderController(OrderFacade orderFacade) {
+        this.orderFacade = orderFacade;
+    }
+
+    @PostMapping("/orders/checkout")
+    @Secured({"ROLE_USER"})
+    public ResponseEntity<OrderDto> checkout(@RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+                                             @RequestBody @Validated CheckoutDto checkout) {
+        return new ResponseEntity<>(orderFacade.checkout(checkout, idempotencyKey), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/users/{uuid}/orders")
+    @Secured({"ROLE_USER"})
+    public ResponseEntity<CursorPage<OrderDto>> getOrders(@PathVariable("uuid") String userUuid,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "20") int size) {
+        return new ResponseEntity<>(orderFacade.getOrders(userUuid, cursor, size), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,55 @@
+package com.nagarro.advanced.framework.controller.api;
+
+import com.nagarro.advanced.framework.controller.model.CategorySalesDto;
+import com.nagarro.advanced.framework.controller.model.DailySalesDto;
+import com.nagarro.advanced.framework.facade.SalesFacade;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/sales")
+public class SalesController {
+
+    private final SalesFacade salesFacade;
+
+    @Autowired
+    public SalesController(SalesFacade salesFacade) {
+        this.salesFacade = salesFacade;
+    }
+
+    @GetMapping("/daily")
+    @Secured("ROLE_ADMIN")
+    public ResponseEntity<List<DailySalesDto>> getDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return new ResponseEntity<>(salesFacade.getDailySales(from, to), HttpStatus.OK);
+    }
+
+    @GetMapping("/categories")
+    @Secured("ROLE_ADMIN")
+    public ResponseEntity<List<CategorySalesDto>> getCategorySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return new ResponseEntity<>(salesFacade.getCategorySales(from, to), HttpStatus.OK);
+    }
+
+    @PostMapping("/daily/{day}/rebuild")
+    @Secured("ROLE_ADMIN")
+    public ResponseEntity<Void> rebuildDay(@PathVariable("day") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                           LocalDate day) {
+        salesFacade.rebuildDay(day);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
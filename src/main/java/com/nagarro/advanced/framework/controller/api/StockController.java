@@ -0,0 +1,38 @@
+package com.nagarro.advanced.framework.controller.api;
+
+import com.nagarro.advanced.framework.controller.model.StockDto;
+import com.nagarro.advanced.framework.facade.StockFacade;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class StockController {
+
+    private final StockFacade stockFacade;
+
+    @Autowired
+    public StockController(StockFacade stockFacade) {
+        this.stockFacade = stockFacade;
+    }
+
+    @GetMapping("/books/{isbn}/stock")
+    @Secured({"ROLE_ADMIN", "ROLE_USER"})
+    public ResponseEntity<StockDto> getStock(@PathVariable("isbn") String isbn) {
+        return new ResponseEntity<>(stockFacade.getStock(isbn), HttpStatus.OK);
+    }
+
+    @PostMapping("/books/{isbn}/stock")
+    @Secured("ROLE_ADMIN")
+    public ResponseEntity<StockDto> restock(@PathVariable("isbn") String isbn,
+                                            @RequestBody @Validated StockDto stock) {
+        return new ResponseEntity<>(stockFacade.restock(isbn, stock), HttpStatus.OK);
+    }
+}
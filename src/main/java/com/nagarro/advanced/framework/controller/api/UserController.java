@@ -1,8 +1,12 @@
 package com.nagarro.advanced.framework.controller.api;
 
+import com.nagarro.advanced.framework.controller.model.CursorPage;
 import com.nagarro.advanced.framework.controller.model.UserDto;
 import com.nagarro.advanced.framework.facade.UserFacade;
+import com.nagarro.advanced.framework.util.AcceptEncoding;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.validation.annotation.Validated;
@@ -12,16 +16,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/users")
 public class UserController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String GZIP = "gzip";
+
     private final UserFacade userFacade;
 
     public UserController(UserFacade userFacade) {
@@ -42,15 +49,23 @@ public class UserController {
 
     @GetMapping
     @Secured("ROLE_ADMIN")
-    public ResponseEntity<List<UserDto>> findAllUsers(@RequestParam(required = false) String roleName) {
-        List<UserDto> allUsers;
-        if (roleName == null || roleName.isEmpty()) {
-            allUsers = userFacade.findAll();
-        } else {
-            roleName = roleName.toUpperCase();
-            allUsers = userFacade.findAllByRole(roleName);
+    public ResponseEntity<CursorPage<UserDto>> findAllUsers(@RequestParam(required = false) String roleName,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "20") int size) {
+        return new ResponseEntity<>(userFacade.findUsers(cursor, size, roleName), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    @Secured("ROLE_ADMIN")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = AcceptEncoding.accepts(acceptEncoding, GZIP);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
         }
-        return new ResponseEntity<>(allUsers, HttpStatus.OK);
+        return response.body(userFacade.exportUsers(gzip));
     }
 
     @DeleteMapping("/{uuid}")
@@ -0,0 +1,33 @@
+package com.nagarro.advanced.framework.controller.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookExportDto {
+
+    private String isbn;
+
+    private String title;
+
+    private String author;
+
+    private String details;
+
+    private BigDecimal price;
+
+    private String categoryUuid;
+
+    private String categoryName;
+
+    private Long reviewCount;
+
+    private Double averageStars;
+}
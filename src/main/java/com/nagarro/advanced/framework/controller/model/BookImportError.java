@@ -0,0 +1,20 @@
+package com.nagarro.advanced.framework.controller.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookImportError {
+
+    private long line;
+
+    private List<String> messages = new ArrayList<>();
+}
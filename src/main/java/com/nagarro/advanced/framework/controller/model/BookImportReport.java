@@ -0,0 +1,26 @@
+package com.nagarro.advanced.framework.controller.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookImportReport {
+
+    private long totalRows;
+
+    private long imported;
+
+    private long failed;
+
+    private boolean errorsTruncated;
+
+    private List<BookImportError> errors = new ArrayList<>();
+}
@@ -0,0 +1,23 @@
+package com.nagarro.advanced.framework.controller.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookRatingDto {
+
+    private String isbn;
+
+    private long reviewCount;
+
+    private double averageStars;
+
+    private Map<Integer, Long> histogram;
+}
@@ -0,0 +1,21 @@
+package com.nagarro.advanced.framework.controller.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookSearchHitDto {
+
+    private String isbn;
+
+    private String title;
+
+    private String author;
+
+    private double score;
+}
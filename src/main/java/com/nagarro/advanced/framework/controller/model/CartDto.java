@@ -2,6 +2,7 @@ package com.nagarro.advanced.framework.controller.model;
 
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,6 +20,6 @@ public class CartDto {
     @NotBlank(message = "User uuid cannot be null or empty")
     private String userUuid;
 
-    @NotBlank(message = "List of books cannot be null or empty")
-    private List<BookDto> books = new ArrayList<>();
+    @NotEmpty(message = "List of items cannot be null or empty")
+    private List<CartItemDto> items = new ArrayList<>();
 }
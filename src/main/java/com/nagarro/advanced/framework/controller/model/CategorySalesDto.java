@@ -0,0 +1,23 @@
+package com.nagarro.advanced.framework.controller.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategorySalesDto {
+
+    private String categoryUuid;
+
+    private String categoryName;
+
+    private long units;
+
+    private BigDecimal revenue;
+}
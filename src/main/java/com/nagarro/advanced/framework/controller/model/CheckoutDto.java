@@ -0,0 +1,30 @@
+package com.nagarro.advanced.framework.controller.model;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CheckoutDto {
+
+    private static final String INVALID_ADDRESS = "The address can have at most 145 characters";
+    private static final String INVALID_PHONE = "The phone can have at most 255 characters";
+
+    @NotBlank(message = "User uuid cannot be null or empty")
+    private String userUuid;
+
+    @Size(max = 255, message = INVALID_PHONE)
+    private String phone;
+
+    @Size(max = 145, message = INVALID_ADDRESS)
+    private String billingAddress;
+
+    @Size(max = 145, message = INVALID_ADDRESS)
+    private String deliveryAddress;
+}
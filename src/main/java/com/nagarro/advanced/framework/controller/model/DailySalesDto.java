@@ -0,0 +1,24 @@
+package com.nagarro.advanced.framework.controller.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailySalesDto {
+
+    private LocalDate day;
+
+    private long orders;
+
+    private long units;
+
+    private BigDecimal revenue;
+}
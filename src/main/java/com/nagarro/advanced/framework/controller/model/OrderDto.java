@@ -0,0 +1,34 @@
+package com.nagarro.advanced.framework.controller.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderDto {
+
+    private String uuid;
+
+    private String userUuid;
+
+    private String phone;
+
+    private String billingAddress;
+
+    private String deliveryAddress;
+
+    private LocalDateTime creationDate;
+
+    private BigDecimal total;
+
+    private List<OrderItemDto> items = new ArrayList<>();
+}
@@ -0,0 +1,21 @@
+package com.nagarro.advanced.framework.controller.model;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockDto {
+
+    private String isbn;
+
+    @NotNull(message = "quantity cannot be null")
+    @Positive(message = "quantity must be positive")
+    private Integer quantity;
+}
@@ -0,0 +1,19 @@
+package com.nagarro.advanced.framework.event;
+
+import com.nagarro.advanced.framework.persistence.entity.Book;
+
+public record BookChangedEvent(Type type, String isbn, String title, String author, String details) {
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+
+    public static BookChangedEvent saved(Book book) {
+        return new BookChangedEvent(Type.SAVED, book.getIsbn(), book.getTitle(), book.getAuthor(), book.getDetails());
+    }
+
+    public static BookChangedEvent deleted(String isbn) {
+        return new BookChangedEvent(Type.DELETED, isbn, null, null, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.nagarro.advanced.framework.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record OrderPlacedEvent(String orderUuid, String userUuid, LocalDateTime creationDate, BigDecimal total,
+                               String deliveryAddress, List<Line> lines) {
+
+    public record Line(long bookId, int quantity, BigDecimal unitPrice) {
+    }
+}
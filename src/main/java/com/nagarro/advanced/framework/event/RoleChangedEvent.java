@@ -0,0 +1,19 @@
+package com.nagarro.advanced.framework.event;
+
+import com.nagarro.advanced.framework.persistence.entity.Role;
+
+public record RoleChangedEvent(Type type, long roleId, String name) {
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+
+    public static RoleChangedEvent saved(Role role) {
+        return new RoleChangedEvent(Type.SAVED, role.getId(), role.getName());
+    }
+
+    public static RoleChangedEvent deleted(long roleId) {
+        return new RoleChangedEvent(Type.DELETED, roleId, null);
+    }
+}
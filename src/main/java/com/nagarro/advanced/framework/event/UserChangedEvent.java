@@ -0,0 +1,4 @@
+package com.nagarro.advanced.framework.event;
+
+public record UserChangedEvent(String username) {
+}
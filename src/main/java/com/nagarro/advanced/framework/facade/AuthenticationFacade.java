@@ -1,11 +1,14 @@
 package com.nagarro.advanced.framework.facade;
 
+import com.nagarro.advanced.framework.controller.model.LoginResponse;
 import com.nagarro.advanced.framework.controller.model.LoginUser;
 import com.nagarro.advanced.framework.controller.model.UserRegistrationDto;
 import com.nagarro.advanced.framework.controller.model.UserRegistrationResult;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.facade.convertor.Converter;
 import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.security.BearerTokenService;
+import com.nagarro.advanced.framework.security.LoginRateLimiter;
 import com.nagarro.advanced.framework.service.UserService;
 import com.nagarro.advanced.framework.util.UserRegistrationResultCreator;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,20 +25,27 @@ public class AuthenticationFacade {
     private static final String MATCHING_PASSWORD_ERROR = "Passwords doesn't match";
     public static final String NON_MATCHING_PASSWORDS = "Passwords doesn't match!";
     public static final String BAD_CREDENTIALS = "No account associate with this username!";
+    private static final String TOKEN_TYPE = "Bearer";
     private final UserService userService;
     private final Converter<User, UserRegistrationDto> userRegistrationMapper;
     private final UserRegistrationResultCreator userCreator;
     private final BCryptPasswordEncoder encoder;
+    private final BearerTokenService tokenService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Autowired
-    public AuthenticationFacade(UserService userService, Converter<User, UserRegistrationDto> userRegistrationMapper, BCryptPasswordEncoder encoder) {
+    public AuthenticationFacade(UserService userService, Converter<User, UserRegistrationDto> userRegistrationMapper, BCryptPasswordEncoder encoder,
+                                BearerTokenService tokenService, LoginRateLimiter loginRateLimiter) {
         this.userService = userService;
         this.userRegistrationMapper = userRegistrationMapper;
         this.encoder = encoder;
+        this.tokenService = tokenService;
+        this.loginRateLimiter = loginRateLimiter;
         this.userCreator = new UserRegistrationResultCreator();
     }
 
-    public UserRegistrationResult register(UserRegistrationDto registrationUserDto) {
+    public UserRegistrationResult register(UserRegistrationDto registrationUserDto, String clientIp) {
+        loginRateLimiter.check(clientIp, registrationUserDto.getUsername());
         if (!registrationUserDto.getPassword().equals(registrationUserDto.getMatchingPassword())) {
             throw new BadCredentialsException(MATCHING_PASSWORD_ERROR);
         }
@@ -48,11 +58,19 @@ public class AuthenticationFacade {
         }
     }
 
-    public String login(LoginUser user) {
+    public LoginResponse login(LoginUser user, String clientIp) {
+        loginRateLimiter.check(clientIp, user.getUsername());
         Optional<User> optionalUser = userService.findUserByUsername(user.getUsername());
         if (optionalUser.isPresent()) {
             if (encoder.matches(user.getPassword(), optionalUser.get().getPassword())) {
-                return "Login successfully!";
+                if (encoder.upgradeEncoding(optionalUser.get().getPassword())) {
+                    userService.upgradePassword(optionalUser.get(), encoder.encode(user.getPassword()));
+                }
+                return LoginResponse.builder()
+                        .accessToken(tokenService.issue(optionalUser.get()))
+                        .tokenType(TOKEN_TYPE)
+                        .expiresIn(tokenService.getTtl().toSeconds())
+                        .build();
             } else {
                 throw new AppException(NON_MATCHING_PASSWORDS, HttpStatus.BAD_REQUEST);
             }
@@ -1,23 +1,52 @@
 package com.nagarro.advanced.framework.facade;
 
+import com.nagarro.advanced.framework.cache.BookDtoCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nagarro.advanced.framework.controller.model.BookDto;
+import com.nagarro.advanced.framework.controller.model.BookImportReport;
+import com.nagarro.advanced.framework.controller.model.BookSearchHitDto;
+import com.nagarro.advanced.framework.controller.model.CursorPage;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.facade.convertor.Converter;
 import com.nagarro.advanced.framework.persistence.entity.Book;
 import com.nagarro.advanced.framework.persistence.entity.Category;
+import com.nagarro.advanced.framework.reader.BookRowReader;
+import com.nagarro.advanced.framework.reader.CsvBookRowReader;
+import com.nagarro.advanced.framework.reader.NdjsonBookRowReader;
+import com.nagarro.advanced.framework.search.BookSearchIndex;
+import com.nagarro.advanced.framework.service.BookExportService;
+import com.nagarro.advanced.framework.service.BookImportService;
 import com.nagarro.advanced.framework.service.BookService;
 import com.nagarro.advanced.framework.service.CategoryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 @Component
 public class BookFacade {
 
     private static final String THE_BOOK_ALREADY_EXISTS = "The book already exists!";
     private static final String NONEXISTENT_BOOK = "The book doesn't exist!";
+    private static final String INVALID_CURSOR = "The page cursor is invalid!";
+    private static final String INVALID_PRICE_RANGE = "The minimum price cannot be greater than the maximum price!";
+    private static final String EMPTY_SEARCH_QUERY = "The search query cannot be empty!";
+    private static final String UNSUPPORTED_IMPORT_FORMAT = "Books can be imported only as NDJSON or CSV!";
+    private static final String UNREADABLE_IMPORT = "The import stream could not be read!";
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_HITS = 50;
+    private static final int EXPORT_BUFFER_SIZE = 8192;
 
     private final BookService bookService;
 
@@ -25,11 +54,28 @@ public class BookFacade {
 
     private final Converter<Book, BookDto> bookConverter;
 
+    private final BookSearchIndex bookSearchIndex;
+
+    private final BookDtoCache bookDtoCache;
+
+    private final BookImportService bookImportService;
+
+    private final BookExportService bookExportService;
+
+    private final ObjectMapper objectMapper;
+
     @Autowired
-    public BookFacade(BookService bookService, CategoryService categoryService, Converter<Book, BookDto> bookConverter) {
+    public BookFacade(BookService bookService, CategoryService categoryService, Converter<Book, BookDto> bookConverter,
+                      BookSearchIndex bookSearchIndex, BookDtoCache bookDtoCache, BookImportService bookImportService,
+                      BookExportService bookExportService, ObjectMapper objectMapper) {
         this.bookService = bookService;
         this.categoryService = categoryService;
         this.bookConverter = bookConverter;
+        this.bookSearchIndex = bookSearchIndex;
+        this.bookDtoCache = bookDtoCache;
+        this.bookImportService = bookImportService;
+        this.bookExportService = bookExportService;
+        this.objectMapper = objectMapper;
     }
 
     public BookDto saveBook(BookDto bookDto) {
@@ -48,8 +94,8 @@ public class BookFacade {
     }
 
     public BookDto findBookByIsbn(String isbn) {
-        return bookService.findByIsbn(isbn).map(bookConverter::toDto)
-                .orElseThrow(() -> new AppException(NONEXISTENT_BOOK, HttpStatus.NOT_FOUND));
+        return bookDtoCache.get(isbn, key -> bookService.findByIsbn(key).map(bookConverter::toDto)
+                .orElseThrow(() -> new AppException(NONEXISTENT_BOOK, HttpStatus.NOT_FOUND)));
     }
 
     public void deleteBookByIsbn(String isbn) {
@@ -63,4 +109,69 @@ public class BookFacade {
     public void updateBook(String isbn, BookDto bookDto) {
         bookService.update(isbn, bookConverter.toEntity(bookDto));
     }
+
+    public CursorPage<BookDto> findBooks(String cursor, int size, String categoryUuid,
+                                         BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new AppException(INVALID_PRICE_RANGE, HttpStatus.BAD_REQUEST);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Book> books = bookService.findPageAfter(parseCursor(cursor), categoryUuid, minPrice, maxPrice, pageSize + 1);
+
+        boolean hasNextPage = books.size() > pageSize;
+        List<Book> page = hasNextPage ? books.subList(0, pageSize) : books;
+        String nextCursor = hasNextPage ? String.valueOf(page.get(page.size() - 1).getId()) : null;
+        return new CursorPage<>(page.stream().map(bookConverter::toDto).toList(), nextCursor);
+    }
+
+    public List<BookSearchHitDto> searchBooks(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new AppException(EMPTY_SEARCH_QUERY, HttpStatus.BAD_REQUEST);
+        }
+        return bookSearchIndex.search(query, Math.min(Math.max(limit, 1), MAX_SEARCH_HITS))
+                .stream()
+                .map(hit -> new BookSearchHitDto(hit.isbn(), hit.title(), hit.author(), hit.score()))
+                .toList();
+    }
+
+    public BookImportReport importBooks(InputStream inputStream, String contentType) {
+        try (BookRowReader reader = createRowReader(inputStream, contentType)) {
+            return bookImportService.importBooks(reader);
+        } catch (IOException e) {
+            throw new AppException(UNREADABLE_IMPORT, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    public StreamingResponseBody exportBooks(boolean gzip) {
+        return outputStream -> {
+            if (gzip) {
+                try (OutputStream gzipStream = new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE)) {
+                    bookExportService.exportCatalog(gzipStream);
+                }
+            } else {
+                bookExportService.exportCatalog(outputStream);
+            }
+        };
+    }
+
+    private BookRowReader createRowReader(InputStream inputStream, String contentType) {
+        MediaType mediaType = contentType == null ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType(contentType);
+        if (NDJSON.isCompatibleWith(mediaType)) {
+            return new NdjsonBookRowReader(inputStream, objectMapper);
+        } else if (CSV.isCompatibleWith(mediaType)) {
+            return new CsvBookRowReader(inputStream);
+        }
+        throw new AppException(UNSUPPORTED_IMPORT_FORMAT, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+    }
+
+    private long parseCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new AppException(INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+        }
+    }
 }
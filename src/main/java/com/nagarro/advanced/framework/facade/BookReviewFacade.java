@@ -1,11 +1,15 @@
 package com.nagarro.advanced.framework.facade;
 
+import com.nagarro.advanced.framework.controller.model.BookRatingDto;
 import com.nagarro.advanced.framework.controller.model.BookReviewDto;
+import com.nagarro.advanced.framework.controller.model.CursorPage;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.facade.convertor.impl.BookReviewMapper;
 import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.entity.BookRating;
 import com.nagarro.advanced.framework.persistence.entity.BookReview;
 import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.persistence.projection.BookReviewRow;
 import com.nagarro.advanced.framework.service.BookReviewService;
 import com.nagarro.advanced.framework.service.BookService;
 import com.nagarro.advanced.framework.service.UserService;
@@ -13,7 +17,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -22,6 +28,12 @@ public class BookReviewFacade {
     private static final String BOOK_OR_USER_DOES_NOT_EXIST = "There is no book or user with this id!";
     private static final String BOOK_DOES_NOT_EXIST = "There is no book with this id!";
     public static final String REVIEW_DOES_NOT_EXIST = "There is no review with this uuid";
+    private static final String INVALID_CURSOR = "The page cursor is invalid!";
+    private static final String INVALID_SORT = "Reviews can be sorted only by newest or stars!";
+    private static final String SORT_NEWEST = "newest";
+    private static final String SORT_STARS = "stars";
+    private static final String CURSOR_SEPARATOR = "_";
+    private static final int MAX_PAGE_SIZE = 100;
     private final BookReviewService reviewService;
     private final BookService bookService;
     private final UserService userService;
@@ -66,14 +78,53 @@ public class BookReviewFacade {
         }
     }
 
-    public List<BookReviewDto> getAll(String bookIsbn) {
-        Optional<Book> optionalProduct = bookService.findByIsbn(bookIsbn);
-        if (optionalProduct.isPresent()) {
-            List<BookReview> reviews = reviewService.findAll(bookIsbn);
-            return reviewMapper.convertToReviewList(reviews);
+    public CursorPage<BookReviewDto> getReviews(String bookIsbn, String cursor, int size, String sort) {
+        Book book = bookService.findByIsbn(bookIsbn)
+                .orElseThrow(() -> new AppException(BOOK_DOES_NOT_EXIST, HttpStatus.NOT_FOUND));
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<BookReviewRow> rows;
+        if (SORT_NEWEST.equalsIgnoreCase(sort)) {
+            long beforeId = cursor == null || cursor.isEmpty() ? Long.MAX_VALUE : parseCursorPart(cursor);
+            rows = reviewService.findNewestBefore(book, beforeId, pageSize + 1);
+        } else if (SORT_STARS.equalsIgnoreCase(sort)) {
+            int beforeStars = Integer.MAX_VALUE;
+            long beforeId = Long.MAX_VALUE;
+            if (cursor != null && !cursor.isEmpty()) {
+                String[] parts = cursor.split(CURSOR_SEPARATOR, -1);
+                if (parts.length != 2) {
+                    throw new AppException(INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+                }
+                beforeStars = (int) parseCursorPart(parts[0]);
+                beforeId = parseCursorPart(parts[1]);
+            }
+            rows = reviewService.findTopRatedBefore(book, beforeStars, beforeId, pageSize + 1);
         } else {
-            throw new AppException(BOOK_DOES_NOT_EXIST, HttpStatus.NOT_FOUND);
+            throw new AppException(INVALID_SORT, HttpStatus.BAD_REQUEST);
+        }
+
+        boolean hasNextPage = rows.size() > pageSize;
+        List<BookReviewRow> page = hasNextPage ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNextPage) {
+            BookReviewRow last = page.get(page.size() - 1);
+            nextCursor = SORT_NEWEST.equalsIgnoreCase(sort) ? String.valueOf(last.id())
+                    : last.starValue() + CURSOR_SEPARATOR + last.id();
         }
+        return new CursorPage<>(page.stream()
+                .map(row -> new BookReviewDto(row.uuid(), row.title(), row.body(), row.starValue()))
+                .toList(), nextCursor);
+    }
+
+    public BookRatingDto getRating(String bookIsbn) {
+        Book book = bookService.findByIsbn(bookIsbn)
+                .orElseThrow(() -> new AppException(BOOK_DOES_NOT_EXIST, HttpStatus.NOT_FOUND));
+        BookRating rating = reviewService.getRating(book);
+        long[] counts = rating.getHistogram();
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int stars = BookRating.MIN_STARS; stars <= BookRating.MAX_STARS; stars++) {
+            histogram.put(stars, counts[stars - BookRating.MIN_STARS]);
+        }
+        return new BookRatingDto(bookIsbn, rating.getReviewCount(), rating.getAverage(), histogram);
     }
 
     public void updateReview(String bookIsbn, String userUuid, String reviewUuid, BookReviewDto reviewDto) {
@@ -85,4 +136,12 @@ public class BookReviewFacade {
             throw new AppException(BOOK_OR_USER_DOES_NOT_EXIST, HttpStatus.NOT_FOUND);
         }
     }
-}
\ No newline at end of file
+
+    private long parseCursorPart(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new AppException(INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+        }
+    }
+}
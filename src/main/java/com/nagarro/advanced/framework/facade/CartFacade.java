@@ -1,7 +1,7 @@
 package com.nagarro.advanced.framework.facade;
 
-import com.nagarro.advanced.framework.controller.model.BookDto;
 import com.nagarro.advanced.framework.controller.model.CartDto;
+import com.nagarro.advanced.framework.controller.model.CartItemDto;
 import com.nagarro.advanced.framework.facade.convertor.Converter;
 import com.nagarro.advanced.framework.persistence.entity.Cart;
 import com.nagarro.advanced.framework.service.CartService;
@@ -31,8 +31,8 @@ public class CartFacade {
         return cartConverter.toDto(cart);
     }
 
-    public List<BookDto> getUserCartBooks(String userUuid) {
-        return cartConverter.toDto(cartService.findCartByUserUuid(userUuid)).getBooks();
+    public List<CartItemDto> getUserCartBooks(String userUuid) {
+        return cartConverter.toDto(cartService.findCartByUserUuid(userUuid)).getItems();
     }
 
     public CartDto clearUserCart(String userUuid) {
@@ -0,0 +1,80 @@
+package com.nagarro.advanced.framework.facade;
+
+import com.nagarro.advanced.framework.controller.model.CheckoutDto;
+import com.nagarro.advanced.framework.controller.model.CursorPage;
+import com.nagarro.advanced.framework.controller.model.OrderDto;
+import com.nagarro.advanced.framework.exception.AppException;
+import com.nagarro.advanced.framework.facade.convertor.impl.OrderMapper;
+import com.nagarro.advanced.framework.persistence.entity.Order;
+import com.nagarro.advanced.framework.service.OrderService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Component
+public class OrderFacade {
+
+    private static final String INVALID_CURSOR = "The page cursor is invalid!";
+    private static final String CURSOR_SEPARATOR = "_";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime FIRST_PAGE_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final OrderService orderService;
+    private final OrderMapper orderMapper;
+
+    @Autowired
+    public OrderFacade(OrderService orderService, OrderMapper orderMapper) {
+        this.orderService = orderService;
+        this.orderMapper = orderMapper;
+    }
+
+    public OrderDto checkout(CheckoutDto checkout, String idempotencyKey) {
+        Order order = orderService.checkout(checkout.getUserUuid(), idempotencyKey, orderMapper.toEntity(checkout));
+        return orderMapper.toDto(order);
+    }
+
+    public CursorPage<OrderDto> getOrders(String userUuid, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LocalDateTime beforeDate = FIRST_PAGE_DATE;
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] parts = cursor.split(CURSOR_SEPARATOR, -1);
+            if (parts.length != 2) {
+                throw new AppException(INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+            }
+            beforeDate = parseCursorDate(parts[0]);
+            beforeId = parseCursorPart(parts[1]);
+        }
+        List<Order> orders = orderService.findOrdersBefore(userUuid, beforeDate, beforeId, pageSize + 1);
+
+        boolean hasNextPage = orders.size() > pageSize;
+        List<Order> page = hasNextPage ? orders.subList(0, pageSize) : orders;
+        String nextCursor = null;
+        if (hasNextPage) {
+            Order last = page.get(page.size() - 1);
+            nextCursor = last.getCreationDate().toEpochSecond(ZoneOffset.UTC) + CURSOR_SEPARATOR + last.getId();
+        }
+        return new CursorPage<>(page.stream().map(orderMapper::toDto).toList(), nextCursor);
+    }
+
+    private LocalDateTime parseCursorDate(String value) {
+        try {
+            return LocalDateTime.ofEpochSecond(parseCursorPart(value), 0, ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new AppException(INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private long parseCursorPart(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new AppException(INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+        }
+    }
+}
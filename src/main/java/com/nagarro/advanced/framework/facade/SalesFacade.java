@@ -0,0 +1,37 @@
+package com.nagarro.advanced.framework.facade;
+
+import com.nagarro.advanced.framework.controller.model.CategorySalesDto;
+import com.nagarro.advanced.framework.controller.model.DailySalesDto;
+import com.nagarro.advanced.framework.service.SalesRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Component
+public class SalesFacade {
+
+    private final SalesRollupService salesRollupService;
+
+    @Autowired
+    public SalesFacade(SalesRollupService salesRollupService) {
+        this.salesRollupService = salesRollupService;
+    }
+
+    public List<DailySalesDto> getDailySales(LocalDate from, LocalDate to) {
+        return salesRollupService.findDaily(from, to).stream()
+                .map(row -> new DailySalesDto(row.day(), row.orders(), row.units(), row.revenue()))
+                .toList();
+    }
+
+    public List<CategorySalesDto> getCategorySales(LocalDate from, LocalDate to) {
+        return salesRollupService.findByCategory(from, to).stream()
+                .map(row -> new CategorySalesDto(row.categoryUuid(), row.categoryName(), row.units(), row.revenue()))
+                .toList();
+    }
+
+    public void rebuildDay(LocalDate day) {
+        salesRollupService.rebuildDay(day);
+    }
+}
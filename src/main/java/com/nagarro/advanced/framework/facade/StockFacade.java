@@ -0,0 +1,25 @@
+package com.nagarro.advanced.framework.facade;
+
+import com.nagarro.advanced.framework.controller.model.StockDto;
+import com.nagarro.advanced.framework.service.StockService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StockFacade {
+
+    private final StockService stockService;
+
+    @Autowired
+    public StockFacade(StockService stockService) {
+        this.stockService = stockService;
+    }
+
+    public StockDto getStock(String isbn) {
+        return new StockDto(isbn, stockService.findAvailable(isbn));
+    }
+
+    public StockDto restock(String isbn, StockDto stock) {
+        return new StockDto(isbn, stockService.restock(isbn, stock.getQuantity()));
+    }
+}
@@ -1,31 +1,44 @@
 package com.nagarro.advanced.framework.facade;
 
+import com.nagarro.advanced.framework.controller.model.CursorPage;
+import com.nagarro.advanced.framework.controller.model.RoleDto;
 import com.nagarro.advanced.framework.controller.model.UserDto;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.facade.convertor.Converter;
 import com.nagarro.advanced.framework.persistence.entity.Role;
 import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.persistence.projection.UserRow;
 import com.nagarro.advanced.framework.service.RoleService;
+import com.nagarro.advanced.framework.service.UserExportService;
 import com.nagarro.advanced.framework.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 @Component
 public class UserFacade {
 
+    private static final String INVALID_CURSOR = "The page cursor is invalid!";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_BUFFER_SIZE = 8192;
+
     private final Converter<User, UserDto> userMapper;
     private final UserService userService;
     private final RoleService roleService;
+    private final UserExportService userExportService;
 
     @Autowired
-    public UserFacade(Converter<User, UserDto> userMapper, UserService userService, RoleService roleService) {
+    public UserFacade(Converter<User, UserDto> userMapper, UserService userService, RoleService roleService,
+                      UserExportService userExportService) {
         this.userMapper = userMapper;
         this.userService = userService;
         this.roleService = roleService;
+        this.userExportService = userExportService;
     }
 
     public UserDto saveUser(UserDto userDto) {
@@ -52,18 +65,52 @@ public class UserFacade {
         userService.updateUserByUuid(uuid, userMapper.toEntity(userDto));
     }
 
-    public List<UserDto> findAll() {
-        return userService.findAll()
-                .stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPage<UserDto> findUsers(String cursor, int size, String roleName) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long afterId = cursor == null || cursor.isEmpty() ? 0L : parseCursor(cursor);
+        String role = roleName == null || roleName.isEmpty() ? null : roleName.toUpperCase();
+        List<UserRow> rows = userService.findPageAfter(afterId, role, pageSize + 1);
+
+        boolean hasNextPage = rows.size() > pageSize;
+        List<UserRow> page = hasNextPage ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNextPage ? String.valueOf(page.get(page.size() - 1).id()) : null;
+        return new CursorPage<>(page.stream()
+                .map(this::toDto)
+                .toList(), nextCursor);
+    }
+
+    public StreamingResponseBody exportUsers(boolean gzip) {
+        return outputStream -> {
+            if (gzip) {
+                try (OutputStream gzipStream = new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE)) {
+                    userExportService.exportUsers(gzipStream);
+                }
+            } else {
+                userExportService.exportUsers(outputStream);
+            }
+        };
     }
 
-    public List<UserDto> findAllByRole(String roleName) {
-        return userService.findAllByRole(roleName)
-                .stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
+    private UserDto toDto(UserRow row) {
+        RoleDto role = new RoleDto(row.roleName());
+        role.setId(String.valueOf(row.roleId()));
+        return UserDto.builder()
+                .uuid(row.uuid())
+                .username(row.username())
+                .email(row.email())
+                .firstName(row.firstName())
+                .lastName(row.lastName())
+                .address(row.address())
+                .phoneNumber(row.phoneNumber())
+                .role(role)
+                .build();
     }
 
+    private long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new AppException(INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+        }
+    }
 }
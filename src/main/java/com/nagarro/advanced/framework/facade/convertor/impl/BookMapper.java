@@ -1,24 +1,20 @@
 package com.nagarro.advanced.framework.facade.convertor.impl;
 
 import com.nagarro.advanced.framework.controller.model.BookDto;
-import com.nagarro.advanced.framework.persistence.entity.Book;
 import com.nagarro.advanced.framework.facade.convertor.Converter;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import com.nagarro.advanced.framework.facade.convertor.ConverterConfig;
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
-@Component
-@RequiredArgsConstructor
-public class BookMapper implements Converter<Book, BookDto> {
-    private final ModelMapper modelMapper;
+@Mapper(config = ConverterConfig.class)
+public interface BookMapper extends Converter<Book, BookDto> {
 
     @Override
-    public Book toEntity(BookDto bookDto) {
-        return modelMapper.map(bookDto, Book.class);
-    }
+    @Mapping(target = "category.uuid", source = "categoryUuid")
+    Book toEntity(BookDto bookDto);
 
     @Override
-    public BookDto toDto(Book book) {
-        return modelMapper.map(book, BookDto.class);
-    }
-}
\ No newline at end of file
+    @Mapping(target = "categoryUuid", source = "category.uuid")
+    BookDto toDto(Book book);
+}
@@ -1,22 +1,26 @@
 package com.nagarro.advanced.framework.facade.convertor.impl;
 
 import com.nagarro.advanced.framework.controller.model.CartDto;
-import com.nagarro.advanced.framework.persistence.entity.Cart;
-import lombok.RequiredArgsConstructor;
+import com.nagarro.advanced.framework.controller.model.CartItemDto;
 import com.nagarro.advanced.framework.facade.convertor.Converter;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import com.nagarro.advanced.framework.facade.convertor.ConverterConfig;
+import com.nagarro.advanced.framework.persistence.entity.Cart;
+import com.nagarro.advanced.framework.persistence.entity.CartBook;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = ConverterConfig.class, uses = BookMapper.class)
+public interface CartMapper extends Converter<Cart, CartDto> {
+
+    @Override
+    @Mapping(target = "user.uuid", source = "userUuid")
+    Cart toEntity(CartDto object);
 
-@Component
-@RequiredArgsConstructor
-public class CartMapper implements Converter<Cart, CartDto> {
-    private final ModelMapper modelMapper;
+    @Override
+    @Mapping(target = "userUuid", source = "user.uuid")
+    CartDto toDto(Cart object);
 
-    public Cart toEntity(CartDto object) {
-        return modelMapper.map(object, Cart.class);
-    }
+    CartItemDto toDto(CartBook item);
 
-    public CartDto toDto(Cart object) {
-        return modelMapper.map(object, CartDto.class);
-    }
+    CartBook toEntity(CartItemDto item);
 }
@@ -0,0 +1,26 @@
+package com.nagarro.advanced.framework.facade.convertor.impl;
+
+import com.nagarro.advanced.framework.controller.model.CheckoutDto;
+import com.nagarro.advanced.framework.controller.model.OrderDto;
+import com.nagarro.advanced.framework.controller.model.OrderItemDto;
+import com.nagarro.advanced.framework.facade.convertor.Converter;
+import com.nagarro.advanced.framework.facade.convertor.ConverterConfig;
+import com.nagarro.advanced.framework.persistence.entity.Order;
+import com.nagarro.advanced.framework.persistence.entity.OrderBook;
+import org.mapstruct.Mapper;
+
+@Mapper(config = ConverterConfig.class, uses = BookMapper.class)
+public interface OrderMapper extends Converter<Order, OrderDto> {
+
+    @Override
+    Order toEntity(OrderDto object);
+
+    @Override
+    OrderDto toDto(Order object);
+
+    Order toEntity(CheckoutDto checkout);
+
+    OrderItemDto toDto(OrderBook item);
+
+    OrderBook toEntity(OrderItemDto item);
+}
@@ -2,22 +2,16 @@ package com.nagarro.advanced.framework.facade.convertor.impl;
 
 import com.nagarro.advanced.framework.controller.model.RoleDto;
 import com.nagarro.advanced.framework.facade.convertor.Converter;
+import com.nagarro.advanced.framework.facade.convertor.ConverterConfig;
 import com.nagarro.advanced.framework.persistence.entity.Role;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
 
-@Component
-@RequiredArgsConstructor
-public class RoleMapper implements Converter<Role, RoleDto> {
+@Mapper(config = ConverterConfig.class)
+public interface RoleMapper extends Converter<Role, RoleDto> {
 
-    private final ModelMapper modelMapper;
+    @Override
+    Role toEntity(RoleDto object);
 
-    public Role toEntity(RoleDto object) {
-        return modelMapper.map(object, Role.class);
-    }
-
-    public RoleDto toDto(Role object) {
-        return modelMapper.map(object, RoleDto.class);
-    }
+    @Override
+    RoleDto toDto(Role object);
 }
@@ -2,21 +2,16 @@ package com.nagarro.advanced.framework.facade.convertor.impl;
 
 import com.nagarro.advanced.framework.controller.model.UserDto;
 import com.nagarro.advanced.framework.facade.convertor.Converter;
+import com.nagarro.advanced.framework.facade.convertor.ConverterConfig;
 import com.nagarro.advanced.framework.persistence.entity.User;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
 
-@Component
-@RequiredArgsConstructor
-public class UserMapper implements Converter<User, UserDto> {
-    private final ModelMapper modelMapper;
+@Mapper(config = ConverterConfig.class, uses = RoleMapper.class)
+public interface UserMapper extends Converter<User, UserDto> {
 
-    public User toEntity(UserDto object) {
-        return modelMapper.map(object, User.class);
-    }
+    @Override
+    User toEntity(UserDto object);
 
-    public UserDto toDto(User object) {
-        return modelMapper.map(object, UserDto.class);
-    }
+    @Override
+    UserDto toDto(User object);
 }
@@ -2,28 +2,19 @@ package com.nagarro.advanced.framework.facade.convertor.impl;
 
 import com.nagarro.advanced.framework.controller.model.UserRegistrationDto;
 import com.nagarro.advanced.framework.facade.convertor.Converter;
+import com.nagarro.advanced.framework.facade.convertor.ConverterConfig;
 import com.nagarro.advanced.framework.persistence.entity.User;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
-@Component
-public class UserRegistrationMapper implements Converter<User, UserRegistrationDto> {
-
-    private final ModelMapper modelMapper;
-
-    @Autowired
-    public UserRegistrationMapper(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-    }
+@Mapper(config = ConverterConfig.class)
+public interface UserRegistrationMapper extends Converter<User, UserRegistrationDto> {
 
     @Override
-    public User toEntity(UserRegistrationDto registrationUserDto) {
-        return modelMapper.map(registrationUserDto, User.class);
-    }
+    @Mapping(target = "role.name", source = "roleName")
+    User toEntity(UserRegistrationDto registrationUserDto);
 
     @Override
-    public UserRegistrationDto toDto(User user) {
-        return modelMapper.map(user, UserRegistrationDto.class);
-    }
+    @Mapping(target = "roleName", source = "role.name")
+    UserRegistrationDto toDto(User user);
 }
@@ -0,0 +1,81 @@
+package com.nagarro.advanced.framework.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nagarro.advanced.framework.event.BookChangedEvent;
+import com.nagarro.advanced.framework.event.OrderPlacedEvent;
+import com.nagarro.advanced.framework.persistence.OutboxTable;
+import com.nagarro.advanced.framework.persistence.OutboxTable.PendingMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class Outbox {
+
+    public static final String BOOK = "BOOK";
+    public static final String ORDER = "ORDER";
+    public static final String ORDER_PLACED = "ORDER_PLACED";
+
+    private final OutboxTable outboxTable;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public Outbox(OutboxTable outboxTable, ObjectMapper objectMapper) {
+        this.outboxTable = outboxTable;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onBookChanged(BookChangedEvent event) {
+        append(BOOK, event.isbn(), BOOK + "_" + event.type(), event);
+    }
+
+    @EventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        append(ORDER, event.orderUuid(), ORDER_PLACED, event);
+    }
+
+    public void append(String aggregateType, String aggregateId, String eventType, Object payload) {
+        PendingMessage message = new PendingMessage(aggregateType, aggregateId, eventType, toJson(payload),
+                Instant.now());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            outboxTable.insert(List.of(message));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<PendingMessage> buffer = (List<PendingMessage>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            List<PendingMessage> transactionBuffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, transactionBuffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    outboxTable.insert(transactionBuffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(Outbox.this);
+                }
+            });
+            buffer = transactionBuffer;
+        }
+        buffer.add(message);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize outbox payload " + payload.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.nagarro.advanced.framework.outbox;
+
+import com.nagarro.advanced.framework.persistence.OutboxTable;
+import com.nagarro.advanced.framework.persistence.OutboxTable.Backlog;
+import com.nagarro.advanced.framework.util.LoggingConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+@Component
+public class OutboxDispatcher {
+
+    private static final String POLLER_THREAD_NAME = "outbox-poller";
+    private static final String WORKER_THREAD_PREFIX = "outbox-worker-";
+
+    private final Logger logger = new LoggingConfiguration().getLogger();
+    private final OutboxTable outboxTable;
+    private final TransactionTemplate transactionTemplate;
+    private final List<OutboxListener> listeners;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final int partitions;
+    private final int maxAttempts;
+    private final ThreadPoolExecutor workers;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private final Counter dispatched;
+    private final Counter failures;
+    private final Timer dispatchTimer;
+    private ScheduledExecutorService poller;
+
+    @Autowired
+    public OutboxDispatcher(OutboxTable outboxTable, TransactionTemplate transactionTemplate,
+                            List<OutboxListener> listeners, MeterRegistry meterRegistry,
+                            @Value("${bookstore.outbox.dispatcher.enabled:true}") boolean enabled,
+                            @Value("${bookstore.outbox.dispatcher.poll-interval:PT0.5S}") Duration pollInterval,
+                            @Value("${bookstore.outbox.dispatcher.batch-size:200}") int batchSize,
+                            @Value("${bookstore.outbox.dispatcher.threads:4}") int threads,
+                            @Value("${bookstore.outbox.dispatcher.queue-capacity:16}") int queueCapacity,
+                            @Value("${bookstore.outbox.dispatcher.max-attempts:10}") int maxAttempts) {
+        this.outboxTable = outboxTable;
+        this.transactionTemplate = transactionTemplate;
+        this.listeners = List.copyOf(listeners);
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.batchSize = Math.max(1, batchSize);
+        this.partitions = Math.max(1, threads);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        AtomicInteger workerCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(partitions, partitions, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_PREFIX + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        Gauge.builder("outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        TimeGauge.builder("outbox.lag", this, TimeUnit.MILLISECONDS, OutboxDispatcher::lagMillis)
+                .register(meterRegistry);
+        Gauge.builder("outbox.dead", dead, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("outbox.workers.queued", workers, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+        this.dispatched = Counter.builder("outbox.dispatched").register(meterRegistry);
+        this.failures = Counter.builder("outbox.failures").register(meterRegistry);
+        this.dispatchTimer = Timer.builder("outbox.dispatch").publishPercentileHistogram().register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            logger.log(Level.INFO, "Outbox dispatcher is disabled, messages stay in tbl_outbox");
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, POLLER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::drain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        if (listeners.isEmpty()) {
+            logger.log(Level.WARNING, "Outbox dispatcher has no listeners, only the backlog is monitored");
+        } else {
+            logger.log(Level.INFO, "Outbox dispatcher started with " + listeners.size() + " listeners");
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (poller != null) {
+            poller.shutdown();
+            poller.awaitTermination(pollInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+        }
+        workers.shutdown();
+        workers.awaitTermination(pollInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+    }
+
+    public int dispatch() {
+        if (listeners.isEmpty()) {
+            return 0;
+        }
+        Integer delivered = transactionTemplate.execute(status -> dispatchClaimed());
+        return delivered == null ? 0 : delivered;
+    }
+
+    public void refreshBacklog() {
+        Backlog backlog = outboxTable.backlog();
+        pending.set(backlog.pending());
+        oldestPendingMillis.set(backlog.oldest() == null ? 0 : backlog.oldest().toEpochMilli());
+        dead.set(backlog.dead());
+    }
+
+    public long pendingCount() {
+        return pending.get();
+    }
+
+    double lagMillis() {
+        long oldest = oldestPendingMillis.get();
+        return oldest == 0 ? 0 : Math.max(0, System.currentTimeMillis() - oldest);
+    }
+
+    private void drain() {
+        try {
+            while (dispatch() == batchSize) {
+                refreshBacklog();
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Outbox dispatch failed, " + pending.get() + " messages pending", e);
+        } finally {
+            try {
+                refreshBacklog();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Cannot read outbox backlog", e);
+            }
+        }
+    }
+
+    private int dispatchClaimed() {
+        List<OutboxMessage> batch = outboxTable.claimOldest(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        List<List<OutboxMessage>> partitioned = partition(batch);
+        List<List<Future<?>>> deliveries = new ArrayList<>(partitioned.size());
+        for (List<OutboxMessage> partition : partitioned) {
+            List<Future<?>> partitionDeliveries = new ArrayList<>(listeners.size());
+            for (OutboxListener listener : listeners) {
+                partitionDeliveries.add(workers.submit(() -> listener.deliver(partition)));
+            }
+            deliveries.add(partitionDeliveries);
+        }
+        List<OutboxMessage> failed = new ArrayList<>();
+        for (int i = 0; i < partitioned.size(); i++) {
+            if (!await(deliveries.get(i))) {
+                failed.addAll(partitioned.get(i));
+            }
+        }
+        List<OutboxMessage> delivered = new ArrayList<>(batch);
+        delivered.removeAll(failed);
+        if (!delivered.isEmpty()) {
+            outboxTable.delete(delivered);
+            dispatched.increment(delivered.size());
+        }
+        if (!failed.isEmpty()) {
+            outboxTable.markFailed(failed, maxAttempts);
+            failures.increment(failed.size());
+        }
+        dispatchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return delivered.size();
+    }
+
+    private boolean await(List<Future<?>> deliveries) {
+        boolean succeeded = true;
+        for (Future<?> delivery : deliveries) {
+            try {
+                delivery.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while delivering outbox messages", e);
+            } catch (ExecutionException e) {
+                logger.log(Level.WARNING, "Outbox delivery failed, the partition will be retried", e.getCause());
+                succeeded = false;
+            }
+        }
+        return succeeded;
+    }
+
+    private List<List<OutboxMessage>> partition(List<OutboxMessage> batch) {
+        List<List<OutboxMessage>> partitioned = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            partitioned.add(new ArrayList<>());
+        }
+        for (OutboxMessage message : batch) {
+            int hash = message.aggregateId().hashCode();
+            partitioned.get(Math.floorMod(hash ^ (hash >>> 16), partitions)).add(message);
+        }
+        partitioned.removeIf(List::isEmpty);
+        return partitioned;
+    }
+}
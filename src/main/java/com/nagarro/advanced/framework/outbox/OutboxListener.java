@@ -0,0 +1,8 @@
+package com.nagarro.advanced.framework.outbox;
+
+import java.util.List;
+
+public interface OutboxListener {
+
+    void deliver(List<OutboxMessage> messages);
+}
@@ -0,0 +1,7 @@
+package com.nagarro.advanced.framework.outbox;
+
+import java.time.Instant;
+
+public record OutboxMessage(long id, String aggregateType, String aggregateId, String eventType, String payload,
+                            Instant createdAt) {
+}
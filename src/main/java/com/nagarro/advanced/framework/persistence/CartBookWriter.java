@@ -0,0 +1,85 @@
+package com.nagarro.advanced.framework.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class CartBookWriter {
+
+    private static final String INSERT_CART = "insert ignore into tbl_cart (id, uuid, user_id) values (?, ?, ?)";
+    private static final String DELETE_CART_BOOK = "delete from tbl_cart_book where cart_id = ? and book_id = ?";
+    private static final String UPDATE_CART_BOOK = "update tbl_cart_book set quantity = ? where cart_id = ? and book_id = ?";
+    private static final String INSERT_CART_BOOK = "insert into tbl_cart_book (cart_id, book_id, quantity) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public CartBookWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void write(List<PendingCart> carts) {
+        List<PendingCart> created = new ArrayList<>();
+        List<CartBookChange> deleted = new ArrayList<>();
+        List<CartBookChange> updated = new ArrayList<>();
+        List<CartBookChange> inserted = new ArrayList<>();
+        for (PendingCart cart : carts) {
+            if (cart.created()) {
+                created.add(cart);
+            }
+            cart.deleted().forEach(bookId -> deleted.add(new CartBookChange(cart.cartId(), bookId, 0)));
+            cart.updated().forEach(row -> updated.add(new CartBookChange(cart.cartId(), row.bookId(), row.quantity())));
+            cart.inserted().forEach(row -> inserted.add(new CartBookChange(cart.cartId(), row.bookId(), row.quantity())));
+        }
+        if (created.isEmpty() && deleted.isEmpty() && updated.isEmpty() && inserted.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!created.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_CART, created, created.size(), (statement, cart) -> {
+                    statement.setLong(1, cart.cartId());
+                    statement.setString(2, cart.cartUuid());
+                    statement.setLong(3, cart.userId());
+                });
+            }
+            if (!deleted.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_CART_BOOK, deleted, deleted.size(), (statement, change) -> {
+                    statement.setLong(1, change.cartId());
+                    statement.setLong(2, change.bookId());
+                });
+            }
+            if (!updated.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_CART_BOOK, updated, updated.size(), (statement, change) -> {
+                    statement.setInt(1, change.quantity());
+                    statement.setLong(2, change.cartId());
+                    statement.setLong(3, change.bookId());
+                });
+            }
+            if (!inserted.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_CART_BOOK, inserted, inserted.size(), (statement, change) -> {
+                    statement.setLong(1, change.cartId());
+                    statement.setLong(2, change.bookId());
+                    statement.setInt(3, change.quantity());
+                });
+            }
+        });
+    }
+
+    public record PendingCart(long cartId, String cartUuid, Long userId, boolean created,
+                              List<CartBookRow> inserted, List<CartBookRow> updated, List<Long> deleted) {
+    }
+
+    public record CartBookRow(long bookId, int quantity) {
+    }
+
+    private record CartBookChange(long cartId, long bookId, int quantity) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.nagarro.advanced.framework.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class EntityIdGenerator {
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    @Autowired
+    public EntityIdGenerator(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    public List<Long> nextIds(Class<?> entityType, int count) {
+        IdentifierGenerator generator = sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityType)
+                .getIdentifierGenerator();
+        List<Long> ids = new ArrayList<>(count);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            for (int i = 0; i < count; i++) {
+                ids.add((Long) generator.generate((SharedSessionContractImplementor) session, null));
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,51 @@
+package com.nagarro.advanced.framework.persistence;
+
+import com.nagarro.advanced.framework.controller.model.BookExportDto;
+import com.nagarro.advanced.framework.controller.model.UserExportDto;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+@Component
+public class ExportReader {
+
+    private static final String SELECT_USERS = "select new " +
+            "com.nagarro.advanced.framework.controller.model.UserExportDto(" +
+            "u.uuid, u.username, u.email, u.firstName, u.lastName, u.address, u.phoneNumber, r.name) " +
+            "from User u join u.role r order by u.id";
+    private static final String SELECT_BOOKS = "select new " +
+            "com.nagarro.advanced.framework.controller.model.BookExportDto(" +
+            "b.isbn, b.title, b.author, b.details, b.price, c.uuid, c.name, " +
+            "coalesce(br.reviewCount, 0L), " +
+            "case when br.reviewCount > 0 then cast(br.starSum as Double) / br.reviewCount end) " +
+            "from Book b join b.category c left join BookRating br on br.bookId = b.id order by b.id";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    @Autowired
+    public ExportReader(EntityManager entityManager,
+                        @Value("${bookstore.export.fetch-size:-2147483648}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    public Stream<UserExportDto> streamUsers() {
+        return stream(SELECT_USERS, UserExportDto.class);
+    }
+
+    public Stream<BookExportDto> streamBooks() {
+        return stream(SELECT_BOOKS, BookExportDto.class);
+    }
+
+    private <T> Stream<T> stream(String query, Class<T> type) {
+        return entityManager.createQuery(query, type)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,68 @@
+package com.nagarro.advanced.framework.persistence;
+
+import com.nagarro.advanced.framework.event.OrderPlacedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class OrderWriter {
+
+    private static final String INSERT_ORDER = "insert into tbl_order (id, uuid, user_uuid, user_id, phone, " +
+            "billing_address, delivery_address, creation_date, idempotency_key, total) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_BOOK = "insert into tbl_order_book (order_id, book_id, quantity, " +
+            "unit_price) values (?, ?, ?, ?)";
+    private static final String DELETE_CART_BOOKS = "delete from tbl_cart_book where cart_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SalesRollupTable salesRollupTable;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public OrderWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                       SalesRollupTable salesRollupTable, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.salesRollupTable = salesRollupTable;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void write(PendingOrder order) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_ORDER, order.orderId(), order.orderUuid(), order.userUuid(), order.userId(),
+                    order.phone(), order.billingAddress(), order.deliveryAddress(),
+                    Timestamp.valueOf(order.creationDate()), order.idempotencyKey(), order.total());
+            jdbcTemplate.batchUpdate(INSERT_ORDER_BOOK, order.lines(), order.lines().size(), (statement, line) -> {
+                statement.setLong(1, order.orderId());
+                statement.setLong(2, line.bookId());
+                statement.setInt(3, line.quantity());
+                statement.setBigDecimal(4, line.unitPrice());
+            });
+            if (order.cartId() != null) {
+                jdbcTemplate.update(DELETE_CART_BOOKS, order.cartId());
+            }
+            salesRollupTable.apply(order);
+            eventPublisher.publishEvent(new OrderPlacedEvent(order.orderUuid(), order.userUuid(),
+                    order.creationDate(), order.total(), order.deliveryAddress(), order.lines().stream()
+                    .map(line -> new OrderPlacedEvent.Line(line.bookId(), line.quantity(), line.unitPrice()))
+                    .toList()));
+        });
+    }
+
+    public record PendingOrder(long orderId, String orderUuid, String userUuid, Long userId, String phone,
+                               String billingAddress, String deliveryAddress, LocalDateTime creationDate,
+                               String idempotencyKey, BigDecimal total, Long cartId, List<OrderLine> lines) {
+    }
+
+    public record OrderLine(long bookId, Long categoryId, int quantity, BigDecimal unitPrice) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.nagarro.advanced.framework.persistence;
+
+import com.nagarro.advanced.framework.outbox.OutboxMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@Component
+public class OutboxTable {
+
+    private static final String INSERT_MESSAGE = "insert into tbl_outbox (aggregate_type, aggregate_id, event_type, " +
+            "payload, created_at) values (?, ?, ?, ?, ?)";
+    private static final String CLAIM_OLDEST = "select id, aggregate_type, aggregate_id, event_type, payload, " +
+            "created_at from tbl_outbox where status = 'PENDING' order by id limit ? for update skip locked";
+    private static final String SELECT_BACKLOG = "select sum(case when status = 'PENDING' then 1 else 0 end) pending, " +
+            "min(case when status = 'PENDING' then created_at end) oldest, " +
+            "sum(case when status = 'DEAD' then 1 else 0 end) dead from tbl_outbox";
+    private static final String DELETE_MESSAGE = "delete from tbl_outbox where id = ?";
+    private static final String MARK_FAILED = "update tbl_outbox set status = case when attempts + 1 >= ? " +
+            "then 'DEAD' else status end, attempts = attempts + 1 where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public OutboxTable(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(List<PendingMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE, messages, messages.size(), (statement, message) -> {
+            statement.setString(1, message.aggregateType());
+            statement.setString(2, message.aggregateId());
+            statement.setString(3, message.eventType());
+            statement.setString(4, message.payload());
+            statement.setTimestamp(5, Timestamp.from(message.createdAt()));
+        });
+    }
+
+    public List<OutboxMessage> claimOldest(int limit) {
+        return jdbcTemplate.query(CLAIM_OLDEST, (resultSet, rowNum) -> new OutboxMessage(
+                resultSet.getLong("id"),
+                resultSet.getString("aggregate_type"),
+                resultSet.getString("aggregate_id"),
+                resultSet.getString("event_type"),
+                resultSet.getString("payload"),
+                resultSet.getTimestamp("created_at").toInstant()), limit);
+    }
+
+    public Backlog backlog() {
+        return jdbcTemplate.queryForObject(SELECT_BACKLOG, (resultSet, rowNum) -> {
+            Timestamp oldest = resultSet.getTimestamp("oldest");
+            return new Backlog(resultSet.getLong("pending"), oldest == null ? null : oldest.toInstant(),
+                    resultSet.getLong("dead"));
+        });
+    }
+
+    public void delete(List<OutboxMessage> messages) {
+        jdbcTemplate.batchUpdate(DELETE_MESSAGE, messages, messages.size(),
+                (statement, message) -> statement.setLong(1, message.id()));
+    }
+
+    public void markFailed(List<OutboxMessage> messages, int maxAttempts) {
+        jdbcTemplate.batchUpdate(MARK_FAILED, messages, messages.size(), (statement, message) -> {
+            statement.setInt(1, maxAttempts);
+            statement.setLong(2, message.id());
+        });
+    }
+
+    public record PendingMessage(String aggregateType, String aggregateId, String eventType, String payload,
+                                 Instant createdAt) {
+    }
+
+    public record Backlog(long pending, Instant oldest, long dead) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.nagarro.advanced.framework.persistence;
+
+import com.nagarro.advanced.framework.persistence.OrderWriter.OrderLine;
+import com.nagarro.advanced.framework.persistence.OrderWriter.PendingOrder;
+import com.nagarro.advanced.framework.persistence.projection.CategorySalesRow;
+import com.nagarro.advanced.framework.persistence.projection.DailySalesRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class SalesRollupTable {
+
+    private static final String UPSERT_DAILY = "insert into tbl_sales_daily (sales_date, slot, order_count, units, " +
+            "revenue) values (?, ?, ?, ?, ?) on duplicate key update order_count = order_count + ?, " +
+            "units = units + ?, revenue = revenue + ?";
+    private static final String UPSERT_CATEGORY_DAILY = "insert into tbl_sales_category_daily (sales_date, " +
+            "category_id, slot, units, revenue) values (?, ?, ?, ?, ?) on duplicate key update units = units + ?, " +
+            "revenue = revenue + ?";
+    private static final String DELETE_DAILY = "delete from tbl_sales_daily where sales_date = ?";
+    private static final String DELETE_CATEGORY_DAILY = "delete from tbl_sales_category_daily where sales_date = ?";
+    private static final String SELECT_DAY_TOTALS = "select count(distinct o.id) order_count, " +
+            "sum(ob.quantity) units, sum(ob.quantity * ob.unit_price) revenue from tbl_order o " +
+            "join tbl_order_book ob on ob.order_id = o.id where o.creation_date >= ? and o.creation_date < ? " +
+            "having count(*) > 0";
+    private static final String SELECT_DAY_CATEGORY_TOTALS = "select b.category_id, sum(ob.quantity) units, " +
+            "sum(ob.quantity * ob.unit_price) revenue from tbl_order o join tbl_order_book ob on ob.order_id = o.id " +
+            "join tbl_book b on b.id = ob.book_id where o.creation_date >= ? and o.creation_date < ? " +
+            "and b.category_id is not null group by b.category_id";
+    private static final String SELECT_DAILY = "select sales_date, sum(order_count) order_count, sum(units) units, " +
+            "sum(revenue) revenue from tbl_sales_daily where sales_date between ? and ? " +
+            "group by sales_date order by sales_date";
+    private static final String SELECT_BY_CATEGORY = "select c.uuid, c.name, sum(s.units) units, " +
+            "sum(s.revenue) revenue from tbl_sales_category_daily s join tbl_category c on c.id = s.category_id " +
+            "where s.sales_date between ? and ? group by c.uuid, c.name order by revenue desc, c.uuid";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int slots;
+
+    @Autowired
+    public SalesRollupTable(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                            @Value("${bookstore.sales.rollup.slots:16}") int slots) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.slots = Math.max(1, slots);
+    }
+
+    public void apply(PendingOrder order) {
+        Date day = Date.valueOf(order.creationDate().toLocalDate());
+        int slot = ThreadLocalRandom.current().nextInt(slots);
+        long units = 0;
+        Map<Long, CategoryTotals> categories = new TreeMap<>();
+        for (OrderLine line : order.lines()) {
+            units += line.quantity();
+            if (line.categoryId() != null) {
+                categories.computeIfAbsent(line.categoryId(), CategoryTotals::new).add(line);
+            }
+        }
+        jdbcTemplate.update(UPSERT_DAILY, day, slot, 1, units, order.total(), 1, units, order.total());
+        if (categories.isEmpty()) {
+            return;
+        }
+        upsertCategories(day, slot, new ArrayList<>(categories.values()));
+    }
+
+    public void rebuild(LocalDate day) {
+        Date salesDate = Date.valueOf(day);
+        Timestamp from = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_DAILY, salesDate);
+            jdbcTemplate.update(DELETE_CATEGORY_DAILY, salesDate);
+            jdbcTemplate.query(SELECT_DAY_TOTALS, resultSet -> {
+                long orders = resultSet.getLong("order_count");
+                long units = resultSet.getLong("units");
+                BigDecimal revenue = resultSet.getBigDecimal("revenue");
+                jdbcTemplate.update(UPSERT_DAILY, salesDate, 0, orders, units, revenue, orders, units, revenue);
+            }, from, to);
+            upsertCategories(salesDate, 0, jdbcTemplate.query(SELECT_DAY_CATEGORY_TOTALS, (resultSet, rowNum) ->
+                    new CategoryTotals(resultSet.getLong("category_id"), resultSet.getLong("units"),
+                            resultSet.getBigDecimal("revenue")), from, to));
+        });
+    }
+
+    private void upsertCategories(Date day, int slot, List<CategoryTotals> totals) {
+        if (totals.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_CATEGORY_DAILY, totals, totals.size(), (statement, category) -> {
+            statement.setDate(1, day);
+            statement.setLong(2, category.categoryId);
+            statement.setInt(3, slot);
+            statement.setLong(4, category.units);
+            statement.setBigDecimal(5, category.revenue);
+            statement.setLong(6, category.units);
+            statement.setBigDecimal(7, category.revenue);
+        });
+    }
+
+    public List<DailySalesRow> findDaily(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SELECT_DAILY, (resultSet, rowNum) -> new DailySalesRow(
+                resultSet.getDate("sales_date").toLocalDate(),
+                resultSet.getLong("order_count"),
+                resultSet.getLong("units"),
+                resultSet.getBigDecimal("revenue")), Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public List<CategorySalesRow> findByCategory(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SELECT_BY_CATEGORY, (resultSet, rowNum) -> new CategorySalesRow(
+                resultSet.getString("uuid"),
+                resultSet.getString("name"),
+                resultSet.getLong("units"),
+                resultSet.getBigDecimal("revenue")), Date.valueOf(from), Date.valueOf(to));
+    }
+
+    private static final class CategoryTotals {
+
+        private final long categoryId;
+        private long units;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private CategoryTotals(long categoryId) {
+            this.categoryId = categoryId;
+        }
+
+        private CategoryTotals(long categoryId, long units, BigDecimal revenue) {
+            this.categoryId = categoryId;
+            this.units = units;
+            this.revenue = revenue;
+        }
+
+        private void add(OrderLine line) {
+            units += line.quantity();
+            revenue = revenue.add(line.unitPrice().multiply(BigDecimal.valueOf(line.quantity())));
+        }
+    }
+}
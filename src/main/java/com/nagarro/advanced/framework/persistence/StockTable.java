@@ -0,0 +1,55 @@
+package com.nagarro.advanced.framework.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class StockTable {
+
+    public static final int UNTRACKED = -1;
+
+    private static final String SELECT_STOCK = "select stock from tbl_book where id = ?";
+    private static final String TAKE_STOCK = "update tbl_book set stock = stock - ? where id = ? and stock >= ?";
+    private static final String RETURN_STOCK = "update tbl_book set stock = stock + ? where id = ? and stock is not null";
+    private static final String ADD_STOCK = "update tbl_book set stock = coalesce(stock, 0) + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public StockTable(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Integer findStock(long bookId) {
+        List<Integer> stock = jdbcTemplate.query(SELECT_STOCK,
+                (resultSet, rowNum) -> (Integer) resultSet.getObject("stock", Integer.class), bookId);
+        return stock.isEmpty() ? null : stock.get(0);
+    }
+
+    public int lease(long bookId, int wanted, int minimum) {
+        while (true) {
+            Integer stock = findStock(bookId);
+            if (stock == null) {
+                return UNTRACKED;
+            }
+            int leased = Math.min(stock, wanted);
+            if (leased < minimum || leased <= 0) {
+                return 0;
+            }
+            if (jdbcTemplate.update(TAKE_STOCK, leased, bookId, leased) == 1) {
+                return leased;
+            }
+        }
+    }
+
+    public void giveBack(long bookId, int quantity) {
+        jdbcTemplate.update(RETURN_STOCK, quantity, bookId);
+    }
+
+    public void add(long bookId, int quantity) {
+        jdbcTemplate.update(ADD_STOCK, quantity, bookId);
+    }
+}
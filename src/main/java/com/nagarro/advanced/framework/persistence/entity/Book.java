@@ -7,11 +7,11 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -34,7 +34,10 @@ import java.util.UUID;
 @Table(name = "tbl_book")
 public class Book {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "book_id")
+    @TableGenerator(name = "book_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEQUENCE_NAME_COLUMN,
+            valueColumnName = IdGenerators.NEXT_VALUE_COLUMN, pkColumnValue = IdGenerators.BOOK,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -60,12 +63,6 @@ public class Book {
     @OneToMany(mappedBy = "id", fetch = FetchType.LAZY)
     private List<BookReview> reviews = new ArrayList<>();
 
-    @ManyToMany(mappedBy = "books")
-    private List<Cart> carts = new ArrayList<>();
-
-    @ManyToMany(mappedBy = "books")
-    private List<Order> orders = new ArrayList<>();
-
     @PrePersist
     public void prePersist() {
         if (isbn == null) {
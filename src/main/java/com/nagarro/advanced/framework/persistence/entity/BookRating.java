@@ -0,0 +1,86 @@
+package com.nagarro.advanced.framework.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.Hibernate;
+
+import java.util.Objects;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "tbl_book_rating")
+public class BookRating {
+
+    public static final int MIN_STARS = 1;
+    public static final int MAX_STARS = 5;
+
+    @Id
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "review_count")
+    private long reviewCount;
+
+    @Column(name = "star_sum")
+    private long starSum;
+
+    @Column(name = "one_star")
+    private long oneStar;
+
+    @Column(name = "two_stars")
+    private long twoStars;
+
+    @Column(name = "three_stars")
+    private long threeStars;
+
+    @Column(name = "four_stars")
+    private long fourStars;
+
+    @Column(name = "five_stars")
+    private long fiveStars;
+
+    public BookRating(long reviewCount, long starSum, long oneStar, long twoStars, long threeStars, long fourStars,
+                      long fiveStars) {
+        this(null, reviewCount, starSum, oneStar, twoStars, threeStars, fourStars, fiveStars);
+    }
+
+    public static BookRating empty(Long bookId) {
+        return BookRating.builder().bookId(bookId).build();
+    }
+
+    public static int bucketOf(int stars) {
+        return Math.min(Math.max(stars, MIN_STARS), MAX_STARS);
+    }
+
+    public double getAverage() {
+        return reviewCount == 0 ? 0 : (double) starSum / reviewCount;
+    }
+
+    public long[] getHistogram() {
+        return new long[]{oneStar, twoStars, threeStars, fourStars, fiveStars};
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        BookRating rating = (BookRating) o;
+        return bookId != null && Objects.equals(bookId, rating.bookId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,7 +30,10 @@ import java.util.UUID;
 @Table(name = "tbl_book_review")
 public class BookReview {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "book_review_id")
+    @TableGenerator(name = "book_review_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEQUENCE_NAME_COLUMN,
+            valueColumnName = IdGenerators.NEXT_VALUE_COLUMN, pkColumnValue = IdGenerators.BOOK_REVIEW,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
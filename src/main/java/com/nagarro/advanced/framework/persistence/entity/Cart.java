@@ -7,11 +7,11 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.JoinTable;
-import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,9 +19,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.Hibernate;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -33,19 +33,18 @@ import java.util.UUID;
 @Table(name = "tbl_cart")
 public class Cart {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cart_id")
+    @TableGenerator(name = "cart_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEQUENCE_NAME_COLUMN,
+            valueColumnName = IdGenerators.NEXT_VALUE_COLUMN, pkColumnValue = IdGenerators.CART,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
     @Column(name = "uuid")
     private String uuid;
 
-    @ManyToMany(cascade = CascadeType.ALL)
-    @JoinTable(
-            name = "tbl_cart_book",
-            joinColumns = @JoinColumn(name = "cart_id"),
-            inverseJoinColumns = @JoinColumn(name = "book_id"))
-    private List<Book> books = new ArrayList<>();
+    @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
+    private Set<CartBook> items = new LinkedHashSet<>();
 
     @OneToOne(cascade=CascadeType.ALL)
     @JoinColumn(name="user_id")
@@ -55,16 +54,6 @@ public class Cart {
         this.user = user;
     }
 
-    public void addBook(Book book) {
-        books.add(book);
-        book.getCarts().add(this);
-    }
-
-    public void removeBook(Book book) {
-        books.remove(book);
-        book.getCarts().remove(this);
-    }
-
     @PrePersist
     public void prePersist() {
         if (uuid == null) {
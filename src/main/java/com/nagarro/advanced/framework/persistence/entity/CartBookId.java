@@ -0,0 +1,38 @@
+package com.nagarro.advanced.framework.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartBookId implements Serializable {
+
+    @Column(name = "cart_id")
+    private Long cartId;
+
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CartBookId that = (CartBookId) o;
+        return Objects.equals(cartId, that.cartId) && Objects.equals(bookId, that.bookId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cartId, bookId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.nagarro.advanced.framework.persistence.entity;
+
+public final class IdGenerators {
+
+    public static final String TABLE = "tbl_id_generator";
+    public static final String SEQUENCE_NAME_COLUMN = "sequence_name";
+    public static final String NEXT_VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String BOOK = "book";
+    public static final String BOOK_REVIEW = "book_review";
+    public static final String CART = "cart";
+    public static final String CATEGORY = "category";
+    public static final String ORDER = "order";
+    public static final String ROLE = "role";
+    public static final String USER = "user";
+
+    private IdGenerators() {
+    }
+}
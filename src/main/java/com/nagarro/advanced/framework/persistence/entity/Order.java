@@ -3,24 +3,26 @@ package com.nagarro.advanced.framework.persistence.entity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.JoinTable;
-import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.Hibernate;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -30,7 +32,10 @@ import java.util.UUID;
 @Table(name = "tbl_order")
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id")
+    @TableGenerator(name = "order_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEQUENCE_NAME_COLUMN,
+            valueColumnName = IdGenerators.NEXT_VALUE_COLUMN, pkColumnValue = IdGenerators.ORDER,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -52,17 +57,18 @@ public class Order {
     @Column(name = "creation_date")
     private LocalDateTime creationDate;
 
-    @ManyToOne
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+
+    @Column(name = "total")
+    private BigDecimal total;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToMany(cascade = CascadeType.PERSIST)
-    @JoinTable(
-            name = "tbl_order_book",
-            joinColumns = @JoinColumn(name = "order_id"),
-            inverseJoinColumns = @JoinColumn(name = "book_id")
-    )
-    private List<Book> books = new ArrayList<>();
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    private Set<OrderBook> items = new LinkedHashSet<>();
 
     @PrePersist
     public void prePersist() {
@@ -71,16 +77,6 @@ public class Order {
         }
     }
 
-    public void addOrder(Book book) {
-        books.add(book);
-        book.getOrders().add(this);
-    }
-
-    public void removeOrder(Book book) {
-        books.remove(book);
-        book.getOrders().remove(this);
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,38 @@
+package com.nagarro.advanced.framework.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBookId implements Serializable {
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderBookId that = (OrderBookId) o;
+        return Objects.equals(orderId, that.orderId) && Objects.equals(bookId, that.bookId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(orderId, bookId);
+    }
+}
@@ -0,0 +1,4 @@
+package com.nagarro.advanced.framework.persistence.projection;
+
+public record BookReviewRow(Long id, String uuid, String title, String body, int starValue) {
+}
@@ -0,0 +1,6 @@
+package com.nagarro.advanced.framework.persistence.projection;
+
+import java.math.BigDecimal;
+
+public record CategorySalesRow(String categoryUuid, String categoryName, long units, BigDecimal revenue) {
+}
@@ -0,0 +1,7 @@
+package com.nagarro.advanced.framework.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailySalesRow(LocalDate day, long orders, long units, BigDecimal revenue) {
+}
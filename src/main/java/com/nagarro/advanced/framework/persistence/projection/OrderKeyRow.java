@@ -0,0 +1,6 @@
+package com.nagarro.advanced.framework.persistence.projection;
+
+import java.time.LocalDateTime;
+
+public record OrderKeyRow(Long id, LocalDateTime creationDate) {
+}
@@ -0,0 +1,4 @@
+package com.nagarro.advanced.framework.persistence.projection;
+
+public record UserIdentityRow(Long id, String username, String email, String phoneNumber) {
+}
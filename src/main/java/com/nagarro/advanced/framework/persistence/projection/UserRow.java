@@ -0,0 +1,5 @@
+package com.nagarro.advanced.framework.persistence.projection;
+
+public record UserRow(Long id, String uuid, String username, String email, String firstName, String lastName,
+                      String address, String phoneNumber, Long roleId, String roleName) {
+}
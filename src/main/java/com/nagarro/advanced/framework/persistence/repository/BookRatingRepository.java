@@ -0,0 +1,48 @@
+package com.nagarro.advanced.framework.persistence.repository;
+
+import com.nagarro.advanced.framework.persistence.entity.BookRating;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BookRatingRepository extends JpaRepository<BookRating, Long> {
+
+    @Modifying
+    @Query("update BookRating r set r.reviewCount = r.reviewCount + :delta, " +
+            "r.starSum = r.starSum + :delta * :stars, " +
+            "r.oneStar = r.oneStar + case when :bucket = 1 then :delta else 0 end, " +
+            "r.twoStars = r.twoStars + case when :bucket = 2 then :delta else 0 end, " +
+            "r.threeStars = r.threeStars + case when :bucket = 3 then :delta else 0 end, " +
+            "r.fourStars = r.fourStars + case when :bucket = 4 then :delta else 0 end, " +
+            "r.fiveStars = r.fiveStars + case when :bucket = 5 then :delta else 0 end " +
+            "where r.bookId = :bookId")
+    int increment(@Param("bookId") Long bookId, @Param("stars") long stars, @Param("bucket") int bucket,
+                  @Param("delta") long delta);
+
+    @Query("select new com.nagarro.advanced.framework.persistence.entity.BookRating(count(r), " +
+            "coalesce(sum(r.starValue), 0L), " +
+            "coalesce(sum(case when r.starValue < 2 then 1L else 0L end), 0L), " +
+            "coalesce(sum(case when r.starValue = 2 then 1L else 0L end), 0L), " +
+            "coalesce(sum(case when r.starValue = 3 then 1L else 0L end), 0L), " +
+            "coalesce(sum(case when r.starValue = 4 then 1L else 0L end), 0L), " +
+            "coalesce(sum(case when r.starValue >= 5 then 1L else 0L end), 0L)) " +
+            "from BookReview r where r.book.id = :bookId")
+    BookRating aggregateReviews(@Param("bookId") Long bookId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into tbl_book_rating (book_id, review_count, star_sum, one_star, two_stars, three_stars, " +
+            "four_stars, five_stars) values (:bookId, :reviewCount, :starSum, :oneStar, :twoStars, :threeStars, " +
+            ":fourStars, :fiveStars) on duplicate key update book_id = book_id", nativeQuery = true)
+    int insertIfAbsent(@Param("bookId") Long bookId, @Param("reviewCount") long reviewCount,
+                       @Param("starSum") long starSum, @Param("oneStar") long oneStar,
+                       @Param("twoStars") long twoStars, @Param("threeStars") long threeStars,
+                       @Param("fourStars") long fourStars, @Param("fiveStars") long fiveStars);
+
+    default void insertIfAbsent(BookRating rating) {
+        insertIfAbsent(rating.getBookId(), rating.getReviewCount(), rating.getStarSum(), rating.getOneStar(),
+                rating.getTwoStars(), rating.getThreeStars(), rating.getFourStars(), rating.getFiveStars());
+    }
+}
@@ -1,16 +1,35 @@
 package com.nagarro.advanced.framework.persistence.repository;
 
 import com.nagarro.advanced.framework.persistence.entity.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long> {
+    @EntityGraph(attributePaths = "category")
     Optional<Book> findByIsbn(String isbn);
 
     Optional<Book> findByTitle(String title);
 
     Optional<Book> findByAuthor(String author);
+
+    @Query("select b from Book b join fetch b.category c " +
+            "where b.id > :afterId " +
+            "and (:categoryUuid is null or c.uuid = :categoryUuid) " +
+            "and (:minPrice is null or b.price >= :minPrice) " +
+            "and (:maxPrice is null or b.price <= :maxPrice) " +
+            "order by b.id")
+    List<Book> findPageAfter(@Param("afterId") long afterId,
+                             @Param("categoryUuid") String categoryUuid,
+                             @Param("minPrice") BigDecimal minPrice,
+                             @Param("maxPrice") BigDecimal maxPrice,
+                             Pageable pageable);
 }
@@ -1,7 +1,11 @@
 package com.nagarro.advanced.framework.persistence.repository;
 
 import com.nagarro.advanced.framework.persistence.entity.BookReview;
+import com.nagarro.advanced.framework.persistence.projection.BookReviewRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,6 +16,22 @@ import java.util.Optional;
 public interface BookReviewRepository extends JpaRepository<BookReview, Long> {
 
     Optional<BookReview> findByUuid(String uuid);
-    List<BookReview> findAllByBookIsbn(String bookIsbn);
-}
 
+    @Query("select new com.nagarro.advanced.framework.persistence.projection.BookReviewRow(" +
+            "r.id, r.uuid, r.title, r.body, r.starValue) from BookReview r " +
+            "where r.book.id = :bookId and r.id < :beforeId " +
+            "order by r.id desc")
+    List<BookReviewRow> findNewestBefore(@Param("bookId") Long bookId,
+                                         @Param("beforeId") long beforeId,
+                                         Pageable pageable);
+
+    @Query("select new com.nagarro.advanced.framework.persistence.projection.BookReviewRow(" +
+            "r.id, r.uuid, r.title, r.body, r.starValue) from BookReview r " +
+            "where r.book.id = :bookId " +
+            "and (r.starValue < :beforeStars or (r.starValue = :beforeStars and r.id < :beforeId)) " +
+            "order by r.starValue desc, r.id desc")
+    List<BookReviewRow> findTopRatedBefore(@Param("bookId") Long bookId,
+                                           @Param("beforeStars") int beforeStars,
+                                           @Param("beforeId") long beforeId,
+                                           Pageable pageable);
+}
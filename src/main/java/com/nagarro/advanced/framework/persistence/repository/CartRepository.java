@@ -1,6 +1,7 @@
 package com.nagarro.advanced.framework.persistence.repository;
 
 import com.nagarro.advanced.framework.persistence.entity.Cart;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,5 +10,6 @@ import java.util.Optional;
 @Repository
 public interface CartRepository extends JpaRepository<Cart, Long> {
 
+    @EntityGraph(attributePaths = {"items", "items.book", "items.book.category"})
     Optional<Cart> findByUserUuid(String uuid);
 }
@@ -0,0 +1,35 @@
+package com.nagarro.advanced.framework.persistence.repository;
+
+import com.nagarro.advanced.framework.persistence.entity.Order;
+import com.nagarro.advanced.framework.persistence.projection.OrderKeyRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @EntityGraph(attributePaths = {"items", "items.book", "items.book.category"})
+    Optional<Order> findByUserUuidAndIdempotencyKey(String userUuid, String idempotencyKey);
+
+    @Query("select new com.nagarro.advanced.framework.persistence.projection.OrderKeyRow(o.id, o.creationDate) " +
+            "from Order o " +
+            "where o.user.id in (select u.id from User u where u.uuid = :userUuid) " +
+            "and (o.creationDate < :beforeDate or (o.creationDate = :beforeDate and o.id < :beforeId)) " +
+            "order by o.creationDate desc, o.id desc")
+    List<OrderKeyRow> findKeysBefore(@Param("userUuid") String userUuid,
+                                     @Param("beforeDate") LocalDateTime beforeDate,
+                                     @Param("beforeId") long beforeId,
+                                     Pageable pageable);
+
+    @EntityGraph(attributePaths = {"items", "items.book", "items.book.category"})
+    List<Order> findByIdIn(Collection<Long> ids);
+}
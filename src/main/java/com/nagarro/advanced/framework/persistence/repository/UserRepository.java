@@ -1,8 +1,14 @@
 package com.nagarro.advanced.framework.persistence.repository;
 
-import com.nagarro.advanced.framework.persistence.entity.Role;
 import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.persistence.projection.UserIdentityRow;
+import com.nagarro.advanced.framework.persistence.projection.UserRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,16 +17,35 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @EntityGraph(attributePaths = "role")
     Optional<User> findUserByUuid(String uuid);
 
-    List<User> findAll();
+    @EntityGraph(attributePaths = "role")
+    Optional<User> findByUsername(String username);
 
-    List<User> findAllByRole(Role role);
+    boolean existsByUuid(String uuid);
 
-    Optional<User> findByUsername(String username);
+    boolean existsByUsernameOrEmailOrPhoneNumber(String username, String email, String phoneNumber);
+
+    boolean existsByEmailOrPhoneNumber(String email, String phoneNumber);
 
-    Optional<User> findByUsernameOrEmailOrPhoneNumber(String username, String email, String phoneNumber);
+    @Query("select new com.nagarro.advanced.framework.persistence.projection.UserIdentityRow(" +
+            "u.id, u.username, u.email, u.phoneNumber) from User u " +
+            "where u.id > :afterId " +
+            "order by u.id")
+    List<UserIdentityRow> findIdentitiesAfter(@Param("afterId") long afterId, Pageable pageable);
 
+    @Query("select new com.nagarro.advanced.framework.persistence.projection.UserRow(" +
+            "u.id, u.uuid, u.username, u.email, u.firstName, u.lastName, u.address, u.phoneNumber, r.id, r.name) " +
+            "from User u join u.role r " +
+            "where u.id > :afterId and (:roleName is null or r.name = :roleName) " +
+            "order by u.id")
+    List<UserRow> findPageAfter(@Param("afterId") long afterId, @Param("roleName") String roleName, Pageable pageable);
+
+    @EntityGraph(attributePaths = "role")
     Optional<User> findUserByUsername(String username);
-}
 
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+}
@@ -0,0 +1,18 @@
+package com.nagarro.advanced.framework.reader;
+
+import com.nagarro.advanced.framework.controller.model.BookDto;
+
+public record BookRow(long lineNumber, BookDto book, String parseError) {
+
+    public static BookRow parsed(long lineNumber, BookDto book) {
+        return new BookRow(lineNumber, book, null);
+    }
+
+    public static BookRow failed(long lineNumber, String parseError) {
+        return new BookRow(lineNumber, null, parseError);
+    }
+
+    public boolean isParsed() {
+        return parseError == null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.nagarro.advanced.framework.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface BookRowReader extends Closeable {
+
+    BookRow next() throws IOException;
+}
@@ -0,0 +1,128 @@
+package com.nagarro.advanced.framework.reader;
+
+import com.nagarro.advanced.framework.controller.model.BookDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class CsvBookRowReader implements BookRowReader {
+
+    private static final String ISBN = "isbn";
+    private static final String TITLE = "title";
+    private static final String AUTHOR = "author";
+    private static final String DETAILS = "details";
+    private static final String PRICE = "price";
+    private static final String CATEGORY_UUID = "categoryuuid";
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columns;
+    private long lineNumber;
+
+    public CsvBookRowReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public BookRow next() throws IOException {
+        if (columns == null) {
+            String header = reader.readLine();
+            lineNumber++;
+            if (header == null) {
+                return null;
+            }
+            columns = readHeader(header);
+        }
+
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        List<String> values = split(line);
+        if (values == null) {
+            return BookRow.failed(lineNumber, "Unterminated quoted value");
+        }
+        try {
+            String price = value(values, PRICE);
+            return BookRow.parsed(lineNumber, BookDto.builder()
+                    .isbn(value(values, ISBN))
+                    .title(value(values, TITLE))
+                    .author(value(values, AUTHOR))
+                    .details(value(values, DETAILS))
+                    .price(price == null ? null : new BigDecimal(price))
+                    .categoryUuid(value(values, CATEGORY_UUID))
+                    .build());
+        } catch (NumberFormatException e) {
+            return BookRow.failed(lineNumber, "Price is not a number");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Map<String, Integer> readHeader(String header) {
+        Map<String, Integer> headerColumns = new HashMap<>();
+        List<String> names = split(header);
+        if (names != null) {
+            for (int i = 0; i < names.size(); i++) {
+                headerColumns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+        return headerColumns;
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
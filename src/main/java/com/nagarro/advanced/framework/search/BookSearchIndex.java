@@ -0,0 +1,194 @@
+package com.nagarro.advanced.framework.search;
+
+import com.nagarro.advanced.framework.event.BookChangedEvent;
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.repository.BookRepository;
+import com.nagarro.advanced.framework.util.LoggingConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+@Component
+public class BookSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int BOOTSTRAP_BATCH_SIZE = 1000;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final BookRepository bookRepository;
+    private final Logger logger = new LoggingConfiguration().getLogger();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private final Map<String, IndexedBook> documents = new HashMap<>();
+    private long totalLength;
+
+    @Autowired
+    public BookSearchIndex(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long afterId = 0L;
+        List<Book> batch;
+        do {
+            batch = bookRepository.findPageAfter(afterId, null, null, null, PageRequest.of(0, BOOTSTRAP_BATCH_SIZE));
+            for (Book book : batch) {
+                index(book.getIsbn(), book.getTitle(), book.getAuthor(), book.getDetails());
+                afterId = book.getId();
+            }
+        } while (batch.size() == BOOTSTRAP_BATCH_SIZE);
+        logger.log(Level.INFO, "Book search index loaded with " + size() + " books");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.type() == BookChangedEvent.Type.DELETED) {
+            remove(event.isbn());
+        } else {
+            index(event.isbn(), event.title(), event.author(), event.details());
+        }
+    }
+
+    public void index(String isbn, String title, String author, String details) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (String field : new String[]{title, author, details}) {
+            for (String term : tokenize(field)) {
+                termFrequencies.merge(term, 1, Integer::sum);
+                length++;
+            }
+        }
+        IndexedBook indexedBook = new IndexedBook(isbn, title, author, termFrequencies, length);
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(isbn);
+            documents.put(isbn, indexedBook);
+            totalLength += length;
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(isbn, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String isbn) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(isbn);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty() || terms.isEmpty()) {
+                return List.of();
+            }
+            int documentCount = documents.size();
+            double averageLength = Math.max(1.0, (double) totalLength / documentCount);
+            Map<String, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<String, Integer> postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - postingList.size() + 0.5) / (postingList.size() + 0.5));
+                postingList.forEach((isbn, frequency) -> {
+                    double lengthNorm = 1 - B + B * documents.get(isbn).length() / averageLength;
+                    double score = idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                    scores.merge(isbn, score, Double::sum);
+                });
+            }
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String token : TOKEN_SEPARATOR.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private List<SearchHit> topHits(Map<String, Double> scores, int limit) {
+        Comparator<Map.Entry<String, Double>> byScore = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<String, Double>> best = new PriorityQueue<>(byScore);
+        for (Map.Entry<String, Double> entry : scores.entrySet()) {
+            best.offer(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<SearchHit> hits = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Map.Entry<String, Double> entry = best.poll();
+            IndexedBook book = documents.get(entry.getKey());
+            hits.add(0, new SearchHit(book.isbn(), book.title(), book.author(), entry.getValue()));
+        }
+        return hits;
+    }
+
+    private void removeDocument(String isbn) {
+        IndexedBook previous = documents.remove(isbn);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        for (String term : previous.termFrequencies().keySet()) {
+            Map<String, Integer> postingList = postings.get(term);
+            postingList.remove(isbn);
+            if (postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private record IndexedBook(String isbn, String title, String author, Map<String, Integer> termFrequencies,
+                               int length) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.nagarro.advanced.framework.search;
+
+public record SearchHit(String isbn, String title, String author, double score) {
+}
@@ -0,0 +1,180 @@
+package com.nagarro.advanced.framework.search;
+
+import com.nagarro.advanced.framework.event.UserChangedEvent;
+import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.persistence.projection.UserIdentityRow;
+import com.nagarro.advanced.framework.persistence.repository.UserRepository;
+import com.nagarro.advanced.framework.util.LoggingConfiguration;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+@Component
+public class UserIdentityIndex {
+
+    private static final int BOOTSTRAP_BATCH_SIZE = 1000;
+    private static final String REBUILDER_THREAD_NAME = "user-identity-rebuilder";
+    private static final int IDENTITY_FIELDS = 3;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final String USERNAME_PREFIX = "u:";
+    private static final String EMAIL_PREFIX = "e:";
+    private static final String PHONE_PREFIX = "p:";
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final UserRepository userRepository;
+    private final int expectedUsers;
+    private final boolean enabled;
+    private final Logger logger = new LoggingConfiguration().getLogger();
+    private final AtomicInteger staleEntries = new AtomicInteger();
+    private final Object swapLock = new Object();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private ExecutorService rebuilder;
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+
+    @Autowired
+    public UserIdentityIndex(UserRepository userRepository,
+                             @Value("${bookstore.users.identity-index.expected-users:100000}") int expectedUsers,
+                             @Value("${bookstore.users.identity-index.enabled:true}") boolean enabled) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!enabled) {
+            logger.log(Level.INFO, "User identity index is disabled");
+            return;
+        }
+        rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, REBUILDER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuild();
+        logger.log(Level.INFO, "User identity index loaded with capacity " + filter.capacity());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        rebuildIfDegraded();
+    }
+
+    public synchronized void rebuild() {
+        int capacity = Math.max(expectedUsers, (int) Math.min(Integer.MAX_VALUE / 2, userRepository.count() * 2))
+                * IDENTITY_FIELDS;
+        BloomFilter rebuilt = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        synchronized (swapLock) {
+            rebuilding = rebuilt;
+        }
+        try {
+            long afterId = 0L;
+            List<UserIdentityRow> batch;
+            do {
+                batch = userRepository.findIdentitiesAfter(afterId, PageRequest.of(0, BOOTSTRAP_BATCH_SIZE));
+                for (UserIdentityRow row : batch) {
+                    put(rebuilt, row.username(), row.email(), row.phoneNumber());
+                    afterId = row.id();
+                }
+            } while (batch.size() == BOOTSTRAP_BATCH_SIZE);
+            synchronized (swapLock) {
+                staleEntries.set(0);
+                filter = rebuilt;
+            }
+        } finally {
+            synchronized (swapLock) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    public void add(User user) {
+        synchronized (swapLock) {
+            if (filter != null) {
+                put(filter, user.getUsername(), user.getEmail(), user.getPhoneNumber());
+            }
+            if (rebuilding != null) {
+                put(rebuilding, user.getUsername(), user.getEmail(), user.getPhoneNumber());
+            }
+        }
+        rebuildIfDegraded();
+    }
+
+    public void markStale() {
+        staleEntries.addAndGet(IDENTITY_FIELDS);
+    }
+
+    public boolean mightContain(String username, String email, String phoneNumber) {
+        BloomFilter current = filter;
+        if (current == null) {
+            return true;
+        }
+        return mightContain(current, USERNAME_PREFIX, username)
+                || mightContain(current, EMAIL_PREFIX, email)
+                || mightContain(current, PHONE_PREFIX, phoneNumber);
+    }
+
+    private void rebuildIfDegraded() {
+        BloomFilter current = filter;
+        if (current == null || rebuilder == null
+                || !(current.isSaturated() || staleEntries.get() > current.capacity() / 4)) {
+            return;
+        }
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "User identity index rebuild failed, the current filter stays", e);
+                } finally {
+                    rebuildScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    private static void put(BloomFilter target, String username, String email, String phoneNumber) {
+        put(target, USERNAME_PREFIX, username);
+        put(target, EMAIL_PREFIX, email);
+        put(target, PHONE_PREFIX, phoneNumber);
+    }
+
+    private static void put(BloomFilter target, String prefix, String value) {
+        if (value != null) {
+            target.put(prefix + normalize(value));
+        }
+    }
+
+    private static boolean mightContain(BloomFilter target, String prefix, String value) {
+        return value != null && target.mightContain(prefix + normalize(value));
+    }
+
+    private static String normalize(String value) {
+        return DIACRITICS.matcher(Normalizer.normalize(value.strip(), Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+}
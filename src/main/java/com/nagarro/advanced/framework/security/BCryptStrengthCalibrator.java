@@ -0,0 +1,72 @@
+package com.nagarro.advanced.framework.security;
+
+import com.nagarro.advanced.framework.util.LoggingConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+@Component
+public class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES_PER_STRENGTH = 3;
+
+    private final Integer fixedStrength;
+    private final Duration targetLatency;
+    private final int minStrength;
+    private final int maxStrength;
+    private final Logger logger = new LoggingConfiguration().getLogger();
+
+    @Autowired
+    public BCryptStrengthCalibrator(@Value("${bookstore.security.password.strength:#{null}}") Integer fixedStrength,
+                                    @Value("${bookstore.security.password.target-latency:PT0.25S}") Duration targetLatency,
+                                    @Value("${bookstore.security.password.min-strength:10}") int minStrength,
+                                    @Value("${bookstore.security.password.max-strength:16}") int maxStrength) {
+        this.fixedStrength = fixedStrength;
+        this.targetLatency = targetLatency;
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+    }
+
+    public int calibrate() {
+        if (fixedStrength != null) {
+            return fixedStrength;
+        }
+        int strength = calibrate(targetLatency.toNanos(), minStrength, maxStrength, BCryptStrengthCalibrator::measure);
+        logger.log(Level.INFO, "BCrypt strength calibrated to " + strength + " for a target of "
+                + targetLatency.toMillis() + "ms");
+        return strength;
+    }
+
+    static int calibrate(long targetNanos, int minStrength, int maxStrength, IntToLongFunction nanosForStrength) {
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsed = nanosForStrength.applyAsLong(strength);
+            if (elapsed > targetNanos) {
+                break;
+            }
+            chosen = strength;
+            if (elapsed * 2 > targetNanos) {
+                break;
+            }
+        }
+        return chosen;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES_PER_STRENGTH; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+}
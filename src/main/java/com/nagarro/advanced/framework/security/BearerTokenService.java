@@ -0,0 +1,155 @@
+package com.nagarro.advanced.framework.security;
+
+import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.util.LoggingConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+@Component
+public class BearerTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String TOKEN_SEPARATOR = ".";
+    private static final String CLAIM_SEPARATOR = ":";
+    private static final String KEY_SEPARATOR = ",";
+    private static final int TOKEN_PARTS = 3;
+    private static final int CLAIM_PARTS = 4;
+    private static final String MISSING_ACTIVE_KEY = "The active token key is not among the configured token keys: ";
+    private static final String MALFORMED_KEY = "Token key entries must look like <id>:<base64 secret>, " +
+            "malformed entry at position ";
+    private static final String NO_KEYS_CONFIGURED = "No token keys are configured; signing with a random key " +
+            "that is lost on restart and not shared with other instances";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private static final ThreadLocal<Mac> MAC = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Logger logger = new LoggingConfiguration().getLogger();
+    private final Map<String, SecretKey> keys;
+    private final String activeKeyId;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public BearerTokenService(@Value("${bookstore.security.token.keys:}") String keys,
+                              @Value("${bookstore.security.token.active-key:k1}") String activeKeyId,
+                              @Value("${bookstore.security.token.ttl:PT15M}") Duration ttl) {
+        this(keys, activeKeyId, ttl, Clock.systemUTC());
+    }
+
+    BearerTokenService(String keys, String activeKeyId, Duration ttl, Clock clock) {
+        this.keys = parseKeys(keys, activeKeyId);
+        this.activeKeyId = activeKeyId;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public String issue(User user) {
+        Instant expiresAt = clock.instant().plus(ttl);
+        String claims = String.join(CLAIM_SEPARATOR, user.getUuid(), user.getRole().getName(),
+                String.valueOf(expiresAt.getEpochSecond()), user.getUsername());
+        String signedPart = activeKeyId + TOKEN_SEPARATOR + ENCODER.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+        return signedPart + TOKEN_SEPARATOR + ENCODER.encodeToString(sign(keys.get(activeKeyId), signedPart));
+    }
+
+    public Optional<TokenClaims> verify(String token) {
+        String[] parts = token.split("\\" + TOKEN_SEPARATOR, -1);
+        if (parts.length != TOKEN_PARTS) {
+            return Optional.empty();
+        }
+        SecretKey key = keys.get(parts[0]);
+        if (key == null) {
+            return Optional.empty();
+        }
+        try {
+            byte[] signature = DECODER.decode(parts[2]);
+            byte[] expected = sign(key, parts[0] + TOKEN_SEPARATOR + parts[1]);
+            if (!MessageDigest.isEqual(expected, signature)) {
+                return Optional.empty();
+            }
+            String[] claims = new String(DECODER.decode(parts[1]), StandardCharsets.UTF_8).split(CLAIM_SEPARATOR, CLAIM_PARTS);
+            if (claims.length != CLAIM_PARTS) {
+                return Optional.empty();
+            }
+            Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(claims[2]));
+            if (!clock.instant().isBefore(expiresAt)) {
+                return Optional.empty();
+            }
+            return Optional.of(new TokenClaims(claims[0], claims[1], claims[3], expiresAt));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private static byte[] sign(SecretKey key, String content) {
+        Mac mac = MAC.get();
+        try {
+            mac.init(key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        return mac.doFinal(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, SecretKey> parseKeys(String keys, String activeKeyId) {
+        Map<String, SecretKey> parsedKeys = new HashMap<>();
+        if (keys.isBlank()) {
+            logger.log(Level.WARNING, NO_KEYS_CONFIGURED);
+            parsedKeys.put(activeKeyId, generateKey());
+            return Map.copyOf(parsedKeys);
+        }
+        String[] entries = keys.split(KEY_SEPARATOR);
+        for (int i = 0; i < entries.length; i++) {
+            String[] idAndSecret = entries[i].trim().split(CLAIM_SEPARATOR, 2);
+            if (idAndSecret.length != 2 || idAndSecret[0].isEmpty() || idAndSecret[1].isEmpty()) {
+                throw new IllegalStateException(MALFORMED_KEY + (i + 1));
+            }
+            try {
+                parsedKeys.put(idAndSecret[0], new SecretKeySpec(Base64.getDecoder().decode(idAndSecret[1]), ALGORITHM));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException(MALFORMED_KEY + (i + 1), e);
+            }
+        }
+        if (!parsedKeys.containsKey(activeKeyId)) {
+            throw new IllegalStateException(MISSING_ACTIVE_KEY + activeKeyId);
+        }
+        return Map.copyOf(parsedKeys);
+    }
+
+    private static SecretKey generateKey() {
+        try {
+            return KeyGenerator.getInstance(ALGORITHM).generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.nagarro.advanced.framework.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nagarro.advanced.framework.exception.AppException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+
+@Component
+public class LoginRateLimiter {
+
+    private static final String TOO_MANY_ATTEMPTS = "Too many authentication attempts, please try again later!";
+    private static final String THROTTLED_METRIC = "auth.throttled";
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Cache<String, TokenBucket> clientBuckets;
+    private final Cache<String, TokenBucket> usernameBuckets;
+    private final int clientCapacity;
+    private final Duration clientRefillPeriod;
+    private final int usernameCapacity;
+    private final Duration usernameRefillPeriod;
+    private final Counter clientRejections;
+    private final Counter usernameRejections;
+    private final Clock clock;
+
+    @Autowired
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${bookstore.security.login-rate.ip.capacity:20}") int clientCapacity,
+                            @Value("${bookstore.security.login-rate.ip.refill-period:PT1M}") Duration clientRefillPeriod,
+                            @Value("${bookstore.security.login-rate.username.capacity:5}") int usernameCapacity,
+                            @Value("${bookstore.security.login-rate.username.refill-period:PT1M}") Duration usernameRefillPeriod,
+                            @Value("${bookstore.security.login-rate.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this(meterRegistry, clientCapacity, clientRefillPeriod, usernameCapacity, usernameRefillPeriod, maxTrackedKeys,
+                Clock.systemUTC());
+    }
+
+    LoginRateLimiter(MeterRegistry meterRegistry, int clientCapacity, Duration clientRefillPeriod, int usernameCapacity,
+                     Duration usernameRefillPeriod, long maxTrackedKeys, Clock clock) {
+        this.clientCapacity = clientCapacity;
+        this.clientRefillPeriod = clientRefillPeriod;
+        this.usernameCapacity = usernameCapacity;
+        this.usernameRefillPeriod = usernameRefillPeriod;
+        this.clock = clock;
+        this.clientBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(clientRefillPeriod)
+                .build();
+        this.usernameBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(usernameRefillPeriod)
+                .build();
+        this.clientRejections = Counter.builder(THROTTLED_METRIC).tag("key", "ip").register(meterRegistry);
+        this.usernameRejections = Counter.builder(THROTTLED_METRIC).tag("key", "username").register(meterRegistry);
+    }
+
+    public void check(String clientIp, String username) {
+        long now = nowNanos();
+        if (clientIp != null && !acquire(clientBuckets, clientIp, clientCapacity, clientRefillPeriod, now)) {
+            clientRejections.increment();
+            throw new AppException(TOO_MANY_ATTEMPTS, HttpStatus.TOO_MANY_REQUESTS);
+        }
+        if (username != null && !acquire(usernameBuckets, username.toLowerCase(Locale.ROOT), usernameCapacity,
+                usernameRefillPeriod, now)) {
+            usernameRejections.increment();
+            throw new AppException(TOO_MANY_ATTEMPTS, HttpStatus.TOO_MANY_REQUESTS);
+        }
+    }
+
+    private static boolean acquire(Cache<String, TokenBucket> buckets, String key, int capacity, Duration refillPeriod,
+                                   long now) {
+        return buckets.get(key, k -> new TokenBucket(capacity, refillPeriod, now)).tryAcquire(now);
+    }
+
+    private long nowNanos() {
+        Instant now = clock.instant();
+        return now.getEpochSecond() * NANOS_PER_SECOND + now.getNano();
+    }
+}
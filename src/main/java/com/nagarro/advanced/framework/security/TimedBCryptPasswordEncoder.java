@@ -0,0 +1,39 @@
+package com.nagarro.advanced.framework.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class TimedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final String HASH_METRIC = "password.hash";
+    private static final String VERIFY_METRIC = "password.verify";
+    private static final String STRENGTH_METRIC = "password.hash.strength";
+
+    private final int strength;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+
+    public TimedBCryptPasswordEncoder(int strength, MeterRegistry meterRegistry) {
+        super(strength);
+        this.strength = strength;
+        this.hashTimer = Timer.builder(HASH_METRIC).publishPercentileHistogram().register(meterRegistry);
+        this.verifyTimer = Timer.builder(VERIFY_METRIC).publishPercentileHistogram().register(meterRegistry);
+        Gauge.builder(STRENGTH_METRIC, this, TimedBCryptPasswordEncoder::getStrength).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hashTimer.record(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return Boolean.TRUE.equals(verifyTimer.record(() -> super.matches(rawPassword, encodedPassword)));
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+}
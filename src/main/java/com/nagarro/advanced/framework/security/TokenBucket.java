@@ -0,0 +1,30 @@
+package com.nagarro.advanced.framework.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    TokenBucket(int capacity, Duration refillPeriod, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.capacityNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long theoreticalArrival = theoreticalArrivalNanos.get();
+            long next = Math.max(theoreticalArrival, nowNanos) + emissionIntervalNanos;
+            if (next - nowNanos > capacityNanos) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(theoreticalArrival, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.nagarro.advanced.framework.security;
+
+import java.time.Instant;
+
+public record TokenClaims(String uuid, String role, String username, Instant expiresAt) {
+}
@@ -0,0 +1,43 @@
+package com.nagarro.advanced.framework.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nagarro.advanced.framework.controller.model.BookExportDto;
+import com.nagarro.advanced.framework.persistence.ExportReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class BookExportService {
+
+    private final ExportReader exportReader;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public BookExportService(ExportReader exportReader, ObjectMapper objectMapper) {
+        this.exportReader = exportReader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportCatalog(OutputStream outputStream) throws IOException {
+        long exported = 0;
+        try (Stream<BookExportDto> rows = exportReader.streamBooks();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            Iterator<BookExportDto> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                generator.writeRaw('\n');
+                exported++;
+            }
+        }
+        return exported;
+    }
+}
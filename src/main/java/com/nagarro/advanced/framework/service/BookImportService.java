@@ -0,0 +1,216 @@
+package com.nagarro.advanced.framework.service;
+
+import com.nagarro.advanced.framework.controller.model.BookDto;
+import com.nagarro.advanced.framework.controller.model.BookImportError;
+import com.nagarro.advanced.framework.controller.model.BookImportReport;
+import com.nagarro.advanced.framework.event.BookChangedEvent;
+import com.nagarro.advanced.framework.persistence.EntityIdGenerator;
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.reader.BookRow;
+import com.nagarro.advanced.framework.reader.BookRowReader;
+import com.nagarro.advanced.framework.validation.BookValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class BookImportService {
+
+    private static final String INSERT_BOOK = "insert into tbl_book (id, isbn, title, author, details, price, " +
+            "category_id) values (?, ?, ?, ?, ?, ?, ?) on duplicate key update id = id";
+    private static final String SELECT_CATEGORIES = "select uuid, id from tbl_category where uuid in (:uuids)";
+    private static final String SELECT_EXISTING_BOOKS = "select isbn, author from tbl_book " +
+            "where isbn in (:isbns) or author in (:authors)";
+    private static final String SELECT_INSERTED_IDS = "select id from tbl_book where id in (:ids)";
+    private static final String REQUIRED_CATEGORY_UUID = "Category Uuid is required";
+    private static final String NONEXISTENT_CATEGORY = "The category doesn't exist!";
+    private static final String THE_BOOK_ALREADY_EXISTS = "The book already exists!";
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityIdGenerator entityIdGenerator;
+    private final BookValidator bookValidator;
+    private final int batchSize;
+
+    @Autowired
+    public BookImportService(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher, EntityIdGenerator entityIdGenerator,
+                             @Value("${bookstore.import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.entityIdGenerator = entityIdGenerator;
+        this.bookValidator = new BookValidator();
+        this.batchSize = batchSize;
+    }
+
+    public BookImportReport importBooks(BookRowReader reader) throws IOException {
+        BookImportReport report = new BookImportReport();
+        Map<String, Long> categoryIds = new HashMap<>();
+        List<PendingBook> batch = new ArrayList<>(batchSize);
+
+        BookRow row;
+        while ((row = reader.next()) != null) {
+            report.setTotalRows(report.getTotalRows() + 1);
+            if (!row.isParsed()) {
+                reject(report, row.lineNumber(), List.of(row.parseError()));
+                continue;
+            }
+            PendingBook pendingBook = toPendingBook(row);
+            List<String> errors = validate(pendingBook);
+            if (!errors.isEmpty()) {
+                reject(report, row.lineNumber(), errors);
+                continue;
+            }
+            batch.add(pendingBook);
+            if (batch.size() == batchSize) {
+                flush(batch, categoryIds, report);
+                batch.clear();
+            }
+        }
+        flush(batch, categoryIds, report);
+        return report;
+    }
+
+    private void flush(List<PendingBook> batch, Map<String, Long> categoryIds, BookImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        resolveCategories(batch, categoryIds);
+        Set<String> existingKeys = findExistingIsbnsAndAuthors(batch);
+
+        List<PendingBook> accepted = new ArrayList<>(batch.size());
+        for (PendingBook pendingBook : batch) {
+            Book book = pendingBook.book();
+            if (!categoryIds.containsKey(pendingBook.categoryUuid())) {
+                reject(report, pendingBook.lineNumber(), List.of(NONEXISTENT_CATEGORY));
+            } else if (existingKeys.contains(isbnKey(book.getIsbn()))
+                    || existingKeys.contains(authorKey(book.getAuthor()))) {
+                reject(report, pendingBook.lineNumber(), List.of(THE_BOOK_ALREADY_EXISTS));
+            } else {
+                existingKeys.add(isbnKey(book.getIsbn()));
+                existingKeys.add(authorKey(book.getAuthor()));
+                accepted.add(pendingBook);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+        List<Long> ids = entityIdGenerator.nextIds(Book.class, accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).book().setId(ids.get(i));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_BOOK, accepted, accepted.size(),
+                    (statement, pendingBook) -> {
+                        Book book = pendingBook.book();
+                        statement.setLong(1, book.getId());
+                        statement.setString(2, book.getIsbn());
+                        statement.setString(3, book.getTitle());
+                        statement.setString(4, book.getAuthor());
+                        statement.setString(5, book.getDetails());
+                        statement.setBigDecimal(6, book.getPrice());
+                        statement.setLong(7, categoryIds.get(pendingBook.categoryUuid()));
+                    });
+            Set<Long> insertedIds = new HashSet<>(jdbcTemplate.queryForList(SELECT_INSERTED_IDS,
+                    new MapSqlParameterSource("ids", ids), Long.class));
+            for (PendingBook pendingBook : accepted) {
+                if (insertedIds.contains(pendingBook.book().getId())) {
+                    report.setImported(report.getImported() + 1);
+                    eventPublisher.publishEvent(BookChangedEvent.saved(pendingBook.book()));
+                } else {
+                    reject(report, pendingBook.lineNumber(), List.of(THE_BOOK_ALREADY_EXISTS));
+                }
+            }
+        });
+    }
+
+    private void resolveCategories(List<PendingBook> batch, Map<String, Long> categoryIds) {
+        Set<String> unresolved = new HashSet<>();
+        for (PendingBook pendingBook : batch) {
+            if (!categoryIds.containsKey(pendingBook.categoryUuid())) {
+                unresolved.add(pendingBook.categoryUuid());
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            jdbcTemplate.query(SELECT_CATEGORIES, new MapSqlParameterSource("uuids", unresolved),
+                    resultSet -> {
+                        categoryIds.put(resultSet.getString("uuid"), resultSet.getLong("id"));
+                    });
+        }
+    }
+
+    private Set<String> findExistingIsbnsAndAuthors(List<PendingBook> batch) {
+        Set<String> isbns = new HashSet<>();
+        Set<String> authors = new HashSet<>();
+        for (PendingBook pendingBook : batch) {
+            isbns.add(pendingBook.book().getIsbn());
+            authors.add(pendingBook.book().getAuthor());
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("isbns", isbns)
+                .addValue("authors", authors);
+        Set<String> existingKeys = new HashSet<>();
+        jdbcTemplate.query(SELECT_EXISTING_BOOKS, parameters, resultSet -> {
+            existingKeys.add(isbnKey(resultSet.getString("isbn")));
+            existingKeys.add(authorKey(resultSet.getString("author")));
+        });
+        return existingKeys;
+    }
+
+    private PendingBook toPendingBook(BookRow row) {
+        BookDto bookDto = row.book();
+        Book book = Book.builder()
+                .isbn(bookDto.getIsbn() == null ? UUID.randomUUID().toString() : bookDto.getIsbn())
+                .title(bookDto.getTitle())
+                .author(bookDto.getAuthor())
+                .details(bookDto.getDetails())
+                .price(bookDto.getPrice())
+                .build();
+        return new PendingBook(row.lineNumber(), book, bookDto.getCategoryUuid());
+    }
+
+    private List<String> validate(PendingBook pendingBook) {
+        List<String> errors = new ArrayList<>(bookValidator.getErrorMessage(pendingBook.book()));
+        if (pendingBook.categoryUuid() == null || pendingBook.categoryUuid().isBlank()) {
+            errors.add(REQUIRED_CATEGORY_UUID);
+        }
+        return errors;
+    }
+
+    private void reject(BookImportReport report, long lineNumber, List<String> messages) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new BookImportError(lineNumber, messages));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    private static String isbnKey(String isbn) {
+        return "isbn:" + isbn;
+    }
+
+    private static String authorKey(String author) {
+        return "author:" + author;
+    }
+
+    private record PendingBook(long lineNumber, Book book, String categoryUuid) {
+    }
+}
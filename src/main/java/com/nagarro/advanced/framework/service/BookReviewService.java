@@ -1,9 +1,14 @@
 package com.nagarro.advanced.framework.service;
 
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.entity.BookRating;
 import com.nagarro.advanced.framework.persistence.entity.BookReview;
+import com.nagarro.advanced.framework.persistence.projection.BookReviewRow;
+import com.nagarro.advanced.framework.persistence.repository.BookRatingRepository;
 import com.nagarro.advanced.framework.persistence.repository.BookReviewRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,18 +18,27 @@ import java.util.Optional;
 public class BookReviewService {
 
     private final BookReviewRepository reviewRepository;
+    private final BookRatingRepository ratingRepository;
 
     @Autowired
-    public BookReviewService(BookReviewRepository reviewRepository) {
+    public BookReviewService(BookReviewRepository reviewRepository, BookRatingRepository ratingRepository) {
         this.reviewRepository = reviewRepository;
+        this.ratingRepository = ratingRepository;
     }
 
+    @Transactional
     public BookReview addReview(BookReview review) {
-        return reviewRepository.save(review);
+        BookReview savedReview = reviewRepository.save(review);
+        updateRating(savedReview.getBook(), savedReview.getStarValue(), 1);
+        return savedReview;
     }
 
+    @Transactional
     public void deleteByUuid(String uuid) {
-        reviewRepository.findByUuid(uuid).ifPresent(reviewRepository::delete);
+        reviewRepository.findByUuid(uuid).ifPresent(review -> {
+            reviewRepository.delete(review);
+            updateRating(review.getBook(), review.getStarValue(), -1);
+        });
     }
 
     public Optional<BookReview> findByUuid(String uuid) {
@@ -35,14 +49,49 @@ public class BookReviewService {
     public void updateReview(String reviewUuid, BookReview newReview) {
         Optional<BookReview> review = findByUuid(reviewUuid);
         if (review.isPresent()) {
+            int oldStarValue = review.get().getStarValue();
             review.get().setTitle(newReview.getTitle());
             review.get().setBody(newReview.getBody());
             review.get().setStarValue(newReview.getStarValue());
-            addReview(review.get());
+            BookReview savedReview = reviewRepository.save(review.get());
+            if (oldStarValue != savedReview.getStarValue()
+                    && updateRating(savedReview.getBook(), oldStarValue, -1)) {
+                updateRating(savedReview.getBook(), savedReview.getStarValue(), 1);
+            }
+        }
+    }
+
+    public List<BookReviewRow> findNewestBefore(Book book, long beforeId, int limit) {
+        return reviewRepository.findNewestBefore(book.getId(), beforeId, PageRequest.of(0, limit));
+    }
+
+    public List<BookReviewRow> findTopRatedBefore(Book book, int beforeStars, long beforeId, int limit) {
+        return reviewRepository.findTopRatedBefore(book.getId(), beforeStars, beforeId, PageRequest.of(0, limit));
+    }
+
+    public BookRating getRating(Book book) {
+        return ratingRepository.findById(book.getId()).orElseGet(() -> aggregateReviews(book.getId()));
+    }
+
+    private boolean updateRating(Book book, int stars, int delta) {
+        if (book == null) {
+            return false;
+        }
+        int bucket = BookRating.bucketOf(stars);
+        if (ratingRepository.increment(book.getId(), stars, bucket, delta) > 0) {
+            return true;
+        }
+        if (delta > 0) {
+            ratingRepository.insertIfAbsent(BookRating.empty(book.getId()));
+            return ratingRepository.increment(book.getId(), stars, bucket, delta) > 0;
         }
+        ratingRepository.insertIfAbsent(aggregateReviews(book.getId()));
+        return false;
     }
 
-    public List<BookReview> findAll(String bookIsbn) {
-        return reviewRepository.findAllByBookIsbn(bookIsbn);
+    private BookRating aggregateReviews(Long bookId) {
+        BookRating rating = ratingRepository.aggregateReviews(bookId);
+        rating.setBookId(bookId);
+        return rating;
     }
 }
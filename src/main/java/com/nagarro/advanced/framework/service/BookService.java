@@ -1,15 +1,22 @@
 package com.nagarro.advanced.framework.service;
 
+import com.nagarro.advanced.framework.event.BookChangedEvent;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.entity.BookRating;
 import com.nagarro.advanced.framework.persistence.entity.Category;
+import com.nagarro.advanced.framework.persistence.repository.BookRatingRepository;
 import com.nagarro.advanced.framework.persistence.repository.BookRepository;
 import com.nagarro.advanced.framework.persistence.repository.CategoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -18,19 +25,35 @@ public class BookService {
     private static final String NONEXISTENT_CATEGORY = "The category doesn't exist!";
     private final BookRepository bookRepository;
     private final CategoryRepository categoryRepository;
+    private final BookRatingRepository ratingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public BookService(BookRepository bookRepository, CategoryRepository categoryRepository) {
+    public BookService(BookRepository bookRepository, CategoryRepository categoryRepository,
+                       BookRatingRepository ratingRepository, ApplicationEventPublisher eventPublisher) {
         this.bookRepository = bookRepository;
         this.categoryRepository = categoryRepository;
+        this.ratingRepository = ratingRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
     public Book save(Book book) {
-        return bookRepository.save(book);
+        boolean created = book.getId() == null;
+        Book savedBook = bookRepository.save(book);
+        if (created) {
+            ratingRepository.insertIfAbsent(BookRating.empty(savedBook.getId()));
+        }
+        eventPublisher.publishEvent(BookChangedEvent.saved(savedBook));
+        return savedBook;
     }
 
+    @Transactional
     public void deleteByIsbn(String isbn) {
-        this.findByIsbn(isbn).ifPresent(bookRepository::delete);
+        this.findByIsbn(isbn).ifPresent(book -> {
+            bookRepository.delete(book);
+            eventPublisher.publishEvent(BookChangedEvent.deleted(isbn));
+        });
     }
 
     public Optional<Book> findByIsbn(String isbn) {
@@ -60,4 +83,9 @@ public class BookService {
     public Optional<Book> findByAuthor(String author) {
         return bookRepository.findByAuthor(author);
     }
+
+    public List<Book> findPageAfter(long afterId, String categoryUuid, BigDecimal minPrice, BigDecimal maxPrice,
+                                    int limit) {
+        return bookRepository.findPageAfter(afterId, categoryUuid, minPrice, maxPrice, PageRequest.of(0, limit));
+    }
 }
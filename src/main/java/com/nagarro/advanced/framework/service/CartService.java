@@ -1,18 +1,19 @@
 package com.nagarro.advanced.framework.service;
 
+import com.nagarro.advanced.framework.cache.CartStore;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.persistence.entity.Book;
 import com.nagarro.advanced.framework.persistence.entity.Cart;
+import com.nagarro.advanced.framework.persistence.entity.CartBook;
 import com.nagarro.advanced.framework.persistence.entity.User;
 import com.nagarro.advanced.framework.persistence.repository.BookRepository;
 import com.nagarro.advanced.framework.persistence.repository.CartRepository;
 import com.nagarro.advanced.framework.persistence.repository.UserRepository;
-import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -23,49 +24,49 @@ public class CartService {
     private final CartRepository cartRepository;
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
+    private final CartStore cartStore;
 
     @Autowired
-    public CartService(CartRepository cartRepository, BookRepository bookRepository, UserRepository userRepository) {
+    public CartService(CartRepository cartRepository, BookRepository bookRepository, UserRepository userRepository,
+                       CartStore cartStore) {
         this.cartRepository = cartRepository;
         this.bookRepository = bookRepository;
         this.userRepository = userRepository;
+        this.cartStore = cartStore;
     }
 
-    @Transactional
     public Cart addBookToCart(String userUuid, String bookIsbn) {
-        Optional<User> user = userRepository.findUserByUuid(userUuid);
-        if (user.isPresent()) {
-            Optional<Cart> optionalCart = cartRepository.findByUserUuid(userUuid);
-            Cart customerCart = optionalCart.orElseGet(() -> new Cart(user.get()));
+        return cartStore.update(userUuid, this::loadOrCreateCart, items -> {
             Optional<Book> optionalBook = bookRepository.findByIsbn(bookIsbn);
             Book book = optionalBook.orElseThrow(() -> new AppException("The book with isbn: " + bookIsbn + DO_NOT_EXIST_MESSAGE, HttpStatus.NOT_FOUND));
-            customerCart.getBooks().add(book);
-            return customerCart;
-        } else {
-            throw new AppException(USER_DOESN_T_EXISTS, HttpStatus.BAD_REQUEST);
-        }
+            CartBook item = items.get(book.getId());
+            if (item == null) {
+                items.put(book.getId(), CartBook.builder().book(book).quantity(1).build());
+            } else {
+                item.setQuantity(item.getQuantity() + 1);
+            }
+        });
     }
 
-    @Transactional
     public Cart removeBookFromCart(String userUuid, String bookIsbn) {
         Optional<Book> optionalBook = bookRepository.findByIsbn(bookIsbn);
         if (optionalBook.isPresent()) {
-            Cart customerCart = this.findCartByUserUuid(userUuid);
-            this.deleteBook(customerCart, bookIsbn);
-            return customerCart;
+            Long bookId = optionalBook.get().getId();
+            return cartStore.update(userUuid, this::loadCart, items -> items.remove(bookId));
         } else {
             throw new AppException(BOOK_DOES_NOT_EXISTS, HttpStatus.NOT_FOUND);
         }
     }
 
-    @Transactional
     public Cart clearUserCart(String userUuid) {
-        Cart customerCart = this.findCartByUserUuid(userUuid);
-        customerCart.getBooks().clear();
-        return customerCart;
+        return cartStore.update(userUuid, this::loadCart, Map::clear);
     }
 
     public Cart findCartByUserUuid(String uuid) {
+        return cartStore.get(uuid, this::loadCart);
+    }
+
+    private Cart loadCart(String uuid) {
         Optional<User> user = userRepository.findUserByUuid(uuid);
         if (user.isPresent()) {
             Optional<Cart> optionalCart = cartRepository.findByUserUuid(uuid);
@@ -76,13 +77,12 @@ public class CartService {
         }
     }
 
-    private void deleteBook(Cart cart, String bookIsbn) {
-        List<Book> books = cart.getBooks();
-        for (Book book : books) {
-            if (book.getIsbn().equals(bookIsbn)) {
-                books.remove(book);
-                break;
-            }
+    private Cart loadOrCreateCart(String uuid) {
+        Optional<User> user = userRepository.findUserByUuid(uuid);
+        if (user.isPresent()) {
+            return cartRepository.findByUserUuid(uuid).orElseGet(() -> new Cart(user.get()));
+        } else {
+            throw new AppException(USER_DOESN_T_EXISTS, HttpStatus.BAD_REQUEST);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,174 @@
+package com.nagarro.advanced.framework.service;
+
+import com.nagarro.advanced.framework.cache.CartStore;
+import com.nagarro.advanced.framework.cache.StockLedger;
+import com.nagarro.advanced.framework.exception.AppException;
+import com.nagarro.advanced.framework.persistence.EntityIdGenerator;
+import com.nagarro.advanced.framework.persistence.OrderWriter;
+import com.nagarro.advanced.framework.persistence.OrderWriter.OrderLine;
+import com.nagarro.advanced.framework.persistence.OrderWriter.PendingOrder;
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.entity.Cart;
+import com.nagarro.advanced.framework.persistence.entity.CartBook;
+import com.nagarro.advanced.framework.persistence.entity.Order;
+import com.nagarro.advanced.framework.persistence.entity.OrderBook;
+import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.persistence.projection.OrderKeyRow;
+import com.nagarro.advanced.framework.persistence.repository.BookRepository;
+import com.nagarro.advanced.framework.persistence.repository.CartRepository;
+import com.nagarro.advanced.framework.persistence.repository.OrderRepository;
+import com.nagarro.advanced.framework.persistence.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class OrderService {
+
+    private static final String CHECKOUT_METRIC = "orders.checkout";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+    private static final String USER_DOESN_T_EXISTS = "User doesn't exists!";
+    private static final String EMPTY_CART = "The cart is empty!";
+    private static final String INVALID_IDEMPOTENCY_KEY = "The idempotency key must have between 1 and "
+            + MAX_IDEMPOTENCY_KEY_LENGTH + " characters";
+
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final CartRepository cartRepository;
+    private final BookRepository bookRepository;
+    private final CartStore cartStore;
+    private final StockLedger stockLedger;
+    private final OrderWriter orderWriter;
+    private final EntityIdGenerator entityIdGenerator;
+    private final Timer checkoutTimer;
+
+    @Autowired
+    public OrderService(OrderRepository orderRepository, UserRepository userRepository, CartRepository cartRepository,
+                        BookRepository bookRepository, CartStore cartStore, StockLedger stockLedger,
+                        OrderWriter orderWriter, EntityIdGenerator entityIdGenerator, MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.userRepository = userRepository;
+        this.cartRepository = cartRepository;
+        this.bookRepository = bookRepository;
+        this.cartStore = cartStore;
+        this.stockLedger = stockLedger;
+        this.orderWriter = orderWriter;
+        this.entityIdGenerator = entityIdGenerator;
+        this.checkoutTimer = Timer.builder(CHECKOUT_METRIC).publishPercentileHistogram().register(meterRegistry);
+    }
+
+    public Order checkout(String userUuid, String idempotencyKey, Order details) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new AppException(INVALID_IDEMPOTENCY_KEY, HttpStatus.BAD_REQUEST);
+        }
+        return checkoutTimer.record(() -> {
+            Optional<Order> placedOrder = orderRepository.findByUserUuidAndIdempotencyKey(userUuid, idempotencyKey);
+            if (placedOrder.isPresent()) {
+                return placedOrder.get();
+            }
+            User user = userRepository.findUserByUuid(userUuid)
+                    .orElseThrow(() -> new AppException(USER_DOESN_T_EXISTS, HttpStatus.BAD_REQUEST));
+            try {
+                return cartStore.checkout(userUuid, uuid -> loadOrCreateCart(user),
+                        cart -> placeOrder(user, cart, idempotencyKey, details));
+            } catch (DuplicateKeyException e) {
+                return orderRepository.findByUserUuidAndIdempotencyKey(userUuid, idempotencyKey).orElseThrow(() -> e);
+            }
+        });
+    }
+
+    public List<Order> findOrdersBefore(String userUuid, LocalDateTime beforeDate, long beforeId, int limit) {
+        List<OrderKeyRow> keys = orderRepository.findKeysBefore(userUuid, beforeDate, beforeId,
+                PageRequest.of(0, limit));
+        if (keys.isEmpty()) {
+            if (!userRepository.existsByUuid(userUuid)) {
+                throw new AppException(USER_DOESN_T_EXISTS, HttpStatus.NOT_FOUND);
+            }
+            return List.of();
+        }
+        Map<Long, Order> orders = new HashMap<>();
+        for (Order order : orderRepository.findByIdIn(keys.stream().map(OrderKeyRow::id).toList())) {
+            orders.put(order.getId(), order);
+        }
+        return keys.stream().map(key -> orders.get(key.id())).toList();
+    }
+
+    private Order placeOrder(User user, Cart cart, String idempotencyKey, Order details) {
+        Map<Long, Book> books = currentBooks(cart);
+        if (books.isEmpty()) {
+            return orderRepository.findByUserUuidAndIdempotencyKey(user.getUuid(), idempotencyKey)
+                    .orElseThrow(() -> new AppException(EMPTY_CART, HttpStatus.BAD_REQUEST));
+        }
+        Order order = new Order();
+        order.setId(entityIdGenerator.nextIds(Order.class, 1).get(0));
+        order.setUuid(UUID.randomUUID().toString());
+        order.setUser(user);
+        order.setUserUuid(user.getUuid());
+        order.setPhone(details.getPhone() != null ? details.getPhone() : user.getPhoneNumber());
+        order.setBillingAddress(details.getBillingAddress() != null ? details.getBillingAddress() : user.getAddress());
+        order.setDeliveryAddress(details.getDeliveryAddress() != null ? details.getDeliveryAddress()
+                : order.getBillingAddress());
+        order.setCreationDate(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        order.setIdempotencyKey(idempotencyKey);
+
+        BigDecimal total = BigDecimal.ZERO;
+        List<OrderLine> lines = new ArrayList<>(books.size());
+        for (CartBook item : cart.getItems()) {
+            Book book = books.get(item.getBook().getId());
+            if (book == null) {
+                continue;
+            }
+            BigDecimal unitPrice = book.getPrice().setScale(2, RoundingMode.HALF_UP);
+            Long categoryId = book.getCategory() == null ? null : book.getCategory().getId();
+            order.getItems().add(new OrderBook(order, item.getBook(), item.getQuantity(), unitPrice));
+            lines.add(new OrderLine(book.getId(), categoryId, item.getQuantity(), unitPrice));
+            total = total.add(unitPrice.multiply(BigDecimal.valueOf(item.getQuantity())));
+        }
+        order.setTotal(total);
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        lines.forEach(line -> quantities.put(line.bookId(), line.quantity()));
+        Map<Long, Integer> reserved = stockLedger.reserve(quantities);
+        try {
+            orderWriter.write(new PendingOrder(order.getId(), order.getUuid(), order.getUserUuid(), user.getId(),
+                    order.getPhone(), order.getBillingAddress(), order.getDeliveryAddress(), order.getCreationDate(),
+                    idempotencyKey, total, cart.getId(), lines));
+        } catch (RuntimeException e) {
+            stockLedger.release(reserved);
+            throw e;
+        }
+        return order;
+    }
+
+    private Map<Long, Book> currentBooks(Cart cart) {
+        Map<Long, Book> books = new HashMap<>();
+        if (cart.getItems().isEmpty()) {
+            return books;
+        }
+        List<Long> bookIds = cart.getItems().stream().map(item -> item.getBook().getId()).toList();
+        for (Book book : bookRepository.findAllById(bookIds)) {
+            books.put(book.getId(), book);
+        }
+        return books;
+    }
+
+    private Cart loadOrCreateCart(User user) {
+        return cartRepository.findByUserUuid(user.getUuid()).orElseGet(() -> new Cart(user));
+    }
+}
@@ -1,10 +1,14 @@
 package com.nagarro.advanced.framework.service;
 
+import com.nagarro.advanced.framework.cache.RoleRegistry;
+import com.nagarro.advanced.framework.event.RoleChangedEvent;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.persistence.entity.Role;
 import com.nagarro.advanced.framework.persistence.repository.RoleRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -13,54 +17,61 @@ import java.util.List;
 @Service
 public class RoleService {
 
+    private static final String ROLE_ID_NOT_FOUND = "Could not find role with that id";
+    private static final String DUPLICATE_ROLE_NAME = "Duplicate entry for role name!";
+
     private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public RoleService(RoleRepository roleRepository) {
+    public RoleService(RoleRepository roleRepository, RoleRegistry roleRegistry, ApplicationEventPublisher eventPublisher) {
         this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
     public Role saveRole(Role role) {
-        if (isRoleNameUnique(role)) {
-            return roleRepository.save(role);
+        if (roleRegistry.findByName(role.getName()).isEmpty()) {
+            Role savedRole;
+            try {
+                savedRole = roleRepository.save(role);
+            } catch (DataIntegrityViolationException e) {
+                throw new AppException(DUPLICATE_ROLE_NAME, HttpStatus.BAD_REQUEST);
+            }
+            eventPublisher.publishEvent(RoleChangedEvent.saved(savedRole));
+            return savedRole;
         } else {
-            throw new AppException("Duplicate entry for role name!", HttpStatus.BAD_REQUEST);
+            throw new AppException(DUPLICATE_ROLE_NAME, HttpStatus.BAD_REQUEST);
         }
     }
 
     public Role findRoleById(long id) {
-        return roleRepository.findById(id)
-                .orElseThrow(() -> new AppException("Could not find role with that id", HttpStatus.NOT_FOUND));
+        return roleRegistry.findById(id)
+                .orElseThrow(() -> new AppException(ROLE_ID_NOT_FOUND, HttpStatus.NOT_FOUND));
     }
 
     public Role findRoleByName(String name) {
-        return roleRepository.findRoleByName(name)
+        return roleRegistry.findByName(name)
                 .orElseThrow(() -> new AppException("Could not find role with that name", HttpStatus.NOT_FOUND));
     }
 
     @Transactional
     public void updateRoleById(long id, Role role) {
-        Role currentRole = findRoleById(id);
+        Role currentRole = roleRepository.findById(id)
+                .orElseThrow(() -> new AppException(ROLE_ID_NOT_FOUND, HttpStatus.NOT_FOUND));
         currentRole.setName(role.getName());
         roleRepository.save(currentRole);
+        eventPublisher.publishEvent(RoleChangedEvent.saved(currentRole));
     }
 
     public void deleteRoleById(long id) {
         Role currentRole = findRoleById(id);
         roleRepository.delete(currentRole);
+        eventPublisher.publishEvent(RoleChangedEvent.deleted(id));
     }
 
     public List<Role> findAll() {
-        return roleRepository.findAll();
-    }
-
-    private boolean isRoleNameUnique(Role searchedRole) {
-        List<Role> roles = findAll();
-        for (Role role : roles) {
-            if (role.getName().equals(searchedRole.getName())) {
-                return false;
-            }
-        }
-        return true;
+        return roleRegistry.findAll();
     }
 }
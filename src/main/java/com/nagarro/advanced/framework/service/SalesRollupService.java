@@ -0,0 +1,109 @@
+package com.nagarro.advanced.framework.service;
+
+import com.nagarro.advanced.framework.exception.AppException;
+import com.nagarro.advanced.framework.persistence.SalesRollupTable;
+import com.nagarro.advanced.framework.persistence.projection.CategorySalesRow;
+import com.nagarro.advanced.framework.persistence.projection.DailySalesRow;
+import com.nagarro.advanced.framework.util.LoggingConfiguration;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+@Service
+public class SalesRollupService {
+
+    private static final String RECONCILER_THREAD_NAME = "sales-rollup-reconciler";
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final String INVALID_RANGE = "The date range must start before it ends and cover at most "
+            + MAX_RANGE_DAYS + " days";
+    private static final String FUTURE_DAY = "Only past or current days can be rebuilt";
+
+    private final Logger logger = new LoggingConfiguration().getLogger();
+    private final SalesRollupTable salesRollupTable;
+    private final boolean reconcileEnabled;
+    private final Duration reconcileInterval;
+    private final int reconcileDays;
+    private ScheduledExecutorService reconciler;
+
+    @Autowired
+    public SalesRollupService(SalesRollupTable salesRollupTable,
+                              @Value("${bookstore.sales.reconcile.enabled:true}") boolean reconcileEnabled,
+                              @Value("${bookstore.sales.reconcile.interval:PT24H}") Duration reconcileInterval,
+                              @Value("${bookstore.sales.reconcile.days:2}") int reconcileDays) {
+        this.salesRollupTable = salesRollupTable;
+        this.reconcileEnabled = reconcileEnabled;
+        this.reconcileInterval = reconcileInterval;
+        this.reconcileDays = reconcileDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!reconcileEnabled) {
+            logger.log(Level.INFO, "Sales rollup reconciliation is disabled");
+            return;
+        }
+        reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, RECONCILER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = reconcileInterval.toMillis();
+        reconciler.scheduleWithFixedDelay(this::reconcile, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+        }
+    }
+
+    public void rebuildDay(LocalDate day) {
+        if (day.isAfter(LocalDate.now())) {
+            throw new AppException(FUTURE_DAY, HttpStatus.BAD_REQUEST);
+        }
+        salesRollupTable.rebuild(day);
+    }
+
+    public List<DailySalesRow> findDaily(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return salesRollupTable.findDaily(from, to);
+    }
+
+    public List<CategorySalesRow> findByCategory(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return salesRollupTable.findByCategory(from, to);
+    }
+
+    private void reconcile() {
+        LocalDate today = LocalDate.now();
+        for (int i = 1; i <= reconcileDays; i++) {
+            LocalDate day = today.minusDays(i);
+            try {
+                salesRollupTable.rebuild(day);
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Sales rollup reconciliation failed for " + day, e);
+            }
+        }
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new AppException(INVALID_RANGE, HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.nagarro.advanced.framework.service;
+
+import com.nagarro.advanced.framework.cache.StockLedger;
+import com.nagarro.advanced.framework.exception.AppException;
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.repository.BookRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+@Service
+public class StockService {
+
+    private static final String BOOK_DOES_NOT_EXISTS = "The book doesn't exists!";
+
+    private final BookRepository bookRepository;
+    private final StockLedger stockLedger;
+
+    @Autowired
+    public StockService(BookRepository bookRepository, StockLedger stockLedger) {
+        this.bookRepository = bookRepository;
+        this.stockLedger = stockLedger;
+    }
+
+    public Integer findAvailable(String isbn) {
+        return stockLedger.available(findBook(isbn).getId());
+    }
+
+    public Integer restock(String isbn, int quantity) {
+        Book book = findBook(isbn);
+        stockLedger.restock(book.getId(), quantity);
+        return stockLedger.available(book.getId());
+    }
+
+    private Book findBook(String isbn) {
+        return bookRepository.findByIsbn(isbn)
+                .orElseThrow(() -> new AppException(BOOK_DOES_NOT_EXISTS, HttpStatus.NOT_FOUND));
+    }
+}
@@ -1,15 +1,22 @@
 package com.nagarro.advanced.framework.service;
 
+import com.nagarro.advanced.framework.cache.CartStore;
+import com.nagarro.advanced.framework.cache.RoleRegistry;
 import com.nagarro.advanced.framework.controller.model.UserRegistrationDto;
+import com.nagarro.advanced.framework.event.UserChangedEvent;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.persistence.entity.Cart;
 import com.nagarro.advanced.framework.persistence.entity.Role;
 import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.persistence.projection.UserRow;
 import com.nagarro.advanced.framework.persistence.repository.CartRepository;
-import com.nagarro.advanced.framework.persistence.repository.RoleRepository;
 import com.nagarro.advanced.framework.persistence.repository.UserRepository;
+import com.nagarro.advanced.framework.search.UserIdentityIndex;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -24,24 +31,38 @@ public class UserService {
     private static final String USER_DOESN_T_EXIST = " User not found";
     private static final String DUPLICATE_DATA = " Some of the user details already exist in the database";
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final PasswordEncoder passwordEncoder;
     private final CartRepository cartRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserIdentityIndex userIdentityIndex;
+    private final CartStore cartStore;
 
     @Autowired
-    public UserService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder, CartRepository cartRepository) {
+    public UserService(UserRepository userRepository, RoleRegistry roleRegistry, PasswordEncoder passwordEncoder, CartRepository cartRepository,
+                       ApplicationEventPublisher eventPublisher, UserIdentityIndex userIdentityIndex, CartStore cartStore) {
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
         this.passwordEncoder = passwordEncoder;
         this.cartRepository = cartRepository;
+        this.eventPublisher = eventPublisher;
+        this.userIdentityIndex = userIdentityIndex;
+        this.cartStore = cartStore;
     }
 
     public User saveUser(User user) {
         if (areUserEmailAndPhoneUnique(user)) {
             Cart cart = new Cart();
             cart.setUser(user);
-            cartRepository.save(cart);
-            return userRepository.save(user);
+            User savedUser;
+            try {
+                cartRepository.save(cart);
+                savedUser = userRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                throw new AppException(DUPLICATE_DATA, HttpStatus.BAD_REQUEST);
+            }
+            userIdentityIndex.add(savedUser);
+            return savedUser;
         } else {
             throw new AppException(DUPLICATE_DATA, HttpStatus.BAD_REQUEST);
         }
@@ -52,9 +73,14 @@ public class UserService {
     }
 
     public void deleteUserByUuid(String uuid) {
+        cartStore.evict(uuid);
         Optional<Cart> userCart = cartRepository.findByUserUuid(uuid);
         userCart.ifPresent(cartRepository::delete);
-        findUserByUuid(uuid).ifPresent(userRepository::delete);
+        findUserByUuid(uuid).ifPresent(user -> {
+            userRepository.delete(user);
+            userIdentityIndex.markStale();
+            eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
+        });
     }
 
     @Transactional
@@ -62,8 +88,9 @@ public class UserService {
         Optional<User> currentUser = findUserByUuid(uuid);
         if (currentUser.isPresent()) {
             if (areUserEmailAndPhoneUnique(user)) {
+                eventPublisher.publishEvent(new UserChangedEvent(currentUser.get().getUsername()));
                 currentUser.get().setUsername(user.getUsername());
-                Optional<Role> optionalRetrievedRole = roleRepository.findRoleByName(user.getRole().getName());
+                Optional<Role> optionalRetrievedRole = roleRegistry.findByName(user.getRole().getName());
                 optionalRetrievedRole.ifPresent(currentUser.get()::setRole);
                 currentUser.get().setPassword(user.getPassword());
                 currentUser.get().setEmail(user.getEmail());
@@ -71,7 +98,13 @@ public class UserService {
                 currentUser.get().setLastName(user.getLastName());
                 currentUser.get().setFirstName(user.getFirstName());
                 currentUser.get().setPhoneNumber(user.getPhoneNumber());
-                userRepository.save(currentUser.get());
+                try {
+                    userRepository.saveAndFlush(currentUser.get());
+                } catch (DataIntegrityViolationException e) {
+                    throw new AppException(DUPLICATE_DATA, HttpStatus.BAD_REQUEST);
+                }
+                userIdentityIndex.markStale();
+                userIdentityIndex.add(currentUser.get());
             } else {
                 throw new AppException(DUPLICATE_DATA, HttpStatus.BAD_REQUEST);
             }
@@ -80,14 +113,18 @@ public class UserService {
         }
     }
 
-    public List<User> findAll() {
-        return userRepository.findAll();
+    @Transactional
+    public void upgradePassword(User user, String encodedPassword) {
+        userRepository.updatePassword(user.getId(), encodedPassword);
+        user.setPassword(encodedPassword);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
     }
 
-    public List<User> findAllByRole(String roleName) {
-        Role role = roleRepository.findRoleByName(roleName)
-                .orElseThrow(() -> new AppException(roleName + ROLE_DOESN_T_EXIST, HttpStatus.NOT_FOUND));
-        return userRepository.findAllByRole(role);
+    public List<UserRow> findPageAfter(long afterId, String roleName, int limit) {
+        if (roleName != null && roleRegistry.findByName(roleName).isEmpty()) {
+            throw new AppException(roleName + ROLE_DOESN_T_EXIST, HttpStatus.NOT_FOUND);
+        }
+        return userRepository.findPageAfter(afterId, roleName, PageRequest.of(0, limit));
     }
 
     public Optional<User> findUserByUsername(String username) {
@@ -96,7 +133,7 @@ public class UserService {
 
     public User register(UserRegistrationDto registrationUserDto, User user) {
         user.setPassword(passwordEncoder.encode(registrationUserDto.getPassword()));
-        Role role = roleRepository.findRoleByName(registrationUserDto.getRoleName())
+        Role role = roleRegistry.findByName(registrationUserDto.getRoleName())
                 .orElseThrow(() -> new AppException(ROLE_DOESN_T_EXIST, HttpStatus.NOT_FOUND));
         user.setRole(role);
         return saveUser(user);
@@ -106,21 +143,17 @@ public class UserService {
         String username = registrationUserDto.getUsername();
         String email = registrationUserDto.getEmail();
         String phoneNumber = registrationUserDto.getPhoneNumber();
-        Optional<User> userDuplicate = userRepository.findByUsernameOrEmailOrPhoneNumber(username, email, phoneNumber);
-        if (userDuplicate.isPresent()) {
+        if (userIdentityIndex.mightContain(username, email, phoneNumber)
+                && userRepository.existsByUsernameOrEmailOrPhoneNumber(username, email, phoneNumber)) {
             throw new AppException(DUPLICATE_DATA, HttpStatus.BAD_REQUEST);
         }
         return true;
     }
 
     private boolean areUserEmailAndPhoneUnique(User searchedUser) {
-        List<User> users = findAll();
-        for (User user : users) {
-            if (searchedUser.getEmail().equals(user.getEmail()) ||
-                    searchedUser.getPhoneNumber().equals(user.getPhoneNumber())) {
-                return false;
-            }
-        }
-        return true;
+        String email = searchedUser.getEmail();
+        String phoneNumber = searchedUser.getPhoneNumber();
+        return !userIdentityIndex.mightContain(null, email, phoneNumber)
+                || !userRepository.existsByEmailOrPhoneNumber(email, phoneNumber);
     }
 }
@@ -0,0 +1,47 @@
+package com.nagarro.advanced.framework.util;
+
+import java.util.Locale;
+
+public final class AcceptEncoding {
+
+    private static final String ANY = "*";
+    private static final String QUALITY = "q=";
+
+    private AcceptEncoding() {
+    }
+
+    public static boolean accepts(String header, String coding) {
+        if (header == null) {
+            return false;
+        }
+        Double exact = null;
+        Double any = null;
+        for (String entry : header.split(",")) {
+            String[] parts = entry.split(";");
+            String name = parts[0].strip().toLowerCase(Locale.ROOT);
+            if (name.equals(coding)) {
+                exact = quality(parts);
+            } else if (name.equals(ANY)) {
+                any = quality(parts);
+            }
+        }
+        if (exact != null) {
+            return exact > 0;
+        }
+        return any != null && any > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].strip().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith(QUALITY)) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY.length()).strip());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
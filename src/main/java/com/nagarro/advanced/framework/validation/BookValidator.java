@@ -13,6 +13,11 @@ import java.util.List;
 import java.util.Locale;
 
 public class BookValidator implements Validator {
+    private static final int MAX_TITLE_LENGTH = 60;
+    private static final int MAX_AUTHOR_LENGTH = 60;
+    private static final int MAX_DETAILS_LENGTH = 145;
+    private static final int MAX_ISBN_LENGTH = 40;
+
     @Override
     public boolean supports(Class clazz) {
         return Book.class.equals(clazz);
@@ -24,9 +29,15 @@ public class BookValidator implements Validator {
         ValidationUtils.rejectIfEmpty(errors, "author", "author.empty");
         ValidationUtils.rejectIfEmptyOrWhitespace(errors, "isbn", "isbn.required");
         Book book = (Book) object;
-        if (book.getPrice().compareTo(BigDecimal.ZERO) < 0){
+        if (book.getPrice() == null) {
+            errors.rejectValue("price", "price.required");
+        } else if (book.getPrice().compareTo(BigDecimal.ZERO) < 0){
             errors.rejectValue("price", "price.negativevalue");
         }
+        rejectIfLongerThan(errors, "title", book.getTitle(), MAX_TITLE_LENGTH);
+        rejectIfLongerThan(errors, "author", book.getAuthor(), MAX_AUTHOR_LENGTH);
+        rejectIfLongerThan(errors, "details", book.getDetails(), MAX_DETAILS_LENGTH);
+        rejectIfLongerThan(errors, "isbn", book.getIsbn(), MAX_ISBN_LENGTH);
     }
 
     public List<String> getErrorMessage(Object object) {
@@ -45,4 +56,10 @@ public class BookValidator implements Validator {
         }
         return errorMessages;
     }
+
+    private void rejectIfLongerThan(Errors errors, String field, String value, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            errors.rejectValue(field, field + ".toolong");
+        }
+    }
 }
@@ -0,0 +1 @@
+create index idx_book_category_id on tbl_book (category_id, id);
@@ -0,0 +1,18 @@
+DROP TABLE IF EXISTS tbl_id_generator;
+
+create table tbl_id_generator
+(
+    sequence_name varchar(64) not null primary key,
+    next_val      bigint      not null
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- pooled blocks start above the current max id; AUTO_INCREMENT is dropped from
+-- these tables in V022 so both sources never hand out ids at the same time
+insert into tbl_id_generator (sequence_name, next_val) select 'book', coalesce(max(id), 0) + 1000 from tbl_book;
+insert into tbl_id_generator (sequence_name, next_val) select 'book_review', coalesce(max(id), 0) + 1000 from tbl_book_review;
+insert into tbl_id_generator (sequence_name, next_val) select 'cart', coalesce(max(id), 0) + 1000 from tbl_cart;
+insert into tbl_id_generator (sequence_name, next_val) select 'category', coalesce(max(id), 0) + 1000 from tbl_category;
+insert into tbl_id_generator (sequence_name, next_val) select 'order', coalesce(max(id), 0) + 1000 from tbl_order;
+insert into tbl_id_generator (sequence_name, next_val) select 'role', coalesce(max(id), 0) + 1000 from tbl_role;
+insert into tbl_id_generator (sequence_name, next_val) select 'user', coalesce(max(id), 0) + 1000 from tbl_user;
@@ -0,0 +1,28 @@
+DROP TABLE IF EXISTS tbl_book_rating;
+
+create table tbl_book_rating
+(
+    book_id      bigint not null primary key,
+    review_count bigint not null,
+    star_sum     bigint not null,
+    one_star     bigint not null,
+    two_stars    bigint not null,
+    three_stars  bigint not null,
+    four_stars   bigint not null,
+    five_stars   bigint not null,
+    foreign key (book_id) references tbl_book (id) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+insert into tbl_book_rating (book_id, review_count, star_sum, one_star, two_stars, three_stars, four_stars, five_stars)
+select book_id,
+       count(*),
+       coalesce(sum(star), 0),
+       sum(case when star < 2 then 1 else 0 end),
+       sum(case when star >= 2 and star < 3 then 1 else 0 end),
+       sum(case when star >= 3 and star < 4 then 1 else 0 end),
+       sum(case when star >= 4 and star < 5 then 1 else 0 end),
+       sum(case when star >= 5 then 1 else 0 end)
+from tbl_book_review
+where book_id is not null
+group by book_id;
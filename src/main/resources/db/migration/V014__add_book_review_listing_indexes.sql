@@ -0,0 +1,2 @@
+create index idx_book_review_book_id on tbl_book_review (book_id, id);
+create index idx_book_review_book_star on tbl_book_review (book_id, star, id);
@@ -0,0 +1,21 @@
+DROP TABLE IF EXISTS tbl_cart_book_quantity;
+
+create table tbl_cart_book_quantity
+(
+    cart_id  bigint not null,
+    book_id  bigint not null,
+    quantity int    not null default 1,
+    primary key (cart_id, book_id),
+    foreign key (cart_id) references tbl_cart (id) ON DELETE CASCADE,
+    foreign key (book_id) references tbl_book (id) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+insert into tbl_cart_book_quantity (cart_id, book_id, quantity)
+select cart_id, book_id, count(*)
+from tbl_cart_book
+group by cart_id, book_id;
+
+drop table tbl_cart_book;
+
+alter table tbl_cart_book_quantity rename to tbl_cart_book;
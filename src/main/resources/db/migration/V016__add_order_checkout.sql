@@ -0,0 +1,34 @@
+alter table tbl_order add column phone varchar(255);
+alter table tbl_order add column idempotency_key varchar(64);
+alter table tbl_order add column total decimal(12, 2) not null default 0;
+
+create unique index uk_order_user_idempotency_key on tbl_order (user_uuid, idempotency_key);
+
+DROP TABLE IF EXISTS tbl_order_book_line;
+
+create table tbl_order_book_line
+(
+    order_id   bigint         not null,
+    book_id    bigint         not null,
+    quantity   int            not null default 1,
+    unit_price decimal(10, 2) not null,
+    primary key (order_id, book_id),
+    foreign key (order_id) references tbl_order (id) ON DELETE CASCADE,
+    foreign key (book_id) references tbl_book (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+insert into tbl_order_book_line (order_id, book_id, quantity, unit_price)
+select order_book.order_id, order_book.book_id, count(*), book.price
+from tbl_order_book order_book
+         join tbl_book book on book.id = order_book.book_id
+group by order_book.order_id, order_book.book_id, book.price;
+
+drop table tbl_order_book;
+
+alter table tbl_order_book_line rename to tbl_order_book;
+
+update tbl_order
+set total = (select coalesce(sum(order_book.quantity * order_book.unit_price), 0)
+             from tbl_order_book order_book
+             where order_book.order_id = tbl_order.id);
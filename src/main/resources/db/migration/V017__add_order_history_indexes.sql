@@ -0,0 +1,2 @@
+create index idx_order_user_creation on tbl_order (user_id, creation_date, id);
+create index idx_user_uuid on tbl_user (uuid);
@@ -0,0 +1,12 @@
+DROP TABLE IF EXISTS tbl_outbox;
+
+create table tbl_outbox
+(
+    id             bigint      not null auto_increment primary key,
+    aggregate_type varchar(32) not null,
+    aggregate_id   varchar(64) not null,
+    event_type     varchar(32) not null,
+    payload        text        not null,
+    created_at     datetime(3) not null
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,41 @@
+DROP TABLE IF EXISTS tbl_sales_daily;
+
+create table tbl_sales_daily
+(
+    sales_date  date           not null,
+    slot        int            not null,
+    order_count bigint         not null,
+    units       bigint         not null,
+    revenue     decimal(16, 2) not null,
+    primary key (sales_date, slot)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+DROP TABLE IF EXISTS tbl_sales_category_daily;
+
+create table tbl_sales_category_daily
+(
+    sales_date  date           not null,
+    category_id bigint         not null,
+    slot        int            not null,
+    units       bigint         not null,
+    revenue     decimal(16, 2) not null,
+    primary key (sales_date, category_id, slot)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+insert into tbl_sales_daily (sales_date, slot, order_count, units, revenue)
+select cast(o.creation_date as date), 0, count(distinct o.id), sum(ob.quantity), sum(ob.quantity * ob.unit_price)
+from tbl_order o
+         join tbl_order_book ob on ob.order_id = o.id
+where o.creation_date is not null
+group by cast(o.creation_date as date);
+
+insert into tbl_sales_category_daily (sales_date, category_id, slot, units, revenue)
+select cast(o.creation_date as date), b.category_id, 0, sum(ob.quantity), sum(ob.quantity * ob.unit_price)
+from tbl_order o
+         join tbl_order_book ob on ob.order_id = o.id
+         join tbl_book b on b.id = ob.book_id
+where o.creation_date is not null
+  and b.category_id is not null
+group by cast(o.creation_date as date), b.category_id;
@@ -0,0 +1 @@
+alter table tbl_book add column stock int;
@@ -0,0 +1,7 @@
+alter table tbl_outbox
+    add column status varchar(16) not null default 'PENDING';
+
+alter table tbl_outbox
+    add column attempts int not null default 0;
+
+create index idx_outbox_status_id on tbl_outbox (status, id);
@@ -0,0 +1,22 @@
+SET foreign_key_checks = 0;
+
+-- ids of these tables come only from tbl_id_generator; an explicit insert bumps
+-- the AUTO_INCREMENT counter past it, so the two sources cannot share a range
+alter table tbl_book modify id bigint not null;
+alter table tbl_book_review modify id bigint not null;
+alter table tbl_cart modify id bigint not null;
+alter table tbl_category modify id bigint not null;
+alter table tbl_order modify id bigint not null;
+alter table tbl_role modify id bigint not null;
+alter table tbl_user modify id bigint not null;
+
+SET foreign_key_checks = 1;
+
+-- rows written through AUTO_INCREMENT since V012 may have reached the pooled blocks
+update tbl_id_generator set next_val = greatest(next_val, (select coalesce(max(id), 0) + 1000 from tbl_book)) where sequence_name = 'book';
+update tbl_id_generator set next_val = greatest(next_val, (select coalesce(max(id), 0) + 1000 from tbl_book_review)) where sequence_name = 'book_review';
+update tbl_id_generator set next_val = greatest(next_val, (select coalesce(max(id), 0) + 1000 from tbl_cart)) where sequence_name = 'cart';
+update tbl_id_generator set next_val = greatest(next_val, (select coalesce(max(id), 0) + 1000 from tbl_category)) where sequence_name = 'category';
+update tbl_id_generator set next_val = greatest(next_val, (select coalesce(max(id), 0) + 1000 from tbl_order)) where sequence_name = 'order';
+update tbl_id_generator set next_val = greatest(next_val, (select coalesce(max(id), 0) + 1000 from tbl_role)) where sequence_name = 'role';
+update tbl_id_generator set next_val = greatest(next_val, (select coalesce(max(id), 0) + 1000 from tbl_user)) where sequence_name = 'user';
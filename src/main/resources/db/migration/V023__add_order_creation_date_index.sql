@@ -0,0 +1 @@
+create index idx_order_creation on tbl_order (creation_date, id);
@@ -0,0 +1,122 @@
+package com.nagarro.advanced.framework.benchmark;
+
+import com.nagarro.advanced.framework.controller.model.BookDto;
+import com.nagarro.advanced.framework.controller.model.BookReviewDto;
+import com.nagarro.advanced.framework.controller.model.CartDto;
+import com.nagarro.advanced.framework.controller.model.UserDto;
+import com.nagarro.advanced.framework.facade.convertor.impl.BookMapperImpl;
+import com.nagarro.advanced.framework.facade.convertor.impl.BookReviewMapperImpl;
+import com.nagarro.advanced.framework.facade.convertor.impl.CartMapperImpl;
+import com.nagarro.advanced.framework.facade.convertor.impl.RoleMapperImpl;
+import com.nagarro.advanced.framework.facade.convertor.impl.UserMapperImpl;
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.entity.BookReview;
+import com.nagarro.advanced.framework.persistence.entity.Cart;
+import com.nagarro.advanced.framework.persistence.entity.CartBook;
+import com.nagarro.advanced.framework.persistence.entity.Category;
+import com.nagarro.advanced.framework.persistence.entity.Role;
+import com.nagarro.advanced.framework.persistence.entity.User;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    @Param({"20"})
+    private int cartSize;
+
+    private ModelMapper modelMapper;
+    private BookMapperImpl bookMapper;
+    private CartMapperImpl cartMapper;
+    private UserMapperImpl userMapper;
+    private BookReviewMapperImpl reviewMapper;
+
+    private Book book;
+    private Cart cart;
+    private User user;
+    private BookReview review;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        bookMapper = new BookMapperImpl();
+        cartMapper = new CartMapperImpl(bookMapper);
+        userMapper = new UserMapperImpl(new RoleMapperImpl());
+        reviewMapper = new BookReviewMapperImpl();
+
+        Category category = new Category();
+        category.setUuid("29e45e7d-3e34-43df-9366-91c66a8cc9ae");
+        category.setName("comedy");
+        book = Book.builder().isbn("33e45e7d-3e34-43df-9366-91c66a8cc9ae").title("Ion").author("Rebreanu")
+                .details("details").price(BigDecimal.valueOf(37.2)).category(category).build();
+        user = User.builder().uuid("89e45e7d-3e34-43df-9366-91c66a8cc9ff").username("vlad").password("pass")
+                .email("vlad@gmail.com").firstName("vlad").lastName("popescu").address("Craiova")
+                .phoneNumber("0725984687").role(new Role(1L, "user")).build();
+        cart = new Cart(user);
+        for (int i = 0; i < cartSize; i++) {
+            cart.getItems().add(CartBook.builder().book(book).quantity(i + 1).build());
+        }
+        review = BookReview.builder().uuid("15e45e7d-4r34-43df-9366-91c63v8cc9ae").title("excellent").body("magic")
+                .starValue(5).build();
+    }
+
+    @Benchmark
+    public BookDto bookModelMapper() {
+        return modelMapper.map(book, BookDto.class);
+    }
+
+    @Benchmark
+    public BookDto bookGenerated() {
+        return bookMapper.toDto(book);
+    }
+
+    @Benchmark
+    public CartDto cartModelMapper() {
+        return modelMapper.map(cart, CartDto.class);
+    }
+
+    @Benchmark
+    public CartDto cartGenerated() {
+        return cartMapper.toDto(cart);
+    }
+
+    @Benchmark
+    public UserDto userModelMapper() {
+        return modelMapper.map(user, UserDto.class);
+    }
+
+    @Benchmark
+    public UserDto userGenerated() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public BookReviewDto reviewModelMapper() {
+        return modelMapper.map(review, BookReviewDto.class);
+    }
+
+    @Benchmark
+    public BookReviewDto reviewGenerated() {
+        return reviewMapper.toDto(review);
+    }
+}
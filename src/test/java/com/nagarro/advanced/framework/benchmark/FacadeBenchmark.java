@@ -0,0 +1,186 @@
+package com.nagarro.advanced.framework.benchmark;
+
+import com.nagarro.advanced.framework.SpringBootApplication;
+import com.nagarro.advanced.framework.cache.BookDtoCache;
+import com.nagarro.advanced.framework.controller.model.BookDto;
+import com.nagarro.advanced.framework.controller.model.BookReviewDto;
+import com.nagarro.advanced.framework.controller.model.CartItemDto;
+import com.nagarro.advanced.framework.controller.model.CursorPage;
+import com.nagarro.advanced.framework.controller.model.UserRegistrationDto;
+import com.nagarro.advanced.framework.controller.model.UserRegistrationResult;
+import com.nagarro.advanced.framework.facade.AuthenticationFacade;
+import com.nagarro.advanced.framework.facade.BookFacade;
+import com.nagarro.advanced.framework.facade.BookReviewFacade;
+import com.nagarro.advanced.framework.facade.CartFacade;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FacadeBenchmark {
+
+    private static final int CATEGORIES = 10;
+    private static final int USERS = 100;
+    private static final int BOOKS_PER_CART = 5;
+    private static final int BESTSELLER_REVIEWS = 2000;
+    private static final int PAGE_SIZE = 20;
+    private static final String BENCHMARK_CLIENT_IP = "127.0.0.1";
+    private static final String[] SEQUENCES = {"book", "book_review", "cart", "category", "role", "user"};
+
+    @Param({"10000"})
+    private int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private BookFacade bookFacade;
+    private BookDtoCache bookDtoCache;
+    private CartFacade cartFacade;
+    private BookReviewFacade reviewFacade;
+    private AuthenticationFacade authenticationFacade;
+    private final AtomicLong registrations = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SpringBootApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN",
+                        "bookstore.security.login-rate.ip.capacity=" + Integer.MAX_VALUE)
+                .run();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed(jdbcTemplate);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        bookFacade = context.getBean(BookFacade.class);
+        bookDtoCache = context.getBean(BookDtoCache.class);
+        cartFacade = context.getBean(CartFacade.class);
+        reviewFacade = context.getBean(BookReviewFacade.class);
+        authenticationFacade = context.getBean(AuthenticationFacade.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookDto bookFacadeFindByIsbnCached() {
+        return inTransaction(() -> bookFacade.findBookByIsbn(isbn(ThreadLocalRandom.current().nextInt(catalogSize))));
+    }
+
+    @Benchmark
+    public BookDto bookFacadeFindByIsbnUncached() {
+        String isbn = isbn(ThreadLocalRandom.current().nextInt(catalogSize));
+        bookDtoCache.invalidate(isbn);
+        return inTransaction(() -> bookFacade.findBookByIsbn(isbn));
+    }
+
+    @Benchmark
+    public CursorPage<BookDto> bookFacadeFindBooks() {
+        String cursor = String.valueOf(ThreadLocalRandom.current().nextInt(catalogSize));
+        return inTransaction(() -> bookFacade.findBooks(cursor, PAGE_SIZE, null, null, null));
+    }
+
+    @Benchmark
+    public List<CartItemDto> cartFacadeGetUserCartBooks() {
+        return inTransaction(() -> cartFacade.getUserCartBooks(userUuid(ThreadLocalRandom.current().nextInt(USERS))));
+    }
+
+    @Benchmark
+    public CursorPage<BookReviewDto> reviewFacadeGetReviews() {
+        return inTransaction(() -> reviewFacade.getReviews(isbn(0), null, PAGE_SIZE, "newest"));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UserRegistrationResult authenticationFacadeRegister() {
+        long n = registrations.incrementAndGet();
+        UserRegistrationDto registration = UserRegistrationDto.builder()
+                .username("bench" + n).password("password").matchingPassword("password")
+                .email("bench" + n + "@mail.com").firstName("bench").lastName("user").address("Craiova")
+                .phoneNumber(String.format("07%08d", n)).roleName("user").build();
+        return inTransaction(() -> authenticationFacade.register(registration, BENCHMARK_CLIENT_IP));
+    }
+
+    private <T> T inTransaction(Supplier<T> supplier) {
+        return transactionTemplate.execute(status -> supplier.get());
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into tbl_role (id, name) values (1, 'user')");
+        List<Object[]> categories = new ArrayList<>(CATEGORIES);
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories.add(new Object[]{i + 1, "category-" + i, "category" + i});
+        }
+        jdbcTemplate.batchUpdate("insert into tbl_category (id, uuid, name) values (?, ?, ?)", categories);
+
+        List<Object[]> books = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            books.add(new Object[]{i + 1, isbn(i), "Title " + i, "Author " + i, "details", BigDecimal.valueOf(10 + i % 90),
+                    1 + i % CATEGORIES});
+        }
+        jdbcTemplate.batchUpdate("insert into tbl_book (id, isbn, title, author, details, price, category_id) " +
+                "values (?, ?, ?, ?, ?, ?, ?)", books);
+
+        List<Object[]> users = new ArrayList<>(USERS);
+        List<Object[]> carts = new ArrayList<>(USERS);
+        List<Object[]> cartBooks = new ArrayList<>(USERS * BOOKS_PER_CART);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{i + 1, userUuid(i), "user" + i, "password", "first", "last", "user" + i + "@mail.com",
+                    "Craiova", String.format("06%08d", i), 1});
+            carts.add(new Object[]{i + 1, "cart-" + i, i + 1});
+            for (int j = 0; j < BOOKS_PER_CART; j++) {
+                cartBooks.add(new Object[]{i + 1, 1 + (i * BOOKS_PER_CART + j) % catalogSize});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into tbl_user (id, uuid, username, password, first_name, last_name, " +
+                "email, address, phone, role_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("insert into tbl_cart (id, uuid, user_id) values (?, ?, ?)", carts);
+        jdbcTemplate.batchUpdate("insert into tbl_cart_book (cart_id, book_id) values (?, ?)", cartBooks);
+
+        List<Object[]> reviews = new ArrayList<>(BESTSELLER_REVIEWS);
+        for (int i = 0; i < BESTSELLER_REVIEWS; i++) {
+            reviews.add(new Object[]{i + 1, "review-" + i, "review", "body", 1 + i % 5, 1 + i % USERS, 1});
+        }
+        jdbcTemplate.batchUpdate("insert into tbl_book_review (id, uuid, title, body, star, user_id, book_id) " +
+                "values (?, ?, ?, ?, ?, ?, ?)", reviews);
+
+        for (String sequence : SEQUENCES) {
+            String table = "tbl_" + sequence;
+            jdbcTemplate.update("update tbl_id_generator set next_val = (select coalesce(max(id), 0) + 1000 from "
+                    + table + ") where sequence_name = ?", sequence);
+        }
+    }
+
+    private static String isbn(int index) {
+        return "isbn-" + index;
+    }
+
+    private static String userUuid(int index) {
+        return "user-" + index;
+    }
+}
@@ -0,0 +1,80 @@
+package com.nagarro.advanced.framework.cache;
+
+import com.nagarro.advanced.framework.controller.model.BookDto;
+import com.nagarro.advanced.framework.event.BookChangedEvent;
+import com.nagarro.advanced.framework.exception.AppException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BookDtoCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BookDtoCache bookDtoCache = new BookDtoCache(meterRegistry, 100, Duration.ofMinutes(10));
+
+    @Test
+    void getShouldLoadOnceAndServeHitsFromMemory() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        BookDto bookDto = BookDto.builder().isbn("1").title("Ion").build();
+
+        //when
+        bookDtoCache.get("1", isbn -> {
+            loads.incrementAndGet();
+            return bookDto;
+        });
+        BookDto cachedBookDto = bookDtoCache.get("1", isbn -> {
+            loads.incrementAndGet();
+            return bookDto;
+        });
+
+        //then
+        assertEquals(bookDto, cachedBookDto);
+        assertEquals(1, loads.get());
+        assertEquals(1, bookDtoCache.stats().hitCount());
+        assertEquals(1, bookDtoCache.stats().missCount());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "books").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void onBookChangedShouldInvalidateEntry() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        bookDtoCache.get("1", isbn -> BookDto.builder().build());
+
+        //when
+        bookDtoCache.onBookChanged(BookChangedEvent.deleted("1"));
+        bookDtoCache.get("1", isbn -> {
+            loads.incrementAndGet();
+            return BookDto.builder().build();
+        });
+
+        //then
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getShouldNotCacheMissingBooks() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < 2; i++) {
+            assertThrows(AppException.class, () -> bookDtoCache.get("404", isbn -> {
+                loads.incrementAndGet();
+                throw new AppException("The book doesn't exist!", HttpStatus.NOT_FOUND);
+            }));
+        }
+
+        //then
+        assertEquals(2, loads.get());
+    }
+}
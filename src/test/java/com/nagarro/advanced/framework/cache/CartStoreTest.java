@@ -0,0 +1,378 @@
+package com.nagarro.advanced.framework.cache;
+
+import com.nagarro.advanced.framework.persistence.CartBookWriter;
+import com.nagarro.advanced.framework.persistence.CartBookWriter.CartBookRow;
+import com.nagarro.advanced.framework.persistence.CartBookWriter.PendingCart;
+import com.nagarro.advanced.framework.persistence.EntityIdGenerator;
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.entity.Cart;
+import com.nagarro.advanced.framework.persistence.entity.CartBook;
+import com.nagarro.advanced.framework.persistence.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CartStoreTest {
+
+    private static final String USER_UUID = "89e45e7d-3e34-43df-9366-91c66a8cc9ff";
+
+    private final CartBookWriter cartBookWriter = mock(CartBookWriter.class);
+
+    private final EntityIdGenerator entityIdGenerator = mock(EntityIdGenerator.class);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void updateShouldWriteCartOnlyWhenFlushedInWriteBehindMode() {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ofMinutes(30));
+
+        //when
+        Cart cart = cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 2L));
+
+        //then
+        assertEquals(2, cart.getItems().size());
+        assertEquals(1, cartStore.dirtyCount());
+        verify(cartBookWriter, never()).write(anyList());
+
+        cartStore.flush();
+        List<PendingCart> written = captureWrites(1).get(0);
+        assertEquals(List.of(new PendingCart(7L, "cart-uuid", 3L, false, List.of(new CartBookRow(2L, 1)), List.of(),
+                List.of())), written);
+        assertEquals(0, cartStore.dirtyCount());
+    }
+
+    @Test
+    void updateShouldWriteCartImmediatelyInWriteThroughMode() {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_THROUGH, Duration.ofMinutes(30));
+
+        //when
+        cartStore.update(USER_UUID, existingCartLoader(), Map::clear);
+
+        //then
+        assertEquals(List.of(new PendingCart(7L, "cart-uuid", 3L, false, List.of(), List.of(), List.of(1L))),
+                captureWrites(1).get(0));
+        assertEquals(0, cartStore.dirtyCount());
+    }
+
+    @Test
+    void getShouldServeCachedCartAfterFirstLoad() {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ofMinutes(30));
+
+        //when
+        cartStore.get(USER_UUID, existingCartLoader());
+        cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 2L));
+        Cart cart = cartStore.get(USER_UUID, existingCartLoader());
+
+        //then
+        assertEquals(1, loads.get());
+        assertEquals(2, cart.getItems().size());
+        assertEquals(USER_UUID, cart.getUser().getUuid());
+    }
+
+    @Test
+    void flushShouldCreateNewCartOnlyOnce() {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ofMinutes(30));
+        User user = User.builder().id(3L).uuid(USER_UUID).build();
+        when(entityIdGenerator.nextIds(Cart.class, 1)).thenReturn(List.of(42L));
+
+        //when
+        cartStore.update(USER_UUID, uuid -> new Cart(user), items -> addBook(items, 1L));
+        cartStore.flush();
+        cartStore.update(USER_UUID, uuid -> new Cart(user), items -> addBook(items, 2L));
+        cartStore.flush();
+
+        //then
+        List<List<PendingCart>> writes = captureWrites(2);
+        assertTrue(writes.get(0).get(0).created());
+        assertEquals(42L, writes.get(0).get(0).cartId());
+        assertEquals(List.of(new CartBookRow(1L, 1)), writes.get(0).get(0).inserted());
+        assertFalse(writes.get(1).get(0).created());
+        assertEquals(List.of(new CartBookRow(2L, 1)), writes.get(1).get(0).inserted());
+    }
+
+    @Test
+    void flushShouldWriteOnlyChangedRows() {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ofMinutes(30));
+        cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 2L));
+        cartStore.flush();
+
+        //when
+        cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 2L));
+        cartStore.update(USER_UUID, existingCartLoader(), items -> items.remove(1L));
+        cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 3L));
+        cartStore.update(USER_UUID, existingCartLoader(), items -> items.remove(3L));
+        cartStore.flush();
+
+        //then
+        PendingCart written = captureWrites(2).get(1).get(0);
+        assertEquals(List.of(), written.inserted());
+        assertEquals(List.of(new CartBookRow(2L, 2)), written.updated());
+        assertEquals(List.of(1L), written.deleted());
+    }
+
+    @Test
+    void flushShouldKeepCartDirtyWhenWriteFails() {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ofMinutes(30));
+        cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 2L));
+        doThrow(new TransientDataAccessResourceException("connection lost")).when(cartBookWriter).write(anyList());
+
+        //when
+        assertThrows(TransientDataAccessResourceException.class, cartStore::flush);
+
+        //then
+        assertEquals(1, cartStore.dirtyCount());
+        assertEquals(1, cartStore.size());
+    }
+
+    @Test
+    void flushShouldDropCartThatViolatesConstraints() {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ofMinutes(30));
+        cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 2L));
+        doThrow(new DataIntegrityViolationException("book deleted")).when(cartBookWriter).write(anyList());
+
+        //when
+        cartStore.flush();
+
+        //then
+        assertEquals(0, cartStore.dirtyCount());
+        assertEquals(0, cartStore.size());
+    }
+
+    @Test
+    void flushShouldKeepRemainingCartsWhenASoloWriteFails() {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ZERO);
+        for (String userUuid : List.of("user-1", "user-2", "user-3")) {
+            cartStore.update(userUuid, existingCartLoader(), items -> addBook(items, 2L));
+        }
+        AtomicInteger writes = new AtomicInteger();
+        doAnswer(invocation -> {
+            switch (writes.incrementAndGet()) {
+                case 1 -> throw new DataIntegrityViolationException("book deleted");
+                case 3 -> throw new TransientDataAccessResourceException("connection lost");
+                default -> {
+                    return null;
+                }
+            }
+        }).when(cartBookWriter).write(anyList());
+
+        //when
+        assertThrows(TransientDataAccessResourceException.class, cartStore::flush);
+        cartStore.evictIdle();
+
+        //then
+        assertEquals(4, writes.get());
+        assertEquals(1, cartStore.dirtyCount());
+        assertEquals(1, cartStore.size());
+    }
+
+    @Test
+    void evictIdleShouldDropOnlyCleanCarts() {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ZERO);
+        cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 2L));
+        cartStore.get("other-user", existingCartLoader());
+
+        //when
+        cartStore.evictIdle();
+
+        //then
+        assertEquals(1, cartStore.size());
+        assertEquals(1, cartStore.dirtyCount());
+    }
+
+    @Test
+    void checkoutShouldEmptyCartWithoutWritingItBack() {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ofMinutes(30));
+        cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 2L));
+
+        //when
+        int ordered = cartStore.checkout(USER_UUID, existingCartLoader(), cart -> cart.getItems().size());
+        cartStore.flush();
+
+        //then
+        assertEquals(2, ordered);
+        assertEquals(0, cartStore.get(USER_UUID, existingCartLoader()).getItems().size());
+        assertEquals(0, cartStore.dirtyCount());
+        verify(cartBookWriter, never()).write(anyList());
+    }
+
+    @Test
+    void checkoutShouldKeepCartWhenOrderFails() {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ofMinutes(30));
+        cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 2L));
+
+        //when
+        assertThrows(IllegalStateException.class, () -> cartStore.checkout(USER_UUID, existingCartLoader(), cart -> {
+            throw new IllegalStateException("order failed");
+        }));
+
+        //then
+        assertEquals(2, cartStore.get(USER_UUID, existingCartLoader()).getItems().size());
+        assertEquals(1, cartStore.dirtyCount());
+    }
+
+    @Test
+    void checkoutShouldWaitForInFlightFlushOfSameCart() throws Exception {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ofMinutes(30));
+        cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 2L));
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(cartBookWriter).write(anyList());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        executor.submit(cartStore::flush);
+        writing.await();
+
+        //when
+        Future<Boolean> checkout = executor.submit(() -> cartStore.checkout(USER_UUID, existingCartLoader(),
+                cart -> true));
+
+        //then
+        assertThrows(TimeoutException.class, () -> checkout.get(100, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(checkout.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    @Test
+    void checkoutShouldNotHoldTheStripeWhilePlacingTheOrder() throws Exception {
+        //given
+        CartStore cartStore = new CartStore(cartBookWriter, entityIdGenerator, new SimpleMeterRegistry(), true,
+                CartDurability.WRITE_BEHIND, Duration.ofSeconds(1), 200, Duration.ofMinutes(30), 1);
+        cartStore.update(USER_UUID, existingCartLoader(), items -> addBook(items, 2L));
+        CountDownLatch placing = new CountDownLatch(1);
+        Semaphore release = new Semaphore(0);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Boolean> checkout = executor.submit(() -> cartStore.checkout(USER_UUID, existingCartLoader(), cart -> {
+            placing.countDown();
+            release.acquireUninterruptibly();
+            return true;
+        }));
+        placing.await();
+
+        //when
+        Cart other = cartStore.update("other-user", existingCartLoader(), items -> addBook(items, 3L));
+        cartStore.flush();
+
+        //then
+        assertEquals(2, other.getItems().size());
+        assertEquals(1, cartStore.dirtyCount());
+        release.release();
+        assertTrue(checkout.get(5, TimeUnit.SECONDS));
+        assertEquals(0, cartStore.dirtyCount());
+        executor.shutdown();
+    }
+
+    @Test
+    void concurrentUpdatesShouldNotLoseQuantity() throws InterruptedException {
+        //given
+        CartStore cartStore = createStore(CartDurability.WRITE_BEHIND, Duration.ofMinutes(30));
+        int threads = 8;
+        int updatesPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        //when
+        for (int i = 0; i < threads; i++) {
+            String userUuid = i % 2 == 0 ? USER_UUID : "user-" + i;
+            executor.submit(() -> {
+                for (int j = 0; j < updatesPerThread; j++) {
+                    cartStore.update(userUuid, existingCartLoader(), items -> addBook(items, 2L));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        //then
+        Cart sharedCart = cartStore.get(USER_UUID, existingCartLoader());
+        assertEquals(threads / 2 * updatesPerThread, quantity(sharedCart, 2L));
+        assertEquals(updatesPerThread, quantity(cartStore.get("user-1", existingCartLoader()), 2L));
+    }
+
+    private CartStore createStore(CartDurability durability, Duration idleTimeout) {
+        return new CartStore(cartBookWriter, entityIdGenerator, new SimpleMeterRegistry(), true, durability,
+                Duration.ofSeconds(1), 200, idleTimeout, 16);
+    }
+
+    private Function<String, Cart> existingCartLoader() {
+        return uuid -> {
+            loads.incrementAndGet();
+            User user = User.builder().id(3L).uuid(uuid).build();
+            Cart cart = Cart.builder().id(7L).uuid("cart-uuid").user(user).items(new LinkedHashSet<>()).build();
+            cart.getItems().add(new CartBook(cart, book(1L), 1));
+            return cart;
+        };
+    }
+
+    private void addBook(Map<Long, CartBook> items, long bookId) {
+        CartBook item = items.get(bookId);
+        if (item == null) {
+            items.put(bookId, CartBook.builder().book(book(bookId)).quantity(1).build());
+        } else {
+            item.setQuantity(item.getQuantity() + 1);
+        }
+    }
+
+    private int quantity(Cart cart, long bookId) {
+        return cart.getItems().stream()
+                .filter(item -> item.getBook().getId() == bookId)
+                .mapToInt(CartBook::getQuantity)
+                .sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<PendingCart>> captureWrites(int times) {
+        ArgumentCaptor<List<PendingCart>> captor = ArgumentCaptor.forClass(List.class);
+        verify(cartBookWriter, times(times)).write(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private Book book(long id) {
+        Book book = new Book();
+        book.setId(id);
+        return book;
+    }
+}
@@ -0,0 +1,130 @@
+package com.nagarro.advanced.framework.cache;
+
+import com.nagarro.advanced.framework.event.RoleChangedEvent;
+import com.nagarro.advanced.framework.persistence.entity.Role;
+import com.nagarro.advanced.framework.persistence.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoleRegistryTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private RoleRegistry roleRegistry;
+
+    @BeforeEach
+    void setUp() {
+        roleRegistry = new RoleRegistry(roleRepository, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void lookupsShouldBeServedFromSnapshotWithoutDatabaseCalls() {
+        //given
+        when(roleRepository.findAll()).thenReturn(List.of(new Role(2L, "USER"), new Role(1L, "ADMIN")));
+        roleRegistry.bootstrap();
+
+        //when
+        Optional<Role> byName = roleRegistry.findByName("ADMIN");
+        Optional<Role> byId = roleRegistry.findById(2L);
+        List<Role> roles = roleRegistry.findAll();
+
+        //then
+        assertEquals(1L, byName.orElseThrow().getId());
+        assertEquals("USER", byId.orElseThrow().getName());
+        assertEquals(List.of("ADMIN", "USER"), roles.stream().map(Role::getName).toList());
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void lookupsShouldReturnCopiesThatCannotCorruptSnapshot() {
+        //given
+        when(roleRepository.findAll()).thenReturn(List.of(new Role(1L, "ADMIN")));
+        roleRegistry.bootstrap();
+
+        //when
+        Role role = roleRegistry.findById(1L).orElseThrow();
+        role.setName("HACKED");
+
+        //then
+        assertNotSame(role, roleRegistry.findById(1L).orElseThrow());
+        assertEquals("ADMIN", roleRegistry.findById(1L).orElseThrow().getName());
+    }
+
+    @Test
+    void onRoleChangedShouldSwapSnapshotForSavedAndDeletedRoles() {
+        //given
+        when(roleRepository.findAll()).thenReturn(List.of(new Role(1L, "ADMIN")));
+        roleRegistry.bootstrap();
+
+        //when
+        roleRegistry.onRoleChanged(RoleChangedEvent.saved(new Role(1L, "OWNER")));
+        roleRegistry.onRoleChanged(RoleChangedEvent.saved(new Role(2L, "USER")));
+        roleRegistry.onRoleChanged(RoleChangedEvent.deleted(2L));
+
+        //then
+        assertEquals(1L, roleRegistry.findByName("OWNER").orElseThrow().getId());
+        assertEquals(List.of("OWNER"), roleRegistry.findAll().stream().map(Role::getName).toList());
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void missesShouldBeAnsweredFromSnapshotWithoutDatabaseCalls() {
+        //given
+        when(roleRepository.findAll()).thenReturn(List.of(new Role(1L, "ADMIN")));
+        roleRegistry.bootstrap();
+
+        //when
+        Optional<Role> byName = roleRegistry.findByName("GUEST");
+        Optional<Role> byId = roleRegistry.findById(9L);
+
+        //then
+        assertTrue(byName.isEmpty());
+        assertTrue(byId.isEmpty());
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void reloadShouldPickUpRolesCreatedElsewhere() {
+        //given
+        when(roleRepository.findAll())
+                .thenReturn(List.of(new Role(1L, "ADMIN")))
+                .thenReturn(List.of(new Role(1L, "ADMIN"), new Role(2L, "USER")));
+        roleRegistry.bootstrap();
+
+        //when
+        roleRegistry.reload();
+
+        //then
+        assertEquals(2L, roleRegistry.findByName("USER").orElseThrow().getId());
+    }
+
+    @Test
+    void lookupsShouldReloadWhenRefreshIntervalElapsed() {
+        //given
+        RoleRegistry alwaysFresh = new RoleRegistry(roleRepository, Duration.ZERO);
+        when(roleRepository.findAll()).thenReturn(List.of(new Role(1L, "ADMIN")));
+
+        //when
+        alwaysFresh.findById(1L);
+        alwaysFresh.findById(1L);
+
+        //then
+        verify(roleRepository, times(2)).findAll();
+    }
+}
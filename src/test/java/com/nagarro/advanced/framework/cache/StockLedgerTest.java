@@ -0,0 +1,219 @@
+package com.nagarro.advanced.framework.cache;
+
+import com.nagarro.advanced.framework.exception.AppException;
+import com.nagarro.advanced.framework.persistence.StockTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StockLedgerTest {
+
+    private static final long HOT_BOOK = 1L;
+    private static final long UNTRACKED_BOOK = 2L;
+
+    private final StockTable stockTable = mock(StockTable.class);
+
+    private final AtomicInteger databaseStock = new AtomicInteger();
+
+    private final AtomicInteger leases = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(stockTable.lease(eq(HOT_BOOK), anyInt(), anyInt())).thenAnswer(invocation -> {
+            int wanted = invocation.getArgument(1);
+            int minimum = invocation.getArgument(2);
+            synchronized (databaseStock) {
+                int leased = Math.min(databaseStock.get(), wanted);
+                if (leased < minimum || leased <= 0) {
+                    return 0;
+                }
+                databaseStock.addAndGet(-leased);
+                leases.incrementAndGet();
+                return leased;
+            }
+        });
+        when(stockTable.lease(eq(UNTRACKED_BOOK), anyInt(), anyInt())).thenReturn(StockTable.UNTRACKED);
+        doAnswer(invocation -> databaseStock.addAndGet(invocation.getArgument(1)))
+                .when(stockTable).giveBack(eq(HOT_BOOK), anyInt());
+        when(stockTable.findStock(HOT_BOOK)).thenAnswer(invocation -> databaseStock.get());
+    }
+
+    @Test
+    void concurrentReservationsShouldNeverOversell() throws Exception {
+        //given
+        int stock = 1000;
+        databaseStock.set(stock);
+        StockLedger stockLedger = createLedger(8, 25);
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> buyers = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 20_000; i++) {
+            buyers.add(executor.submit(() -> {
+                start.await();
+                int quantity = ThreadLocalRandom.current().nextInt(1, 4);
+                try {
+                    stockLedger.reserve(Map.of(HOT_BOOK, quantity));
+                    sold.addAndGet(quantity);
+                } catch (AppException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> buyer : buyers) {
+            buyer.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        stockLedger.reconcile();
+
+        //then
+        assertTrue(sold.get() <= stock, "sold " + sold.get() + " of " + stock);
+        assertTrue(sold.get() > stock - 3, "undersold, only " + sold.get() + " of " + stock);
+        assertEquals(stock, sold.get() + databaseStock.get());
+        assertTrue(rejected.get() > 0);
+    }
+
+    @Test
+    void reservationsShouldBeServedFromLeasedStockWithoutTouchingTheDatabase() {
+        //given
+        databaseStock.set(100);
+        StockLedger stockLedger = createLedger(4, 50);
+
+        //when
+        for (int i = 0; i < 50; i++) {
+            stockLedger.reserve(Map.of(HOT_BOOK, 1));
+        }
+
+        //then
+        assertEquals(1, leases.get());
+        assertEquals(50, databaseStock.get());
+        assertEquals(50, stockLedger.available(HOT_BOOK));
+    }
+
+    @Test
+    void reconcileShouldReturnUnusedLeaseToTheDatabase() {
+        //given
+        databaseStock.set(100);
+        StockLedger stockLedger = createLedger(4, 50);
+        stockLedger.reserve(Map.of(HOT_BOOK, 5));
+
+        //when
+        stockLedger.reconcile();
+
+        //then
+        assertEquals(95, databaseStock.get());
+        assertEquals(95, stockLedger.available(HOT_BOOK));
+    }
+
+    @Test
+    void reserveShouldRollBackEarlierLinesWhenALaterLineIsOutOfStock() {
+        //given
+        databaseStock.set(3);
+        StockLedger stockLedger = createLedger(4, 50);
+        when(stockTable.lease(eq(3L), anyInt(), anyInt())).thenReturn(0);
+
+        //when
+        AppException thrown = assertThrows(AppException.class,
+                () -> stockLedger.reserve(orderedQuantities(HOT_BOOK, 2, 3L, 1)));
+        stockLedger.reconcile();
+
+        //then
+        assertEquals(HttpStatus.CONFLICT, thrown.getHttpStatus());
+        assertEquals(3, databaseStock.get());
+    }
+
+    @Test
+    void untrackedBooksShouldAlwaysBeReserved() {
+        //given
+        StockLedger stockLedger = createLedger(4, 50);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            stockLedger.reserve(Map.of(UNTRACKED_BOOK, 1000));
+        }
+
+        //then
+        verify(stockTable).lease(eq(UNTRACKED_BOOK), anyInt(), anyInt());
+        verify(stockTable, never()).giveBack(eq(UNTRACKED_BOOK), anyInt());
+        verify(stockTable, never()).lease(eq(HOT_BOOK), anyInt(), anyInt());
+        verify(stockTable, never()).findStock(anyLong());
+    }
+
+    @Test
+    void releaseShouldNotCreateStockWhenAnUntrackedBookBecomesTracked() {
+        //given
+        StockLedger stockLedger = createLedger(4, 50);
+        Map<Long, Integer> reserved = stockLedger.reserve(Map.of(UNTRACKED_BOOK, 5));
+        stockLedger.restock(UNTRACKED_BOOK, 10);
+
+        //when
+        stockLedger.release(reserved);
+        stockLedger.reconcile();
+
+        //then
+        assertTrue(reserved.isEmpty());
+        assertEquals(0, stockLedger.leased());
+        verify(stockTable, never()).giveBack(eq(UNTRACKED_BOOK), anyInt());
+    }
+
+    @Test
+    void reserveShouldKeepLeasingWhileTheLeasedUnitsDoNotCoverTheQuantity() {
+        //given
+        databaseStock.set(10);
+        StockLedger stockLedger = createLedger(4, 50);
+        when(stockTable.lease(eq(HOT_BOOK), anyInt(), anyInt())).thenAnswer(invocation -> {
+            leases.incrementAndGet();
+            return databaseStock.getAndUpdate(stock -> Math.max(0, stock - 1)) > 0 ? 1 : 0;
+        });
+
+        //when
+        Map<Long, Integer> reserved = stockLedger.reserve(Map.of(HOT_BOOK, 3));
+
+        //then
+        assertEquals(Map.of(HOT_BOOK, 3), reserved);
+        assertEquals(3, leases.get());
+        assertEquals(7, databaseStock.get());
+    }
+
+    private Map<Long, Integer> orderedQuantities(long firstBook, int firstQuantity, long secondBook, int secondQuantity) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(firstBook, firstQuantity);
+        quantities.put(secondBook, secondQuantity);
+        return quantities;
+    }
+
+    private StockLedger createLedger(int stripes, int leaseSize) {
+        return new StockLedger(stockTable, new SimpleMeterRegistry(), stripes, leaseSize, false, Duration.ofSeconds(5));
+    }
+}
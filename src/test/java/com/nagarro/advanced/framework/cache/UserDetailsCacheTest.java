@@ -0,0 +1,64 @@
+package com.nagarro.advanced.framework.cache;
+
+import com.nagarro.advanced.framework.event.RoleChangedEvent;
+import com.nagarro.advanced.framework.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UserDetailsCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final UserDetailsCache userDetailsCache = new UserDetailsCache(meterRegistry, 100, Duration.ofMinutes(5));
+
+    @Test
+    void getUserFromCacheShouldServeCachedUserAndReportHitRatio() {
+        //given
+        UserDetails userDetails = User.withUsername("john").password("secret").authorities("ADMIN").build();
+
+        //when
+        UserDetails missedUserDetails = userDetailsCache.getUserFromCache("john");
+        userDetailsCache.putUserInCache(userDetails);
+        UserDetails cachedUserDetails = userDetailsCache.getUserFromCache("john");
+
+        //then
+        assertNull(missedUserDetails);
+        assertEquals(userDetails, cachedUserDetails);
+        assertEquals(0.5, meterRegistry.get("cache.hit.ratio").tag("cache", "users").gauge().value());
+    }
+
+    @Test
+    void onUserChangedShouldEvictUser() {
+        //given
+        userDetailsCache.putUserInCache(User.withUsername("john").password("secret").authorities("ADMIN").build());
+        userDetailsCache.putUserInCache(User.withUsername("jane").password("secret").authorities("ADMIN").build());
+
+        //when
+        userDetailsCache.onUserChanged(new UserChangedEvent("john"));
+
+        //then
+        assertNull(userDetailsCache.getUserFromCache("john"));
+        assertEquals("jane", userDetailsCache.getUserFromCache("jane").getUsername());
+    }
+
+    @Test
+    void onRoleChangedShouldEvictAllUsers() {
+        //given
+        userDetailsCache.putUserInCache(User.withUsername("john").password("secret").authorities("ADMIN").build());
+        userDetailsCache.putUserInCache(User.withUsername("jane").password("secret").authorities("CUSTOMER").build());
+
+        //when
+        userDetailsCache.onRoleChanged(RoleChangedEvent.deleted(1));
+
+        //then
+        assertNull(userDetailsCache.getUserFromCache("john"));
+        assertNull(userDetailsCache.getUserFromCache("jane"));
+    }
+}
@@ -1,5 +1,6 @@
 package com.nagarro.advanced.framework.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nagarro.advanced.framework.controller.model.LoginUser;
 import com.nagarro.advanced.framework.controller.model.UserRegistrationDto;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
@@ -85,7 +87,35 @@ class AuthenticationControllerIT {
         mock.perform(get("/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginUser))
-                .accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk());
+                .accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
+                .andExpect(jsonPath("accessToken").exists())
+                .andExpect(jsonPath("tokenType").value("Bearer"))
+                .andExpect(jsonPath("expiresIn").value(900));
+    }
+
+    @Test
+    void shouldAuthorizeRequestWithIssuedBearerToken() throws Exception {
+        //given
+        LoginUser loginUser = LoginUser.builder().username("iliescu").password("passcad").build();
+        String loginResponse = mock.perform(get("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginUser))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode token = objectMapper.readTree(loginResponse).get("accessToken");
+
+        //then
+        mock.perform(get("/roles")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token.asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("ADMIN"));
+    }
+
+    @Test
+    void shouldReturn401ForTamperedBearerToken() throws Exception {
+        mock.perform(get("/roles")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer k1.e30.c2lnbmF0dXJl"))
+                .andExpect(status().isUnauthorized());
     }
 
     @Test
@@ -107,4 +137,21 @@ class AuthenticationControllerIT {
                 .content(objectMapper.writeValueAsString(loginUser))
                 .accept(MediaType.APPLICATION_JSON)).andExpect(status().isNotFound());
     }
+
+    @Test
+    void shouldRespondWith429WhenLoginAttemptsForUsernameExceedLimit() throws Exception {
+        LoginUser loginUser = LoginUser.builder().username("stuffed").password("password").build();
+
+        for (int i = 0; i < 5; i++) {
+            mock.perform(get("/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(loginUser))
+                    .accept(MediaType.APPLICATION_JSON)).andExpect(status().isNotFound());
+        }
+
+        mock.perform(get("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginUser))
+                .accept(MediaType.APPLICATION_JSON)).andExpect(status().isTooManyRequests());
+    }
 }
@@ -1,23 +1,34 @@
 package com.nagarro.advanced.framework.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nagarro.advanced.framework.controller.model.BookDto;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -170,4 +181,171 @@ class BookControllerIT {
         this.mockMvc.perform(put(BASE_URL + "/{isbn}", "13e45e7d-3e34-43df-9366-91c66a8cc9ae"))
                 .andExpect(status().isBadRequest());
     }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void findAllShouldReturnFirstPageWithCursorAndRespondWithStatus200() throws Exception {
+        //then
+        this.mockMvc.perform(get(BASE_URL).param("size", "3"))
+                .andExpect(jsonPath("items.length()").value(3))
+                .andExpect(jsonPath("items[0].isbn").value("33e45e7d-3e34-43df-9366-91c66a8cc9ae"))
+                .andExpect(jsonPath("nextCursor").exists())
+                .andExpect(status().isOk());
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void findAllShouldFilterByPriceRangeAndRespondWithStatus200() throws Exception {
+        //then
+        this.mockMvc.perform(get(BASE_URL)
+                        .param("categoryUuid", "29e45e7d-3e34-43df-9366-91c66a8cc9ae")
+                        .param("minPrice", "15")
+                        .param("maxPrice", "20"))
+                .andExpect(jsonPath("items.length()").value(2))
+                .andExpect(jsonPath("nextCursor").doesNotExist())
+                .andExpect(status().isOk());
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void findAllShouldRespondWithStatus400ForInvalidCursor() throws Exception {
+        //then
+        this.mockMvc.perform(get(BASE_URL).param("cursor", "abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = {"ADMIN", "USER"})
+    @Test
+    void searchShouldFindSavedBookAndRespondWithStatus200() throws Exception {
+        //given
+        BookDto bookDto = new BookDto(null, "29e45e7d-3e34-43df-9366-91c66a8cc9ae", BigDecimal.valueOf(30),
+                "Zorba the Greek", "Kazantzakis", "details");
+        mockMvc.perform(post(BASE_URL).contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bookDto)))
+                .andExpect(status().isCreated());
+
+        //then
+        this.mockMvc.perform(get(BASE_URL + "/search").param("q", "zorba"))
+                .andExpect(jsonPath("[0].title").value(bookDto.getTitle()))
+                .andExpect(jsonPath("[0].author").value(bookDto.getAuthor()))
+                .andExpect(status().isOk());
+    }
+
+    @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
+    @Test
+    void importBooksShouldImportValidNdjsonRowsAndReportRejectedOnes() throws Exception {
+        //given
+        String ndjson = """
+                {"title":"Enigma Otiliei","author":"Calinescu","price":30,"categoryUuid":"29e45e7d-3e34-43df-9366-91c66a8cc9ae"}
+                {"title":"Baltagul","author":"Sadoveanu","price":-1,"categoryUuid":"29e45e7d-3e34-43df-9366-91c66a8cc9ae"}
+                {"title":"Poezii","author":"Eminescu","price":15,"categoryUuid":"29e45e7d-3e34-43df-9366-91c66a8cc9ae"}
+                {"title":"Maitreyi","author":"Eliade","price":20,"categoryUuid":"00000000-3e34-43df-9366-91c66a8cc9ae"}
+                not json
+                """;
+
+        //then
+        mockMvc.perform(post(BASE_URL + "/import").contentType("application/x-ndjson").content(ndjson))
+                .andExpect(jsonPath("totalRows").value(5))
+                .andExpect(jsonPath("imported").value(1))
+                .andExpect(jsonPath("failed").value(4))
+                .andExpect(jsonPath("errors[0].line").value(2))
+                .andExpect(jsonPath("errors[0].messages[0]").value("Price cannot be negative"))
+                .andExpect(jsonPath("errors[1].line").value(5))
+                .andExpect(jsonPath("errors[2].line").value(3))
+                .andExpect(jsonPath("errors[2].messages[0]").value("The book already exists!"))
+                .andExpect(jsonPath("errors[3].line").value(4))
+                .andExpect(jsonPath("errors[3].messages[0]").value("The category doesn't exist!"))
+                .andExpect(status().isOk());
+    }
+
+    @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = {"ADMIN", "USER"})
+    @Test
+    void importBooksShouldImportCsvRows() throws Exception {
+        //given
+        String csv = "isbn,title,author,price,categoryUuid\n" +
+                "11e45e7d-3e34-43df-9366-91c66a8cc9ae,Baltagul,Sadoveanu,25,29e45e7d-3e34-43df-9366-91c66a8cc9ae\n";
+
+        //then
+        mockMvc.perform(post(BASE_URL + "/import").contentType("text/csv").content(csv))
+                .andExpect(jsonPath("imported").value(1))
+                .andExpect(status().isOk());
+        this.mockMvc.perform(get(BASE_URL + "/{isbn}", "11e45e7d-3e34-43df-9366-91c66a8cc9ae"))
+                .andExpect(jsonPath(TITLE_FIELD).value("Baltagul"))
+                .andExpect(status().isOk());
+    }
+
+    @WithMockUser(username = "USER", password = "USERPASS", roles = "USER")
+    @Test
+    void importBooksShouldRespondWithStatus403() throws Exception {
+        //then
+        mockMvc.perform(post(BASE_URL + "/import").contentType("text/csv").content("title\n"))
+                .andExpect(status().isForbidden());
+    }
+
+    @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
+    @Test
+    void exportBooksShouldStreamCatalogAsNdjsonAndRespondWithStatus200() throws Exception {
+        //when
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(4, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Ion", first.get(TITLE_FIELD).asText());
+        assertEquals("comedy", first.get("categoryName").asText());
+        assertEquals(0, first.get("reviewCount").asLong());
+    }
+
+    @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
+    @Test
+    void exportBooksShouldGzipWhenClientAcceptsIt() throws Exception {
+        //when
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            String ndjson = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals(4, ndjson.split("\n").length);
+        }
+    }
+
+    @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
+    @Test
+    void exportBooksShouldNotGzipWhenClientRefusesIt() throws Exception {
+        //when
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/export")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(4, body.split("\n").length);
+    }
+
+    @WithMockUser(username = "USER", password = "USERPASS", roles = "USER")
+    @Test
+    void exportBooksShouldRespondWithStatus403() throws Exception {
+        //then
+        mockMvc.perform(get(BASE_URL + "/export"))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -26,6 +26,7 @@ class BookReviewControllerIT {
 
     private static final String BASE_URL = "/books/33e45e7d-3e34-43df-9366-91c66a8cc9ae" +
             "/users/89e45e7d-3e34-43df-9366-91c66a8cc9ff/reviews";
+    private static final String RATING_URL = "/books/33e45e7d-3e34-43df-9366-91c66a8cc9ae/rating";
     @Autowired
     private MockMvc mock;
 
@@ -90,14 +91,41 @@ class BookReviewControllerIT {
         //then
         mock.perform(get("/books/33e45e7d-3e34-43df-9366-91c66a8cc9ae/reviews"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].uuid").exists())
-                .andExpect(jsonPath("$[0].title").value("excellent"))
-                .andExpect(jsonPath("$[0].body").value("magic"))
-                .andExpect(jsonPath("$[0].starValue").value(5))
-                .andExpect(jsonPath("$[1].uuid").exists())
-                .andExpect(jsonPath("$[1].title").value("bad"))
-                .andExpect(jsonPath("$[1].body").value("i don t like it"))
-                .andExpect(jsonPath("$[1].starValue").value(2));
+                .andExpect(jsonPath("items[0].uuid").exists())
+                .andExpect(jsonPath("items[0].title").value("bad"))
+                .andExpect(jsonPath("items[0].body").value("i don t like it"))
+                .andExpect(jsonPath("items[0].starValue").value(2))
+                .andExpect(jsonPath("items[1].uuid").exists())
+                .andExpect(jsonPath("items[1].title").value("excellent"))
+                .andExpect(jsonPath("items[1].body").value("magic"))
+                .andExpect(jsonPath("items[1].starValue").value(5))
+                .andExpect(jsonPath("nextCursor").doesNotExist());
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void shouldReturnReviewsPageByPageWhenSortedByStars() throws Exception {
+        //then
+        mock.perform(get("/books/33e45e7d-3e34-43df-9366-91c66a8cc9ae/reviews")
+                        .param("sort", "stars").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("items.length()").value(1))
+                .andExpect(jsonPath("items[0].title").value("excellent"))
+                .andExpect(jsonPath("nextCursor").value("5_1"));
+        mock.perform(get("/books/33e45e7d-3e34-43df-9366-91c66a8cc9ae/reviews")
+                        .param("sort", "stars").param("size", "1").param("cursor", "5_1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("items.length()").value(1))
+                .andExpect(jsonPath("items[0].title").value("bad"))
+                .andExpect(jsonPath("nextCursor").doesNotExist());
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void shouldReturn400WhenGetReviewsWithUnknownSort() throws Exception {
+        //then
+        mock.perform(get("/books/33e45e7d-3e34-43df-9366-91c66a8cc9ae/reviews").param("sort", "oldest"))
+                .andExpect(status().isBadRequest());
     }
 
     @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
@@ -139,4 +167,52 @@ class BookReviewControllerIT {
                         "/users/89e45e7d-3e34-43df-9366-91c66a8cc9ff/reviews" + "/29e45e7d-3e34-43df-9366-91c66a8cc9mm"))
                 .andExpect(status().isBadRequest());
     }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void shouldReturn200WhenGetRatingForValidInput() throws Exception {
+        //then
+        mock.perform(get(RATING_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("reviewCount").value(2))
+                .andExpect(jsonPath("averageStars").value(3.5))
+                .andExpect(jsonPath("histogram.2").value(1))
+                .andExpect(jsonPath("histogram.5").value(1));
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void shouldKeepRatingInSyncWhenReviewsChange() throws Exception {
+        //given
+        BookReviewDto reviewDto = BookReviewDto.builder().title("fine").body("ok").starValue(3).build();
+        BookReviewDto updatedReview = BookReviewDto.builder().title("bad").body("not so bad").starValue(4).build();
+
+        //when
+        mock.perform(post(BASE_URL).contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(reviewDto)))
+                .andExpect(status().isCreated());
+        mock.perform(put(BASE_URL + "/66e45e7d-3e34-43df-9366-91c66a8cc9mm").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updatedReview)))
+                .andExpect(status().isNoContent());
+        mock.perform(delete(BASE_URL + "/89e45e7d-3e34-43df-9366-91c66a8cc9mm"))
+                .andExpect(status().isNoContent());
+
+        //then
+        mock.perform(get(RATING_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("reviewCount").value(2))
+                .andExpect(jsonPath("averageStars").value(3.5))
+                .andExpect(jsonPath("histogram.2").value(0))
+                .andExpect(jsonPath("histogram.3").value(1))
+                .andExpect(jsonPath("histogram.4").value(1))
+                .andExpect(jsonPath("histogram.5").value(0));
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void shouldReturn404WhenGetRatingNonExistentBook() throws Exception {
+        //then
+        mock.perform(get("/books/73e45e7d-3e34-43df-9366-91c66a8cc9ae/rating"))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -3,6 +3,7 @@ package com.nagarro.advanced.framework.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nagarro.advanced.framework.controller.model.BookDto;
 import com.nagarro.advanced.framework.controller.model.CartDto;
+import com.nagarro.advanced.framework.controller.model.CartItemDto;
 import com.nagarro.advanced.framework.persistence.entity.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,9 +41,9 @@ class CartControllerIT {
         //given
         String bookIsbn = "33e45e7d-3e34-43df-9366-91c66a8cc9ae";
         User user = User.builder().uuid("89e45e7d-3e34-43df-9366-91c66a8cc9ff").build();
-        List<BookDto> books = List.of(BookDto.builder().build());
+        List<CartItemDto> items = List.of(new CartItemDto(BookDto.builder().build(), 1));
         CartDto cartDto = CartDto.builder().userUuid(user.getUuid()).build();
-        cartDto.setBooks(books);
+        cartDto.setItems(items);
 
         //then
         mock.perform(put(CART_URL + user.getUuid() + "/books/" + bookIsbn)
@@ -51,7 +52,24 @@ class CartControllerIT {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("userUuid").exists())
-                .andExpect(jsonPath("books").isNotEmpty());
+                .andExpect(jsonPath("items").isNotEmpty());
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void addBookToCartTwiceShouldIncrementQuantity() throws Exception {
+        //given
+        String userUuid = "89e45e7d-3e34-43df-9366-91c66a8cc9ff";
+        String bookIsbn = "33e45e7d-3e34-43df-9366-91c66a8cc9ae";
+        mock.perform(put(CART_URL + userUuid + "/books/" + bookIsbn))
+                .andExpect(status().isOk());
+
+        //then
+        mock.perform(put(CART_URL + userUuid + "/books/" + bookIsbn))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("items.length()").value(1))
+                .andExpect(jsonPath("items[0].book.isbn").value(bookIsbn))
+                .andExpect(jsonPath("items[0].quantity").value(2));
     }
 
     @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
@@ -89,7 +107,7 @@ class CartControllerIT {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent())
                 .andExpect(jsonPath("userUuid").exists())
-                .andExpect(jsonPath("books").isEmpty());
+                .andExpect(jsonPath("items").isEmpty());
     }
 
     @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
@@ -0,0 +1,182 @@
+package com.nagarro.advanced.framework.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nagarro.advanced.framework.controller.model.CheckoutDto;
+import com.nagarro.advanced.framework.controller.model.OrderDto;
+import com.nagarro.advanced.framework.persistence.QueryCountInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Sql(value = "classpath:test-data/insert_cart_test_data.sql")
+@Sql(value = "classpath:test-data/truncate-all-tables.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class OrderControllerIT {
+
+    private static final String CHECKOUT_URL = "/orders/checkout";
+    private static final String CART_URL = "/carts/users/";
+    private static final String USER_UUID = "89e45e7d-3e34-43df-9366-91c66a8cc9ff";
+    private static final String ION_ISBN = "33e45e7d-3e34-43df-9366-91c66a8cc9ae";
+    private static final String POEZII_ISBN = "99e45e7d-3e34-43df-9366-91c66a8cc9ae";
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MockMvc mock;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void checkoutShouldTurnCartIntoOrderAndClearIt() throws Exception {
+        //given
+        mock.perform(put(CART_URL + USER_UUID + "/books/" + ION_ISBN)).andExpect(status().isOk());
+        mock.perform(put(CART_URL + USER_UUID + "/books/" + ION_ISBN)).andExpect(status().isOk());
+        mock.perform(put(CART_URL + USER_UUID + "/books/" + POEZII_ISBN)).andExpect(status().isOk());
+
+        //then
+        mock.perform(post(CHECKOUT_URL)
+                        .header("Idempotency-Key", "checkout-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CheckoutDto.builder().userUuid(USER_UUID).build())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("uuid").exists())
+                .andExpect(jsonPath("items.length()").value(2))
+                .andExpect(jsonPath("total").value(89.4))
+                .andExpect(jsonPath("deliveryAddress").value("Craiova"));
+        mock.perform(get(CART_URL + USER_UUID + "/books"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        assertEquals(2, jdbcTemplate.queryForObject("select count(*) from tbl_order_book", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from tbl_cart_book", Integer.class));
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void checkoutShouldReturnSameOrderForRepeatedIdempotencyKey() throws Exception {
+        //given
+        mock.perform(put(CART_URL + USER_UUID + "/books/" + ION_ISBN)).andExpect(status().isOk());
+        String body = objectMapper.writeValueAsString(CheckoutDto.builder().userUuid(USER_UUID).build());
+        MvcResult first = mock.perform(post(CHECKOUT_URL)
+                        .header("Idempotency-Key", "checkout-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn();
+        OrderDto placed = objectMapper.readValue(first.getResponse().getContentAsString(), OrderDto.class);
+
+        //then
+        mock.perform(post(CHECKOUT_URL)
+                        .header("Idempotency-Key", "checkout-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("uuid").value(placed.getUuid()))
+                .andExpect(jsonPath("items.length()").value(1));
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from tbl_order", Integer.class));
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void checkoutShouldReturnBadRequestForEmptyCart() throws Exception {
+        mock.perform(post(CHECKOUT_URL)
+                        .header("Idempotency-Key", "checkout-3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CheckoutDto.builder().userUuid(USER_UUID).build())))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void checkoutShouldReturnBadRequestWithoutIdempotencyKey() throws Exception {
+        mock.perform(post(CHECKOUT_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CheckoutDto.builder().userUuid(USER_UUID).build())))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void getOrdersShouldReturnNewestFirstInTwoStatementsPerPage() throws Exception {
+        //given
+        insertOrders(60);
+        QueryCountInspector.reset();
+
+        //when
+        String firstPage = mock.perform(get("/users/" + USER_UUID + "/orders?size=50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(50))
+                .andExpect(jsonPath("$.items[0].uuid").value("order-60"))
+                .andExpect(jsonPath("$.items[0].items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].items[0].book.categoryUuid").exists())
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        QueryCountInspector.assertStatementCountAtMost(2);
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        //then
+        mock.perform(get("/users/" + USER_UUID + "/orders?size=50&cursor=" + nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(10))
+                .andExpect(jsonPath("$.items[0].uuid").value("order-10"))
+                .andExpect(jsonPath("$.items[9].uuid").value("order-1"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void getOrdersShouldReturnNotFoundForUnknownUser() throws Exception {
+        mock.perform(get("/users/" + UUID.randomUUID() + "/orders"))
+                .andExpect(status().isNotFound());
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void getOrdersShouldReturnBadRequestForInvalidCursor() throws Exception {
+        mock.perform(get("/users/" + USER_UUID + "/orders?cursor=abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(username = "user", password = "ADMINPASS", roles = "USER")
+    @Test
+    void getOrdersShouldReturnBadRequestForOutOfRangeCursorDate() throws Exception {
+        mock.perform(get("/users/" + USER_UUID + "/orders?cursor=" + Long.MAX_VALUE + "_1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void insertOrders(int count) {
+        List<Object[]> orders = new ArrayList<>(count);
+        List<Object[]> lines = new ArrayList<>(count * 2);
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 10, 0);
+        for (int i = 1; i <= count; i++) {
+            orders.add(new Object[]{i, "order-" + i, USER_UUID, 1, "Craiova", "Craiova",
+                    Timestamp.valueOf(start.plusMinutes(i / 2)), 52.2});
+            lines.add(new Object[]{i, 1, 1, 37.2});
+            lines.add(new Object[]{i, 2, 1, 15});
+        }
+        jdbcTemplate.batchUpdate("insert into tbl_order (id, uuid, user_uuid, user_id, billing_address, " +
+                "delivery_address, creation_date, total) values (?, ?, ?, ?, ?, ?, ?, ?)", orders);
+        jdbcTemplate.batchUpdate("insert into tbl_order_book (order_id, book_id, quantity, unit_price) " +
+                "values (?, ?, ?, ?)", lines);
+    }
+}
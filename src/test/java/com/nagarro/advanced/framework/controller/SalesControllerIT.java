@@ -0,0 +1,105 @@
+package com.nagarro.advanced.framework.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nagarro.advanced.framework.controller.model.CheckoutDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Sql(value = "classpath:test-data/insert_cart_test_data.sql")
+@Sql(value = "classpath:test-data/truncate-all-tables.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class SalesControllerIT {
+
+    private static final String USER_UUID = "89e45e7d-3e34-43df-9366-91c66a8cc9ff";
+    private static final String CATEGORY_UUID = "29e45e7d-3e34-43df-9366-91c66a8cc9ae";
+    private static final String ION_ISBN = "33e45e7d-3e34-43df-9366-91c66a8cc9ae";
+    private static final String POEZII_ISBN = "99e45e7d-3e34-43df-9366-91c66a8cc9ae";
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MockMvc mock;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @WithMockUser(username = "admin", password = "ADMINPASS", roles = {"USER", "ADMIN"})
+    @Test
+    void salesShouldBeServedFromRollupsUpdatedAtCheckout() throws Exception {
+        //given
+        checkout(ION_ISBN, "sales-1");
+        checkout(POEZII_ISBN, "sales-2");
+        checkout(POEZII_ISBN, "sales-3");
+        String today = LocalDate.now().toString();
+
+        //then
+        mock.perform(get("/sales/daily?from=" + today + "&to=" + today))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].day").value(today))
+                .andExpect(jsonPath("$[0].orders").value(3))
+                .andExpect(jsonPath("$[0].units").value(3))
+                .andExpect(jsonPath("$[0].revenue").value(67.2));
+        mock.perform(get("/sales/categories?from=" + today + "&to=" + today))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].categoryUuid").value(CATEGORY_UUID))
+                .andExpect(jsonPath("$[0].units").value(3))
+                .andExpect(jsonPath("$[0].revenue").value(67.2));
+    }
+
+    @WithMockUser(username = "admin", password = "ADMINPASS", roles = {"USER", "ADMIN"})
+    @Test
+    void rebuildShouldRestoreRollupsFromRawOrders() throws Exception {
+        //given
+        checkout(ION_ISBN, "sales-4");
+        checkout(POEZII_ISBN, "sales-5");
+        jdbcTemplate.update("update tbl_sales_daily set order_count = 0, units = 0, revenue = 0");
+        jdbcTemplate.update("delete from tbl_sales_category_daily");
+        String today = LocalDate.now().toString();
+
+        //when
+        mock.perform(post("/sales/daily/" + today + "/rebuild"))
+                .andExpect(status().isNoContent());
+
+        //then
+        mock.perform(get("/sales/daily?from=" + today + "&to=" + today))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].orders").value(2))
+                .andExpect(jsonPath("$[0].units").value(2))
+                .andExpect(jsonPath("$[0].revenue").value(52.2));
+        mock.perform(get("/sales/categories?from=" + today + "&to=" + today))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].revenue").value(52.2));
+    }
+
+    @WithMockUser(username = "admin", password = "ADMINPASS", roles = "ADMIN")
+    @Test
+    void dailySalesShouldRejectInvertedRange() throws Exception {
+        mock.perform(get("/sales/daily?from=2026-02-01&to=2026-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void checkout(String isbn, String idempotencyKey) throws Exception {
+        mock.perform(put("/carts/users/" + USER_UUID + "/books/" + isbn)).andExpect(status().isOk());
+        mock.perform(post("/orders/checkout")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CheckoutDto.builder().userUuid(USER_UUID).build())))
+                .andExpect(status().isCreated());
+    }
+}
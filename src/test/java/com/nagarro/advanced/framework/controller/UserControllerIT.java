@@ -1,8 +1,11 @@
 package com.nagarro.advanced.framework.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nagarro.advanced.framework.controller.model.RoleDto;
 import com.nagarro.advanced.framework.controller.model.UserDto;
+import com.nagarro.advanced.framework.persistence.QueryCountInspector;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -11,9 +14,13 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -21,6 +28,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -37,6 +45,11 @@ class UserControllerIT {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void resetQueryCount() {
+        QueryCountInspector.reset();
+    }
+
     @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
     @Test
     void findAllUsersShouldRespondWithStatus200ForValidInputWithoutRoleName() throws Exception {
@@ -44,6 +57,7 @@ class UserControllerIT {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("application/json"));
+        QueryCountInspector.assertStatementCountAtMost(1);
     }
 
     @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
@@ -55,6 +69,80 @@ class UserControllerIT {
                 .andExpect(content().contentType("application/json"));
     }
 
+    @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
+    @Test
+    void findAllUsersShouldReturnPagesLinkedByCursor() throws Exception {
+        //when
+        String firstPage = mockMvc.perform(get(USERS_URL + "?size=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].username").value("pauna123"))
+                .andExpect(jsonPath("$.items[0].password").doesNotExist())
+                .andExpect(jsonPath("$.items[0].role.name").value("ADMIN"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        //then
+        mockMvc.perform(get(USERS_URL + "?size=2&cursor=" + nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].username").value("iliescu"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
+    @Test
+    void findAllUsersShouldFilterByRoleName() throws Exception {
+        mockMvc.perform(get(USERS_URL + "?roleName=admin"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3));
+        QueryCountInspector.assertStatementCountAtMost(2);
+    }
+
+    @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
+    @Test
+    void findAllUsersShouldRespondWithStatus404ForUnknownRoleName() throws Exception {
+        mockMvc.perform(get(USERS_URL + "?roleName=guest"))
+                .andExpect(status().isNotFound());
+    }
+
+    @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
+    @Test
+    void findAllUsersShouldRespondWithStatus400ForInvalidCursor() throws Exception {
+        mockMvc.perform(get(USERS_URL + "?cursor=abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
+    @Test
+    void exportUsersShouldStreamUsersAsNdjsonAndRespondWithStatus200() throws Exception {
+        //when
+        MvcResult result = mockMvc.perform(get(USERS_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("pauna123", first.get("username").asText());
+        assertEquals("ADMIN", first.get("roleName").asText());
+        assertFalse(first.has("password"));
+        QueryCountInspector.assertStatementCountAtMost(1);
+    }
+
+    @WithMockUser(username = "USER", password = "USERPASS", roles = "USER")
+    @Test
+    void exportUsersShouldRespondWithStatus403() throws Exception {
+        mockMvc.perform(get(USERS_URL + "/export"))
+                .andExpect(status().isForbidden());
+    }
+
     @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
     @Test
     void findUserByUuidShouldRespondWithStatus200ForValidUuid() throws Exception {
@@ -69,7 +157,9 @@ class UserControllerIT {
                 .andExpect(jsonPath("firstName").value("radu"))
                 .andExpect(jsonPath("lastName").value("pauna"))
                 .andExpect(jsonPath("address").value("Cluj"))
-                .andExpect(jsonPath("phoneNumber").value("0773458967"));
+                .andExpect(jsonPath("phoneNumber").value("0773458967"))
+                .andExpect(jsonPath("role.name").value("ADMIN"));
+        QueryCountInspector.assertStatementCountAtMost(1);
     }
 
     @WithMockUser(username = "ADMIN", password = "ADMINPASS", roles = "ADMIN")
@@ -1,5 +1,6 @@
 package com.nagarro.advanced.framework.facade;
 
+import com.nagarro.advanced.framework.controller.model.LoginResponse;
 import com.nagarro.advanced.framework.controller.model.LoginUser;
 import com.nagarro.advanced.framework.controller.model.UserRegistrationDto;
 import com.nagarro.advanced.framework.controller.model.UserRegistrationResult;
@@ -7,6 +8,8 @@ import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.facade.convertor.Converter;
 import com.nagarro.advanced.framework.persistence.entity.Role;
 import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.security.BearerTokenService;
+import com.nagarro.advanced.framework.security.LoginRateLimiter;
 import com.nagarro.advanced.framework.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,10 +20,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +35,7 @@ class AuthFacadeTest {
 
     private static final String MATCHING_PASSWORD_ERROR = "Passwords doesn't match";
     public static final String DUPLICATE_DATA = "Some of users details already exists!";
+    private static final String CLIENT_IP = "127.0.0.1";
 
     @InjectMocks
     private AuthenticationFacade authenticationFacade;
@@ -41,6 +49,12 @@ class AuthFacadeTest {
     @Mock
     private Converter<User, UserRegistrationDto> userRegistrationMapper;
 
+    @Mock
+    private BearerTokenService tokenService;
+
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
     @Test
     void registerUserShouldRegisterUserInDbForValidInput() {
         //given
@@ -57,7 +71,7 @@ class AuthFacadeTest {
         when(userService.checkNewUserDataIsUnique(userRegistrationDto)).thenReturn(true);
         when(userRegistrationMapper.toEntity(userRegistrationDto)).thenReturn(user);
         when(userService.register(userRegistrationDto, user)).thenReturn(user);
-        UserRegistrationResult actualUser = authenticationFacade.register(userRegistrationDto);
+        UserRegistrationResult actualUser = authenticationFacade.register(userRegistrationDto, CLIENT_IP);
 
         //then
         assertEquals(expectedUser.getAddress(), actualUser.getAddress());
@@ -79,7 +93,7 @@ class AuthFacadeTest {
 
         //when
         BadCredentialsException badCredentialsException = assertThrows(BadCredentialsException.class, ()
-                -> authenticationFacade.register(userRegistrationDto));
+                -> authenticationFacade.register(userRegistrationDto, CLIENT_IP));
 
         //then
         assertEquals(MATCHING_PASSWORD_ERROR, badCredentialsException.getMessage());
@@ -96,7 +110,7 @@ class AuthFacadeTest {
         //when
         when(userService.checkNewUserDataIsUnique(userRegistrationDto)).thenReturn(false);
         AppException appException = assertThrows(AppException.class, ()
-                -> authenticationFacade.register(userRegistrationDto));
+                -> authenticationFacade.register(userRegistrationDto, CLIENT_IP));
 
         //then
         assertEquals(DUPLICATE_DATA, appException.getMessage());
@@ -104,7 +118,7 @@ class AuthFacadeTest {
     }
 
     @Test
-    void loginShouldReturnSuccessfullyMessageForValidInput() {
+    void loginShouldReturnBearerTokenForValidInput() {
         //given
         LoginUser loginUser = LoginUser.builder().username("gigel").password("password").build();
         User actualUser = User.builder().username("gigel").password("password").build();
@@ -112,10 +126,32 @@ class AuthFacadeTest {
         //when
         when(userService.findUserByUsername(loginUser.getUsername())).thenReturn(Optional.of(actualUser));
         when(encoder.matches(actualUser.getPassword(), loginUser.getPassword())).thenReturn(true);
-        String loginMessage = authenticationFacade.login(loginUser);
+        when(tokenService.issue(actualUser)).thenReturn("k1.claims.signature");
+        when(tokenService.getTtl()).thenReturn(Duration.ofMinutes(15));
+        LoginResponse loginResponse = authenticationFacade.login(loginUser, CLIENT_IP);
+
+        //then
+        assertEquals("k1.claims.signature", loginResponse.getAccessToken());
+        assertEquals("Bearer", loginResponse.getTokenType());
+        assertEquals(900, loginResponse.getExpiresIn());
+    }
+
+    @Test
+    void loginShouldRehashPasswordWithOutdatedCost() {
+        //given
+        LoginUser loginUser = LoginUser.builder().username("gigel").password("password").build();
+        User actualUser = User.builder().username("gigel").password("$2a$04$outdated").build();
+
+        //when
+        when(userService.findUserByUsername(loginUser.getUsername())).thenReturn(Optional.of(actualUser));
+        when(encoder.matches("password", "$2a$04$outdated")).thenReturn(true);
+        when(encoder.upgradeEncoding("$2a$04$outdated")).thenReturn(true);
+        when(encoder.encode("password")).thenReturn("$2a$12$current");
+        when(tokenService.getTtl()).thenReturn(Duration.ofMinutes(15));
+        authenticationFacade.login(loginUser, CLIENT_IP);
 
         //then
-        assertEquals("Login successfully!", loginMessage);
+        verify(userService).upgradePassword(actualUser, "$2a$12$current");
     }
 
     @Test
@@ -127,7 +163,7 @@ class AuthFacadeTest {
         //when
         when(userService.findUserByUsername(loginUser.getUsername())).thenReturn(Optional.of(actualUser));
         AppException appException = assertThrows(AppException.class, ()
-                -> authenticationFacade.login(loginUser));
+                -> authenticationFacade.login(loginUser, CLIENT_IP));
 
         //then
         assertEquals("Passwords doesn't match!", appException.getMessage());
@@ -141,10 +177,26 @@ class AuthFacadeTest {
 
         //when
         AppException appException = assertThrows(AppException.class, ()
-                -> authenticationFacade.login(loginUser));
+                -> authenticationFacade.login(loginUser, CLIENT_IP));
 
         //then
         assertEquals("No account associate with this username!", appException.getMessage());
         assertEquals(HttpStatus.NOT_FOUND, appException.getHttpStatus());
     }
+
+    @Test
+    void loginShouldRespondWith429BeforeHashingWhenThrottled() {
+        //given
+        LoginUser loginUser = LoginUser.builder().username("gigel").password("password").build();
+
+        //when
+        doThrow(new AppException("Too many authentication attempts, please try again later!", HttpStatus.TOO_MANY_REQUESTS))
+                .when(loginRateLimiter).check(CLIENT_IP, "gigel");
+        AppException appException = assertThrows(AppException.class, ()
+                -> authenticationFacade.login(loginUser, CLIENT_IP));
+
+        //then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, appException.getHttpStatus());
+        verifyNoInteractions(userService, encoder);
+    }
 }
@@ -1,28 +1,38 @@
 package com.nagarro.advanced.framework.facade;
 
+import com.nagarro.advanced.framework.cache.BookDtoCache;
 import com.nagarro.advanced.framework.controller.model.BookDto;
+import com.nagarro.advanced.framework.controller.model.BookSearchHitDto;
+import com.nagarro.advanced.framework.controller.model.CursorPage;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.facade.convertor.Converter;
 import com.nagarro.advanced.framework.persistence.entity.Book;
 import com.nagarro.advanced.framework.persistence.entity.Category;
+import com.nagarro.advanced.framework.search.BookSearchIndex;
+import com.nagarro.advanced.framework.search.SearchHit;
 import com.nagarro.advanced.framework.service.BookService;
 import com.nagarro.advanced.framework.service.CategoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +50,12 @@ class BookFacadeTest {
     @Mock
     private BookService bookService;
 
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Spy
+    private BookDtoCache bookDtoCache = new BookDtoCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
     @InjectMocks
     private BookFacade bookFacade;
 
@@ -90,7 +106,7 @@ class BookFacadeTest {
     @Test
     void findBookByIsbnShouldReturnBookForValidIsbn() {
         //given
-        Book expectedBook = Book.builder().build();
+        Book expectedBook = Book.builder().isbn("99e45e7d-3e34-43df-9366-91c66a8cc9ae").build();
         BookDto expectedBookDto = BookDto.builder().build();
 
         //when
@@ -102,6 +118,24 @@ class BookFacadeTest {
         assertEquals(expectedBookDto, actualBookDto);
     }
 
+    @Test
+    void findBookByIsbnShouldServeRepeatedLookupsFromCache() {
+        //given
+        String isbn = "33e45e7d-3e34-43df-9366-91c66a8cc9ae";
+        Book expectedBook = Book.builder().isbn(isbn).build();
+        BookDto expectedBookDto = BookDto.builder().isbn(isbn).build();
+
+        //when
+        when(bookService.findByIsbn(isbn)).thenReturn(Optional.of(expectedBook));
+        when(bookConverter.toDto(expectedBook)).thenReturn(expectedBookDto);
+        bookFacade.findBookByIsbn(isbn);
+        BookDto actualBookDto = bookFacade.findBookByIsbn(isbn);
+
+        //then
+        assertEquals(expectedBookDto, actualBookDto);
+        verify(bookService, times(1)).findByIsbn(isbn);
+    }
+
     @Test
     void deleteBookByIsbnShouldDeleteBookFromDataBaseForExistentIsbn() {
         //given
@@ -147,4 +181,70 @@ class BookFacadeTest {
         //then
         verify(bookService).update(book.getIsbn(), newBook);
     }
+
+    @Test
+    void findBooksShouldReturnNextCursorWhenMoreBooksExist() {
+        //given
+        Book firstBook = Book.builder().id(3L).build();
+        Book secondBook = Book.builder().id(7L).build();
+        Book thirdBook = Book.builder().id(9L).build();
+        BookDto firstBookDto = BookDto.builder().title("first").build();
+        BookDto secondBookDto = BookDto.builder().title("second").build();
+
+        //when
+        when(bookService.findPageAfter(2L, null, null, null, 3))
+                .thenReturn(List.of(firstBook, secondBook, thirdBook));
+        when(bookConverter.toDto(firstBook)).thenReturn(firstBookDto);
+        when(bookConverter.toDto(secondBook)).thenReturn(secondBookDto);
+        CursorPage<BookDto> page = bookFacade.findBooks("2", 2, null, null, null);
+
+        //then
+        assertEquals(List.of(firstBookDto, secondBookDto), page.getItems());
+        assertEquals("7", page.getNextCursor());
+    }
+
+    @Test
+    void findBooksShouldCapPageSizeAndReturnNoCursorOnLastPage() {
+        //given
+        Book book = Book.builder().id(1L).build();
+        BookDto bookDto = BookDto.builder().build();
+
+        //when
+        when(bookService.findPageAfter(0L, null, null, null, 101)).thenReturn(List.of(book));
+        when(bookConverter.toDto(book)).thenReturn(bookDto);
+        CursorPage<BookDto> page = bookFacade.findBooks(null, 5000, null, null, null);
+
+        //then
+        assertEquals(List.of(bookDto), page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void findBooksShouldThrowExceptionForInvalidCursor() {
+        //when
+        AppException appException = assertThrows(AppException.class, ()
+                -> bookFacade.findBooks("not-a-cursor", 10, null, null, null));
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, appException.getHttpStatus());
+    }
+
+    @Test
+    void searchBooksShouldMapIndexHitsToDtos() {
+        //when
+        when(bookSearchIndex.search("ion", 10)).thenReturn(List.of(new SearchHit("1", "Ion", "Rebreanu", 2.5)));
+        List<BookSearchHitDto> hits = bookFacade.searchBooks("ion", 10);
+
+        //then
+        assertEquals(List.of(new BookSearchHitDto("1", "Ion", "Rebreanu", 2.5)), hits);
+    }
+
+    @Test
+    void searchBooksShouldThrowExceptionForBlankQuery() {
+        //when
+        AppException appException = assertThrows(AppException.class, () -> bookFacade.searchBooks(" ", 10));
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, appException.getHttpStatus());
+    }
 }
@@ -1,11 +1,13 @@
 package com.nagarro.advanced.framework.facade;
 
 import com.nagarro.advanced.framework.controller.model.BookReviewDto;
+import com.nagarro.advanced.framework.controller.model.CursorPage;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.facade.convertor.impl.BookReviewMapper;
 import com.nagarro.advanced.framework.persistence.entity.Book;
 import com.nagarro.advanced.framework.persistence.entity.BookReview;
 import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.persistence.projection.BookReviewRow;
 import com.nagarro.advanced.framework.service.BookReviewService;
 import com.nagarro.advanced.framework.service.BookService;
 import com.nagarro.advanced.framework.service.UserService;
@@ -15,12 +17,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -89,21 +93,53 @@ class BookReviewFacadeTest {
     }
 
     @Test
-    void shouldReturnReviewsWhenGetAll() {
+    void shouldReturnNewestReviewsPageWithCursorWhenGetReviews() {
         //given
-        Book book = Book.builder().build();
-        String bookIsbn = book.getIsbn();
-        List<BookReview> expectedReviews = List.of(BookReview.builder().build());
-        List<BookReviewDto> expectedReviewListDto = List.of(BookReviewDto.builder().build());
+        Book book = Book.builder().id(1L).isbn(BOOK_ISBN).build();
+        List<BookReviewRow> rows = List.of(new BookReviewRow(9L, "a", "first", "body", 4),
+                new BookReviewRow(8L, "b", "second", "body", 2),
+                new BookReviewRow(7L, "c", "third", "body", 5));
 
         //when
-        when(bookService.findByIsbn(bookIsbn)).thenReturn(Optional.of(book));
-        when(reviewConverter.convertToReviewList(expectedReviews)).thenReturn(expectedReviewListDto);
-        when(reviewService.findAll(bookIsbn)).thenReturn(expectedReviews);
-        List<BookReviewDto> actualReviewsDto = reviewFacade.getAll(bookIsbn);
+        when(bookService.findByIsbn(BOOK_ISBN)).thenReturn(Optional.of(book));
+        when(reviewService.findNewestBefore(book, Long.MAX_VALUE, 3)).thenReturn(rows);
+        CursorPage<BookReviewDto> page = reviewFacade.getReviews(BOOK_ISBN, null, 2, "newest");
+
+        //then
+        assertEquals(2, page.getItems().size());
+        assertEquals("first", page.getItems().get(0).getTitle());
+        assertEquals("8", page.getNextCursor());
+    }
+
+    @Test
+    void shouldContinueTopRatedReviewsFromCursorWhenGetReviews() {
+        //given
+        Book book = Book.builder().id(1L).isbn(BOOK_ISBN).build();
+        List<BookReviewRow> rows = List.of(new BookReviewRow(3L, "a", "first", "body", 4));
+
+        //when
+        when(bookService.findByIsbn(BOOK_ISBN)).thenReturn(Optional.of(book));
+        when(reviewService.findTopRatedBefore(book, 5, 7L, 21)).thenReturn(rows);
+        CursorPage<BookReviewDto> page = reviewFacade.getReviews(BOOK_ISBN, "5_7", 20, "stars");
+
+        //then
+        assertEquals(1, page.getItems().size());
+        assertEquals(4, page.getItems().get(0).getStarValue());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void shouldReturn400WhenGetReviewsWithInvalidCursor() {
+        //given
+        Book book = Book.builder().id(1L).isbn(BOOK_ISBN).build();
+
+        //when
+        when(bookService.findByIsbn(BOOK_ISBN)).thenReturn(Optional.of(book));
+        AppException thrown = Assertions.assertThrows(AppException.class, () ->
+                reviewFacade.getReviews(BOOK_ISBN, "5", 20, "stars"));
 
         //then
-        assertEquals(expectedReviewListDto, actualReviewsDto);
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, thrown.getHttpStatus());
     }
 
     @Test
@@ -227,7 +263,7 @@ class BookReviewFacadeTest {
 
         //when
         AppException thrown = Assertions.assertThrows(AppException.class, () ->
-                reviewFacade.getAll(bookIsbn));
+                reviewFacade.getReviews(bookIsbn, null, 20, "newest"));
 
         //then
         Assertions.assertEquals(BOOK_DOES_NOT_EXIST, thrown.getMessage());
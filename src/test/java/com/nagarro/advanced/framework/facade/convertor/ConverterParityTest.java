@@ -0,0 +1,171 @@
+package com.nagarro.advanced.framework.facade.convertor;
+
+import com.nagarro.advanced.framework.controller.model.BookDto;
+import com.nagarro.advanced.framework.controller.model.BookReviewDto;
+import com.nagarro.advanced.framework.controller.model.CartDto;
+import com.nagarro.advanced.framework.controller.model.CategoryDto;
+import com.nagarro.advanced.framework.controller.model.RoleDto;
+import com.nagarro.advanced.framework.controller.model.UserDto;
+import com.nagarro.advanced.framework.controller.model.UserRegistrationDto;
+import com.nagarro.advanced.framework.facade.convertor.impl.BookMapperImpl;
+import com.nagarro.advanced.framework.facade.convertor.impl.BookReviewMapperImpl;
+import com.nagarro.advanced.framework.facade.convertor.impl.CartMapperImpl;
+import com.nagarro.advanced.framework.facade.convertor.impl.CategoryMapperImpl;
+import com.nagarro.advanced.framework.facade.convertor.impl.RoleMapperImpl;
+import com.nagarro.advanced.framework.facade.convertor.impl.UserMapperImpl;
+import com.nagarro.advanced.framework.facade.convertor.impl.UserRegistrationMapperImpl;
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.entity.BookReview;
+import com.nagarro.advanced.framework.persistence.entity.Cart;
+import com.nagarro.advanced.framework.persistence.entity.CartBook;
+import com.nagarro.advanced.framework.persistence.entity.Category;
+import com.nagarro.advanced.framework.persistence.entity.Role;
+import com.nagarro.advanced.framework.persistence.entity.User;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConverterParityTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final BookMapperImpl bookMapper = new BookMapperImpl();
+    private final CartMapperImpl cartMapper = new CartMapperImpl(bookMapper);
+    private final RoleMapperImpl roleMapper = new RoleMapperImpl();
+    private final UserMapperImpl userMapper = new UserMapperImpl(roleMapper);
+    private final BookReviewMapperImpl reviewMapper = new BookReviewMapperImpl();
+    private final CategoryMapperImpl categoryMapper = new CategoryMapperImpl();
+    private final UserRegistrationMapperImpl registrationMapper = new UserRegistrationMapperImpl();
+
+    @Test
+    void bookMapperShouldMatchModelMapper() {
+        //given
+        Book book = book("33e45e7d-3e34-43df-9366-91c66a8cc9ae");
+        BookDto bookDto = new BookDto("isbn", "29e45e7d-3e34-43df-9366-91c66a8cc9ae", BigDecimal.TEN, "Ion",
+                "Rebreanu", "details");
+
+        //when
+        BookDto expectedDto = modelMapper.map(book, BookDto.class);
+        Book expectedBook = modelMapper.map(bookDto, Book.class);
+        Book actualBook = bookMapper.toEntity(bookDto);
+
+        //then
+        assertEquals(expectedDto, bookMapper.toDto(book));
+        assertEquals(expectedBook.getCategory().getUuid(), actualBook.getCategory().getUuid());
+        assertEquals(expectedBook.getIsbn(), actualBook.getIsbn());
+        assertEquals(expectedBook.getPrice(), actualBook.getPrice());
+        assertEquals(expectedBook.getTitle(), actualBook.getTitle());
+    }
+
+    @Test
+    void cartMapperShouldMatchModelMapper() {
+        //given
+        User user = User.builder().uuid("89e45e7d-3e34-43df-9366-91c66a8cc9ff").build();
+        Cart cart = new Cart(user);
+        cart.getItems().add(CartBook.builder().book(book("1")).quantity(1).build());
+        cart.getItems().add(CartBook.builder().book(book("2")).quantity(3).build());
+
+        //then
+        assertEquals(modelMapper.map(cart, CartDto.class), cartMapper.toDto(cart));
+    }
+
+    @Test
+    void userMapperShouldMatchModelMapper() {
+        //given
+        User user = User.builder().uuid("89e45e7d-3e34-43df-9366-91c66a8cc9ff").username("vlad").password("pass")
+                .email("vlad@gmail.com").firstName("vlad").lastName("popescu").address("Craiova")
+                .phoneNumber("0725984687").role(new Role(3L, "user")).build();
+
+        //when
+        UserDto expectedDto = modelMapper.map(user, UserDto.class);
+        UserDto actualDto = userMapper.toDto(user);
+
+        //then
+        assertEquals(expectedDto, actualDto);
+        assertEquals(modelMapper.map(actualDto, User.class).getRole().getId(), userMapper.toEntity(actualDto).getRole().getId());
+    }
+
+    @Test
+    void reviewMapperShouldMatchModelMapper() {
+        //given
+        BookReview review = BookReview.builder().uuid("uuid").title("excellent").body("magic").starValue(5).build();
+        BookReviewDto reviewDto = new BookReviewDto("uuid", "bad", "boring", 2);
+
+        //then
+        assertEquals(modelMapper.map(review, BookReviewDto.class), reviewMapper.toDto(review));
+        assertEquals(modelMapper.map(reviewDto, BookReview.class).getStarValue(),
+                reviewMapper.toEntity(reviewDto).getStarValue());
+    }
+
+    @Test
+    void userRegistrationMapperShouldMatchModelMapper() {
+        //given
+        UserRegistrationDto registrationDto = UserRegistrationDto.builder().username("vlad").password("pass")
+                .matchingPassword("pass").email("vlad@gmail.com").firstName("vlad").lastName("popescu")
+                .address("Craiova").phoneNumber("0725984687").roleName("USER").build();
+
+        //when
+        User expectedUser = modelMapper.map(registrationDto, User.class);
+        User actualUser = registrationMapper.toEntity(registrationDto);
+        UserRegistrationDto expectedDto = modelMapper.map(actualUser, UserRegistrationDto.class);
+        UserRegistrationDto actualDto = registrationMapper.toDto(actualUser);
+
+        //then
+        assertEquals(expectedUser.getUsername(), actualUser.getUsername());
+        assertEquals(expectedUser.getEmail(), actualUser.getEmail());
+        assertEquals(expectedUser.getPhoneNumber(), actualUser.getPhoneNumber());
+        assertEquals(expectedUser.getRole().getName(), actualUser.getRole().getName());
+        assertEquals(expectedUser.getReviews(), actualUser.getReviews());
+        assertEquals(expectedUser.getOrders(), actualUser.getOrders());
+        assertEquals(expectedDto.getUsername(), actualDto.getUsername());
+        assertEquals(expectedDto.getRoleName(), actualDto.getRoleName());
+        assertEquals(expectedDto.getAddress(), actualDto.getAddress());
+    }
+
+    @Test
+    void categoryMapperShouldMatchModelMapper() {
+        //given
+        Category category = book("isbn").getCategory();
+        CategoryDto categoryDto = new CategoryDto("29e45e7d-3e34-43df-9366-91c66a8cc9ae", "drama");
+
+        //when
+        Category expectedCategory = modelMapper.map(categoryDto, Category.class);
+        Category actualCategory = categoryMapper.toEntity(categoryDto);
+
+        //then
+        assertEquals(modelMapper.map(category, CategoryDto.class), categoryMapper.toDto(category));
+        assertEquals(expectedCategory.getUuid(), actualCategory.getUuid());
+        assertEquals(expectedCategory.getName(), actualCategory.getName());
+        assertEquals(expectedCategory.getBooks(), actualCategory.getBooks());
+    }
+
+    @Test
+    void roleMapperShouldMatchModelMapper() {
+        //given
+        Role role = new Role(3L, "USER");
+        RoleDto roleDto = new RoleDto();
+        roleDto.setId("4");
+        roleDto.setName("ADMIN");
+
+        //when
+        Role expectedRole = modelMapper.map(roleDto, Role.class);
+        Role actualRole = roleMapper.toEntity(roleDto);
+
+        //then
+        assertEquals(modelMapper.map(role, RoleDto.class), roleMapper.toDto(role));
+        assertEquals(expectedRole.getId(), actualRole.getId());
+        assertEquals(expectedRole.getName(), actualRole.getName());
+    }
+
+    private static Book book(String isbn) {
+        Category category = new Category();
+        category.setUuid("29e45e7d-3e34-43df-9366-91c66a8cc9ae");
+        category.setName("comedy");
+        return Book.builder().isbn(isbn).title("Ion").author("Rebreanu").details("details")
+                .price(BigDecimal.valueOf(37.2)).category(category).build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.nagarro.advanced.framework.outbox;
+
+import com.nagarro.advanced.framework.persistence.OutboxTable;
+import com.nagarro.advanced.framework.persistence.OutboxTable.Backlog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTest {
+
+    private final OutboxTable outboxTable = mock(OutboxTable.class);
+
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void dispatchShouldDeliverBatchToEveryListenerBeforeDeletingIt() {
+        //given
+        List<OutboxMessage> batch = List.of(message(1, "order-1"), message(2, "order-2"), message(3, "order-1"));
+        when(outboxTable.claimOldest(10)).thenReturn(batch);
+        List<OutboxMessage> email = Collections.synchronizedList(new ArrayList<>());
+        List<OutboxMessage> warehouse = Collections.synchronizedList(new ArrayList<>());
+        OutboxDispatcher dispatcher = createDispatcher(List.of(email::addAll, warehouse::addAll));
+
+        //when
+        int dispatched = dispatcher.dispatch();
+
+        //then
+        assertEquals(3, dispatched);
+        assertEquals(3, email.size());
+        assertEquals(3, warehouse.size());
+        assertTrue(email.indexOf(batch.get(0)) < email.indexOf(batch.get(2)));
+        verify(outboxTable).delete(batch);
+        assertEquals(3, meterRegistry.get("outbox.dispatched").counter().count());
+    }
+
+    @Test
+    void dispatchShouldKeepFailedPartitionForRetryWhenAListenerFails() {
+        //given
+        List<OutboxMessage> batch = List.of(message(1, "order-1"), message(2, "order-2"));
+        when(outboxTable.claimOldest(10)).thenReturn(batch);
+        OutboxDispatcher dispatcher = createDispatcher(List.of(messages -> {
+        }, messages -> {
+            if (messages.contains(batch.get(0))) {
+                throw new IllegalStateException("warehouse is down");
+            }
+        }));
+
+        //when
+        int dispatched = dispatcher.dispatch();
+
+        //then
+        assertEquals(1, dispatched);
+        verify(outboxTable).delete(List.of(batch.get(1)));
+        verify(outboxTable).markFailed(List.of(batch.get(0)), 3);
+        assertEquals(1, meterRegistry.get("outbox.failures").counter().count());
+    }
+
+    @Test
+    void dispatchShouldLeaveMessagesUntouchedWithoutListeners() {
+        //given
+        OutboxDispatcher dispatcher = createDispatcher(List.of());
+
+        //when
+        int dispatched = dispatcher.dispatch();
+
+        //then
+        assertEquals(0, dispatched);
+        verify(outboxTable, never()).claimOldest(anyInt());
+    }
+
+    @Test
+    void refreshBacklogShouldExposePendingCountAndLag() {
+        //given
+        when(outboxTable.backlog()).thenReturn(new Backlog(42, Instant.now().minusSeconds(30), 5));
+        OutboxDispatcher dispatcher = createDispatcher(List.of());
+
+        //when
+        dispatcher.refreshBacklog();
+
+        //then
+        assertEquals(42, meterRegistry.get("outbox.pending").gauge().value());
+        assertTrue(meterRegistry.get("outbox.lag").timeGauge().value() >= 30);
+        assertEquals(5, meterRegistry.get("outbox.dead").gauge().value());
+    }
+
+    private OutboxDispatcher createDispatcher(List<OutboxListener> listeners) {
+        return new OutboxDispatcher(outboxTable, transactionTemplate, listeners, meterRegistry, false,
+                Duration.ofSeconds(1), 10, 2, 4, 3);
+    }
+
+    private OutboxMessage message(long id, String aggregateId) {
+        return new OutboxMessage(id, Outbox.ORDER, aggregateId, Outbox.ORDER_PLACED, "{}", Instant.now());
+    }
+}
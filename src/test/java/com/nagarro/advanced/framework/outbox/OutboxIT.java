@@ -0,0 +1,83 @@
+package com.nagarro.advanced.framework.outbox;
+
+import com.nagarro.advanced.framework.persistence.entity.Order;
+import com.nagarro.advanced.framework.service.BookService;
+import com.nagarro.advanced.framework.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Sql(value = "classpath:test-data/insert_cart_test_data.sql")
+@Sql(value = "classpath:test-data/truncate-all-tables.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class OutboxIT {
+
+    private static final String USER_UUID = "89e45e7d-3e34-43df-9366-91c66a8cc9ff";
+    private static final String ION_ISBN = "33e45e7d-3e34-43df-9366-91c66a8cc9ae";
+    private static final String COUNT_OUTBOX = "select count(*) from tbl_outbox";
+    private static Path sink;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void outboxProperties(DynamicPropertyRegistry registry) throws IOException {
+        sink = Files.createTempFile("outbox", ".ndjson");
+        registry.add("bookstore.outbox.file-sink.path", sink::toString);
+    }
+
+    @Test
+    void businessChangesShouldBeRecordedAndDispatchedToListeners() throws IOException {
+        //given
+        Files.write(sink, new byte[0]);
+        jdbcTemplate.update("insert into tbl_cart_book (cart_id, book_id, quantity) values (1, 2, 3)");
+        Order order = orderService.checkout(USER_UUID, "outbox-1", new Order());
+        bookService.deleteByIsbn(ION_ISBN);
+        assertEquals(2, jdbcTemplate.queryForObject(COUNT_OUTBOX, Integer.class));
+
+        //when
+        int dispatched = outboxDispatcher.dispatch();
+
+        //then
+        assertEquals(2, dispatched);
+        assertEquals(0, jdbcTemplate.queryForObject(COUNT_OUTBOX, Integer.class));
+        List<String> lines = Files.readAllLines(sink);
+        assertEquals(2, lines.size());
+        assertTrue(lines.stream().anyMatch(line -> line.contains(Outbox.ORDER_PLACED) && line.contains(order.getUuid())));
+        assertTrue(lines.stream().anyMatch(line -> line.contains("BOOK_DELETED") && line.contains(ION_ISBN)));
+    }
+
+    @Test
+    void rolledBackChangesShouldLeaveNoOutboxMessage() {
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            bookService.deleteByIsbn(ION_ISBN);
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertEquals(0, jdbcTemplate.queryForObject(COUNT_OUTBOX, Integer.class));
+        assertTrue(bookService.findByIsbn(ION_ISBN).isPresent());
+    }
+}
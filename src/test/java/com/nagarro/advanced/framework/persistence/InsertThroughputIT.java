@@ -0,0 +1,136 @@
+package com.nagarro.advanced.framework.persistence;
+
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.entity.BookReview;
+import com.nagarro.advanced.framework.persistence.entity.Cart;
+import com.nagarro.advanced.framework.persistence.entity.IdentityBookReview;
+import com.nagarro.advanced.framework.persistence.entity.Role;
+import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.persistence.repository.BookReviewRepository;
+import com.nagarro.advanced.framework.persistence.repository.CartRepository;
+import com.nagarro.advanced.framework.util.LoggingConfiguration;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Sql(value = {"classpath:test-data/create_identity_review_table.sql", "classpath:test-data/insert_review_test_data.sql"})
+@Sql(value = {"classpath:test-data/truncate-all-tables.sql", "classpath:test-data/drop_identity_review_table.sql"},
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class InsertThroughputIT {
+
+    private static final int ROWS = 2000;
+    private static final int BATCH_SIZE = 50;
+
+    private final Logger logger = new LoggingConfiguration().getLogger();
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BookReviewRepository bookReviewRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void pooledIdsShouldBatchReviewInsertsThatIdentityIdsCannot() {
+        //given
+        long identityNanos = timed(() -> transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(IdentityBookReview.builder().uuid(UUID.randomUUID().toString()).title("title")
+                        .body("body").starValue(4).userId(1L).bookId(1L).build());
+            }
+        }));
+        long identityStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        //when
+        long pooledNanos = timed(() -> transactionTemplate.executeWithoutResult(status -> {
+            Book book = entityManager.getReference(Book.class, 1L);
+            User user = entityManager.getReference(User.class, 1L);
+            List<BookReview> reviews = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                reviews.add(BookReview.builder().title("title").body("body").starValue(4).book(book).user(user).build());
+            }
+            bookReviewRepository.saveAll(reviews);
+        }));
+        long pooledStatements = statistics.getPrepareStatementCount();
+
+        //then
+        report("reviews", identityNanos, pooledNanos);
+        assertEquals(2L + ROWS, bookReviewRepository.count());
+        assertTrue(identityStatements >= ROWS, "identity inserts were batched: " + identityStatements);
+        assertBatched(ROWS, pooledStatements);
+        assertTrue(identityStatements >= pooledStatements * (BATCH_SIZE / 2),
+                "identity " + identityStatements + " vs pooled " + pooledStatements + " statements");
+    }
+
+    @Test
+    void pooledIdsShouldBatchCartInserts() {
+        //when
+        long pooledNanos = timed(() -> transactionTemplate.executeWithoutResult(status -> {
+            Role role = entityManager.getReference(Role.class, 1L);
+            List<Cart> carts = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                String name = "pooled" + i;
+                User user = User.builder().uuid(UUID.randomUUID().toString()).username(name).password("pass")
+                        .firstName(name).lastName(name).email(name + "@mail.com").address("Craiova")
+                        .phoneNumber("08" + i).role(role).build();
+                carts.add(new Cart(user));
+            }
+            cartRepository.saveAll(carts);
+        }));
+
+        //then
+        logger.log(Level.INFO, String.format("carts: %d users and carts, pooled+batched %.0f rows/s", ROWS,
+                2 * ROWS / (pooledNanos / 1e9)));
+        assertEquals(ROWS, cartRepository.count());
+        assertBatched(2 * ROWS, statistics.getPrepareStatementCount());
+    }
+
+    private static void assertBatched(int rows, long statements) {
+        assertTrue(statements <= rows / BATCH_SIZE * 2L, "expected batched inserts but prepared " + statements);
+    }
+
+    private static long timed(Runnable runnable) {
+        long start = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - start;
+    }
+
+    private void report(String rows, long identityNanos, long pooledNanos) {
+        logger.log(Level.INFO, String.format("%s: %d rows, identity %.0f rows/s, pooled+batched %.0f rows/s", rows,
+                ROWS, ROWS / (identityNanos / 1e9), ROWS / (pooledNanos / 1e9)));
+    }
+}
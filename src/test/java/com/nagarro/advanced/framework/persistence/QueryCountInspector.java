@@ -0,0 +1,31 @@
+package com.nagarro.advanced.framework.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryCountInspector implements StatementInspector {
+
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.incrementAndGet();
+        return sql;
+    }
+
+    public static void reset() {
+        STATEMENTS.set(0);
+    }
+
+    public static long count() {
+        return STATEMENTS.get();
+    }
+
+    public static void assertStatementCountAtMost(long expected) {
+        long actual = count();
+        assertTrue(actual <= expected, "Expected at most " + expected + " SQL statements but " + actual + " were executed");
+    }
+}
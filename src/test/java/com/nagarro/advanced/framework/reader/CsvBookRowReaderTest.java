@@ -0,0 +1,64 @@
+package com.nagarro.advanced.framework.reader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvBookRowReaderTest {
+
+    @Test
+    void nextShouldParseRowsByHeaderNameAndQuotedValues() throws IOException {
+        //given
+        String csv = "title,author,price,categoryUuid,details\n" +
+                "Ion,Rebreanu,37.2,29e45e7d,\"A novel, about \"\"land\"\"\"\n";
+
+        //when
+        try (CsvBookRowReader reader = new CsvBookRowReader(toStream(csv))) {
+            BookRow row = reader.next();
+
+            //then
+            assertTrue(row.isParsed());
+            assertEquals(2, row.lineNumber());
+            assertEquals("Ion", row.book().getTitle());
+            assertEquals("Rebreanu", row.book().getAuthor());
+            assertEquals(new BigDecimal("37.2"), row.book().getPrice());
+            assertEquals("29e45e7d", row.book().getCategoryUuid());
+            assertEquals("A novel, about \"land\"", row.book().getDetails());
+            assertNull(row.book().getIsbn());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void nextShouldReportMalformedRowsAndContinue() throws IOException {
+        //given
+        String csv = "title,author,price,categoryUuid\n" +
+                "Ion,Rebreanu,cheap,29e45e7d\n" +
+                "\n" +
+                "Poezii,Eminescu,15,29e45e7d\n";
+
+        //when
+        try (CsvBookRowReader reader = new CsvBookRowReader(toStream(csv))) {
+            BookRow invalidRow = reader.next();
+            BookRow validRow = reader.next();
+
+            //then
+            assertFalse(invalidRow.isParsed());
+            assertEquals(2, invalidRow.lineNumber());
+            assertTrue(validRow.isParsed());
+            assertEquals(4, validRow.lineNumber());
+        }
+    }
+
+    private ByteArrayInputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,106 @@
+package com.nagarro.advanced.framework.search;
+
+import com.nagarro.advanced.framework.event.BookChangedEvent;
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.repository.BookRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookSearchIndexTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @InjectMocks
+    private BookSearchIndex bookSearchIndex;
+
+    @Test
+    void searchShouldRankBooksMatchingMoreTermsFirst() {
+        //given
+        bookSearchIndex.index("1", "Poezii", "Mihai Eminescu", "Romantic poems");
+        bookSearchIndex.index("2", "Ion", "Liviu Rebreanu", "A novel about land");
+        bookSearchIndex.index("3", "Luceafarul", "Mihai Eminescu", "The evening star poems");
+
+        //when
+        List<SearchHit> hits = bookSearchIndex.search("eminescu star", 10);
+
+        //then
+        assertEquals(2, hits.size());
+        assertEquals("3", hits.get(0).isbn());
+        assertEquals("1", hits.get(1).isbn());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void searchShouldIgnoreCaseAndDiacritics() {
+        //given
+        bookSearchIndex.index("1", "Amintiri din copilărie", "Ion Creangă", "details");
+
+        //when
+        List<SearchHit> hits = bookSearchIndex.search("COPILARIE creanga", 10);
+
+        //then
+        assertEquals(1, hits.size());
+        assertEquals("Amintiri din copilărie", hits.get(0).title());
+    }
+
+    @Test
+    void onBookChangedShouldReindexAndRemoveBooks() {
+        //given
+        bookSearchIndex.index("1", "Poezii", "Eminescu", "details");
+
+        //when
+        bookSearchIndex.onBookChanged(new BookChangedEvent(BookChangedEvent.Type.SAVED, "1", "Ion", "Rebreanu", "details"));
+
+        //then
+        assertTrue(bookSearchIndex.search("poezii", 10).isEmpty());
+        assertEquals(1, bookSearchIndex.search("rebreanu", 10).size());
+
+        //when
+        bookSearchIndex.onBookChanged(BookChangedEvent.deleted("1"));
+
+        //then
+        assertTrue(bookSearchIndex.search("rebreanu", 10).isEmpty());
+        assertEquals(0, bookSearchIndex.size());
+    }
+
+    @Test
+    void searchShouldReturnAtMostLimitHits() {
+        //given
+        for (int i = 0; i < 20; i++) {
+            bookSearchIndex.index(String.valueOf(i), "Book " + i, "Author", "details");
+        }
+
+        //when
+        List<SearchHit> hits = bookSearchIndex.search("author", 5);
+
+        //then
+        assertEquals(5, hits.size());
+    }
+
+    @Test
+    void bootstrapShouldIndexAllBooksFromRepository() {
+        //given
+        Book book = Book.builder().id(1L).isbn("1").title("Ion").author("Rebreanu").details("details").build();
+
+        //when
+        when(bookRepository.findPageAfter(anyLong(), any(), any(), any(), any())).thenReturn(List.of(book));
+        bookSearchIndex.bootstrap();
+
+        //then
+        assertEquals(1, bookSearchIndex.size());
+        assertEquals("1", bookSearchIndex.search("ion", 10).get(0).isbn());
+    }
+}
@@ -0,0 +1,171 @@
+package com.nagarro.advanced.framework.search;
+
+import com.nagarro.advanced.framework.event.UserChangedEvent;
+import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.persistence.projection.UserIdentityRow;
+import com.nagarro.advanced.framework.persistence.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdentityIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserIdentityIndex userIdentityIndex;
+
+    @BeforeEach
+    void setUp() {
+        userIdentityIndex = new UserIdentityIndex(userRepository, 100, true);
+    }
+
+    @Test
+    void mightContainShouldFindIdentitiesLoadedAtBootstrap() {
+        //given
+        when(userRepository.findIdentitiesAfter(anyLong(), any()))
+                .thenReturn(List.of(new UserIdentityRow(1L, "iliescu", "ilie@gmail.com", "0772158967")));
+
+        //when
+        userIdentityIndex.bootstrap();
+
+        //then
+        assertTrue(userIdentityIndex.mightContain("iliescu", null, null));
+        assertTrue(userIdentityIndex.mightContain(null, "ILIE@gmail.com", null));
+        assertTrue(userIdentityIndex.mightContain(null, null, "0772158967"));
+        assertFalse(userIdentityIndex.mightContain("newcomer", "new@gmail.com", "0799999999"));
+        assertFalse(userIdentityIndex.mightContain(null, "iliescu", null));
+    }
+
+    @Test
+    void mightContainShouldAssumePresenceBeforeBootstrap() {
+        assertTrue(userIdentityIndex.mightContain("newcomer", "new@gmail.com", "0799999999"));
+    }
+
+    @Test
+    void mightContainShouldAssumePresenceWhenDisabled() {
+        //given
+        UserIdentityIndex disabledIndex = new UserIdentityIndex(userRepository, 100, false);
+
+        //when
+        disabledIndex.bootstrap();
+
+        //then
+        assertTrue(disabledIndex.mightContain("newcomer", "new@gmail.com", "0799999999"));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void addShouldMakeNewIdentitiesVisible() {
+        //given
+        when(userRepository.findIdentitiesAfter(anyLong(), any())).thenReturn(List.of());
+        userIdentityIndex.bootstrap();
+        User user = User.builder().username("newcomer").email("new@gmail.com").phoneNumber("0799999999").build();
+
+        //when
+        userIdentityIndex.add(user);
+
+        //then
+        assertTrue(userIdentityIndex.mightContain(null, "new@gmail.com", null));
+    }
+
+    @Test
+    void onUserChangedShouldRebuildOnceStaleEntriesAccumulate() {
+        //given
+        when(userRepository.findIdentitiesAfter(anyLong(), any())).thenReturn(List.of());
+        userIdentityIndex.bootstrap();
+
+        //when
+        userIdentityIndex.onUserChanged(new UserChangedEvent("iliescu"));
+        for (int i = 0; i < 26; i++) {
+            userIdentityIndex.markStale();
+        }
+        userIdentityIndex.onUserChanged(new UserChangedEvent("iliescu"));
+
+        //then
+        verify(userRepository, timeout(5000).times(2)).findIdentitiesAfter(anyLong(), any());
+    }
+
+    @Test
+    void addShouldRebuildOnceTheFilterIsSaturated() {
+        //given
+        when(userRepository.findIdentitiesAfter(anyLong(), any())).thenReturn(List.of());
+        userIdentityIndex.bootstrap();
+
+        //when
+        for (int i = 0; i < 101; i++) {
+            userIdentityIndex.add(User.builder().username("user" + i).email("user" + i + "@gmail.com")
+                    .phoneNumber(String.format("07%08d", i)).build());
+        }
+
+        //then
+        verify(userRepository, timeout(5000).times(2)).findIdentitiesAfter(anyLong(), any());
+    }
+
+    @Test
+    void addShouldNotWaitForTheRebuildItTriggers() throws Exception {
+        //given
+        CountDownLatch rebuilding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findIdentitiesAfter(anyLong(), any()))
+                .thenReturn(List.of())
+                .thenAnswer(invocation -> {
+                    rebuilding.countDown();
+                    release.await();
+                    return List.of();
+                });
+        userIdentityIndex.bootstrap();
+
+        //when
+        for (int i = 0; i < 101; i++) {
+            userIdentityIndex.add(User.builder().username("user" + i).email("user" + i + "@gmail.com")
+                    .phoneNumber(String.format("07%08d", i)).build());
+        }
+
+        //then
+        assertTrue(rebuilding.await(5, TimeUnit.SECONDS));
+        assertTrue(userIdentityIndex.mightContain("user100", null, null));
+        release.countDown();
+        userIdentityIndex.stop();
+    }
+
+    @Test
+    void bloomFilterShouldStayNearConfiguredFalsePositiveRate() {
+        //given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("user" + i + "@gmail.com");
+        }
+
+        //when
+        int falsePositives = 0;
+        for (int i = 10_000; i < 20_000; i++) {
+            if (bloomFilter.mightContain("user" + i + "@gmail.com")) {
+                falsePositives++;
+            }
+        }
+
+        //then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(bloomFilter.mightContain("user" + i + "@gmail.com"));
+        }
+        assertTrue(falsePositives < 200);
+    }
+}
@@ -0,0 +1,53 @@
+package com.nagarro.advanced.framework.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BCryptStrengthCalibratorTest {
+
+    private static final long TARGET_NANOS = Duration.ofMillis(250).toNanos();
+
+    @Test
+    void calibrateShouldPickHighestStrengthUnderTarget() {
+        //when
+        int strength = BCryptStrengthCalibrator.calibrate(TARGET_NANOS, 10, 16,
+                candidate -> Duration.ofMillis(50L << (candidate - 10)).toNanos());
+
+        //then
+        assertEquals(12, strength);
+    }
+
+    @Test
+    void calibrateShouldNotGoBelowMinimumStrengthOnSlowHosts() {
+        //when
+        int strength = BCryptStrengthCalibrator.calibrate(TARGET_NANOS, 10, 16,
+                candidate -> Duration.ofSeconds(1).toNanos());
+
+        //then
+        assertEquals(10, strength);
+    }
+
+    @Test
+    void calibrateShouldNotExceedMaximumStrengthOnFastHosts() {
+        //when
+        int strength = BCryptStrengthCalibrator.calibrate(TARGET_NANOS, 10, 16, candidate -> 1L);
+
+        //then
+        assertEquals(16, strength);
+    }
+
+    @Test
+    void calibrateShouldUseFixedStrengthWhenConfigured() {
+        //given
+        BCryptStrengthCalibrator calibrator = new BCryptStrengthCalibrator(4, Duration.ofMillis(250), 10, 16);
+
+        //when
+        int strength = calibrator.calibrate();
+
+        //then
+        assertEquals(4, strength);
+    }
+}
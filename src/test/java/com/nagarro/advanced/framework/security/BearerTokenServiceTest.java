@@ -0,0 +1,117 @@
+package com.nagarro.advanced.framework.security;
+
+import com.nagarro.advanced.framework.persistence.entity.Role;
+import com.nagarro.advanced.framework.persistence.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BearerTokenServiceTest {
+
+    private static final String OLD_KEY = "k1:c2VjcmV0LWtleS1vbmUtZm9yLXRlc3RzLW9ubHktMzI=";
+    private static final String NEW_KEY = "k2:c2VjcmV0LWtleS10d28tZm9yLXRlc3RzLW9ubHktMzI=";
+    private static final Instant NOW = Instant.parse("2023-02-01T10:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void verifyShouldReturnClaimsForIssuedToken() {
+        //given
+        BearerTokenService tokenService = new BearerTokenService(OLD_KEY, "k1", Duration.ofMinutes(15), clock);
+        User user = createUser();
+
+        //when
+        Optional<TokenClaims> claims = tokenService.verify(tokenService.issue(user));
+
+        //then
+        assertTrue(claims.isPresent());
+        assertEquals(user.getUuid(), claims.get().uuid());
+        assertEquals("ADMIN", claims.get().role());
+        assertEquals("iliescu", claims.get().username());
+        assertEquals(NOW.plus(Duration.ofMinutes(15)), claims.get().expiresAt());
+    }
+
+    @Test
+    void verifyShouldRejectTamperedToken() {
+        //given
+        BearerTokenService tokenService = new BearerTokenService(OLD_KEY, "k1", Duration.ofMinutes(15), clock);
+        String[] parts = tokenService.issue(createUser()).split("\\.");
+        String forgedClaims = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("uuid:ADMIN:9999999999:intruder".getBytes());
+
+        //when
+        Optional<TokenClaims> claims = tokenService.verify(parts[0] + "." + forgedClaims + "." + parts[2]);
+
+        //then
+        assertTrue(claims.isEmpty());
+    }
+
+    @Test
+    void verifyShouldRejectExpiredToken() {
+        //given
+        String token = new BearerTokenService(OLD_KEY, "k1", Duration.ofMinutes(15), clock).issue(createUser());
+        Clock later = Clock.offset(clock, Duration.ofMinutes(15));
+
+        //when
+        Optional<TokenClaims> claims = new BearerTokenService(OLD_KEY, "k1", Duration.ofMinutes(15), later).verify(token);
+
+        //then
+        assertTrue(claims.isEmpty());
+    }
+
+    @Test
+    void verifyShouldAcceptTokensSignedWithRotatedKeyUntilItIsRetired() {
+        //given
+        String token = new BearerTokenService(OLD_KEY, "k1", Duration.ofMinutes(15), clock).issue(createUser());
+        BearerTokenService rotated = new BearerTokenService(NEW_KEY + "," + OLD_KEY, "k2", Duration.ofMinutes(15), clock);
+        BearerTokenService retired = new BearerTokenService(NEW_KEY, "k2", Duration.ofMinutes(15), clock);
+
+        //when
+        Optional<TokenClaims> rotatedClaims = rotated.verify(token);
+        Optional<TokenClaims> retiredClaims = retired.verify(token);
+
+        //then
+        assertTrue(rotatedClaims.isPresent());
+        assertTrue(retiredClaims.isEmpty());
+        assertTrue(rotated.issue(createUser()).startsWith("k2."));
+    }
+
+    @Test
+    void verifyShouldRejectMalformedToken() {
+        //given
+        BearerTokenService tokenService = new BearerTokenService(OLD_KEY, "k1", Duration.ofMinutes(15), clock);
+
+        //then
+        assertTrue(tokenService.verify("not-a-token").isEmpty());
+        assertTrue(tokenService.verify("k1.%%%.%%%").isEmpty());
+    }
+
+    @Test
+    void constructorShouldFailWhenActiveKeyIsNotConfigured() {
+        assertThrows(IllegalStateException.class,
+                () -> new BearerTokenService(OLD_KEY, "k2", Duration.ofMinutes(15), clock));
+    }
+
+    @Test
+    void constructorShouldFailWhenKeyEntryHasNoSecret() {
+        assertThrows(IllegalStateException.class,
+                () -> new BearerTokenService(OLD_KEY + ",k2", "k1", Duration.ofMinutes(15), clock));
+    }
+
+    private User createUser() {
+        Role role = new Role();
+        role.setName("ADMIN");
+        User user = User.builder().username("iliescu").role(role).build();
+        user.setUuid("9770c971-b29a-4a7c-96c4-cb47e513a214");
+        return user;
+    }
+}
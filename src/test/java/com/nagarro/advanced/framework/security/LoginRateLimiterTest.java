@@ -0,0 +1,128 @@
+package com.nagarro.advanced.framework.security;
+
+import com.nagarro.advanced.framework.exception.AppException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2023-02-01T10:00:00Z"));
+
+    private final LoginRateLimiter loginRateLimiter = new LoginRateLimiter(meterRegistry, 10, Duration.ofMinutes(1),
+            3, Duration.ofMinutes(1), 1000, clock);
+
+    @Test
+    void checkShouldRejectUsernameAfterBurstCapacity() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.check("10.0.0." + i, "Gigel");
+        }
+
+        //when
+        AppException appException = assertThrows(AppException.class, () -> loginRateLimiter.check("10.0.0.9", "gigel"));
+
+        //then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, appException.getHttpStatus());
+        assertEquals(1.0, meterRegistry.get("auth.throttled").tag("key", "username").counter().count());
+        assertDoesNotThrow(() -> loginRateLimiter.check("10.0.0.9", "ionel"));
+    }
+
+    @Test
+    void checkShouldRejectClientIpAfterBurstCapacity() {
+        //given
+        for (int i = 0; i < 10; i++) {
+            loginRateLimiter.check("10.0.0.1", "user" + i);
+        }
+
+        //when
+        AppException appException = assertThrows(AppException.class, () -> loginRateLimiter.check("10.0.0.1", "other"));
+
+        //then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, appException.getHttpStatus());
+        assertEquals(1.0, meterRegistry.get("auth.throttled").tag("key", "ip").counter().count());
+    }
+
+    @Test
+    void checkShouldRefillTokensOverTime() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.check("10.0.0.1", "gigel");
+        }
+        assertThrows(AppException.class, () -> loginRateLimiter.check("10.0.0.1", "gigel"));
+
+        //when
+        clock.advance(Duration.ofSeconds(20));
+
+        //then
+        assertDoesNotThrow(() -> loginRateLimiter.check("10.0.0.1", "gigel"));
+        assertThrows(AppException.class, () -> loginRateLimiter.check("10.0.0.1", "gigel"));
+    }
+
+    @Test
+    void checkShouldAdmitExactlyCapacityUnderConcurrency() throws InterruptedException {
+        //given
+        AtomicInteger admitted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        for (int i = 0; i < 200; i++) {
+            executor.execute(() -> {
+                try {
+                    loginRateLimiter.check(null, "gigel");
+                    admitted.incrementAndGet();
+                } catch (AppException ignored) {
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        assertEquals(3, admitted.get());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.nagarro.advanced.framework.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimedBCryptPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final TimedBCryptPasswordEncoder encoder = new TimedBCryptPasswordEncoder(5, meterRegistry);
+
+    @Test
+    void encodeAndMatchesShouldBeTimed() {
+        //when
+        String hash = encoder.encode("passcad");
+        boolean matches = encoder.matches("passcad", hash);
+        boolean mismatches = encoder.matches("password", hash);
+
+        //then
+        assertTrue(matches);
+        assertFalse(mismatches);
+        assertEquals(1, meterRegistry.get("password.hash").timer().count());
+        assertEquals(2, meterRegistry.get("password.verify").timer().count());
+        assertEquals(5.0, meterRegistry.get("password.hash.strength").gauge().value());
+    }
+
+    @Test
+    void upgradeEncodingShouldFlagHashesWithLowerCost() {
+        //given
+        String outdatedHash = new BCryptPasswordEncoder(4).encode("passcad");
+        String currentHash = encoder.encode("passcad");
+
+        //then
+        assertTrue(encoder.upgradeEncoding(outdatedHash));
+        assertFalse(encoder.upgradeEncoding(currentHash));
+    }
+}
@@ -0,0 +1,94 @@
+package com.nagarro.advanced.framework.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nagarro.advanced.framework.controller.model.BookImportReport;
+import com.nagarro.advanced.framework.event.BookChangedEvent;
+import com.nagarro.advanced.framework.persistence.EntityIdGenerator;
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.reader.NdjsonBookRowReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookImportServiceTest {
+
+    private static final String CATEGORY_UUID = "29e45e7d-3e34-43df-9366-91c66a8cc9ae";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final EntityIdGenerator entityIdGenerator = mock(EntityIdGenerator.class);
+
+    private final BookImportService bookImportService = new BookImportService(namedJdbcTemplate, transactionTemplate,
+            eventPublisher, entityIdGenerator, 500);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importBooksShouldCountOnlyConfirmedRowsWhenBatchesReportNoInfo() throws IOException {
+        //given
+        when(namedJdbcTemplate.getJdbcTemplate()).thenReturn(jdbcTemplate);
+        doAnswer(invocation -> {
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.getString("uuid")).thenReturn(CATEGORY_UUID);
+            when(resultSet.getLong("id")).thenReturn(1L);
+            invocation.<RowCallbackHandler>getArgument(2).processRow(resultSet);
+            return null;
+        }).when(namedJdbcTemplate).query(startsWith("select uuid"), any(SqlParameterSource.class),
+                any(RowCallbackHandler.class));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(entityIdGenerator.nextIds(Book.class, 2)).thenReturn(List.of(100L, 101L));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}});
+        when(namedJdbcTemplate.queryForList(startsWith("select id"), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(100L));
+        String ndjson = "{\"isbn\":\"isbn-1\",\"title\":\"Ion\",\"author\":\"Rebreanu\",\"price\":37.2," +
+                "\"categoryUuid\":\"" + CATEGORY_UUID + "\"}\n" +
+                "{\"isbn\":\"isbn-2\",\"title\":\"Enigma Otiliei\",\"author\":\"Calinescu\",\"price\":30," +
+                "\"categoryUuid\":\"" + CATEGORY_UUID + "\"}\n";
+
+        //when
+        BookImportReport report;
+        try (NdjsonBookRowReader reader = new NdjsonBookRowReader(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), new ObjectMapper())) {
+            report = bookImportService.importBooks(reader);
+        }
+
+        //then
+        assertEquals(2, report.getTotalRows());
+        assertEquals(1, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals(2, report.getErrors().get(0).getLine());
+        verify(eventPublisher, times(1)).publishEvent(any(BookChangedEvent.class));
+    }
+}
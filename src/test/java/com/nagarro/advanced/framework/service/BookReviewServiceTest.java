@@ -1,17 +1,24 @@
 package com.nagarro.advanced.framework.service;
 
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.entity.BookRating;
 import com.nagarro.advanced.framework.persistence.entity.BookReview;
+import com.nagarro.advanced.framework.persistence.projection.BookReviewRow;
+import com.nagarro.advanced.framework.persistence.repository.BookRatingRepository;
 import com.nagarro.advanced.framework.persistence.repository.BookReviewRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,6 +29,8 @@ class BookReviewServiceTest {
     private BookReviewService reviewService;
     @Mock
     private BookReviewRepository reviewRepository;
+    @Mock
+    private BookRatingRepository ratingRepository;
 
     @Test
     void shouldReturnReviewWhenAddReview() {
@@ -36,6 +45,79 @@ class BookReviewServiceTest {
         assertEquals(expectedReview, actualReview);
     }
 
+    @Test
+    void shouldIncrementRatingWhenAddReview() {
+        //given
+        Book book = Book.builder().id(7L).build();
+        BookReview review = BookReview.builder().id(3L).starValue(4).book(book).build();
+
+        //when
+        when(reviewRepository.save(review)).thenReturn(review);
+        when(ratingRepository.increment(7L, 4, 4, 1)).thenReturn(1);
+        reviewService.addReview(review);
+
+        //then
+        verify(ratingRepository, never()).aggregateReviews(7L);
+    }
+
+    @Test
+    void shouldCreateRatingThenIncrementItWhenItDoesNotExistYet() {
+        //given
+        Book book = Book.builder().id(7L).build();
+        BookReview review = BookReview.builder().id(3L).starValue(2).book(book).build();
+
+        //when
+        when(reviewRepository.save(review)).thenReturn(review);
+        when(ratingRepository.increment(7L, 2, 2, 1)).thenReturn(0, 1);
+        reviewService.addReview(review);
+
+        //then
+        verify(ratingRepository).insertIfAbsent(BookRating.empty(7L));
+        verify(ratingRepository, times(2)).increment(7L, 2, 2, 1);
+        verify(ratingRepository, never()).aggregateReviews(7L);
+    }
+
+    @Test
+    void shouldRebuildRatingOnceWhenUpdateChangesStarsOfBookWithoutRating() {
+        //given
+        Book book = Book.builder().id(7L).build();
+        BookReview review = BookReview.builder().uuid("15e45e7d-4r34-43df-9377-91c63a8cc9ae").starValue(2).book(book)
+                .build();
+        BookReview newReview = BookReview.builder().starValue(5).build();
+        BookRating rating = BookRating.builder().bookId(7L).reviewCount(1).starSum(5).fiveStars(1).build();
+
+        //when
+        when(reviewRepository.findByUuid(review.getUuid())).thenReturn(Optional.of(review));
+        when(reviewRepository.save(review)).thenReturn(review);
+        when(ratingRepository.increment(7L, 2, 2, -1)).thenReturn(0);
+        when(ratingRepository.aggregateReviews(7L)).thenReturn(rating);
+        reviewService.updateReview(review.getUuid(), newReview);
+
+        //then
+        verify(ratingRepository).insertIfAbsent(rating);
+        verify(ratingRepository, never()).increment(7L, 5, 5, 1);
+    }
+
+    @Test
+    void shouldMoveRatingBucketWhenUpdateChangesStars() {
+        //given
+        Book book = Book.builder().id(7L).build();
+        BookReview review = BookReview.builder().uuid("15e45e7d-4r34-43df-9377-91c63a8cc9ae").starValue(2).book(book)
+                .build();
+        BookReview newReview = BookReview.builder().starValue(5).build();
+
+        //when
+        when(reviewRepository.findByUuid(review.getUuid())).thenReturn(Optional.of(review));
+        when(reviewRepository.save(review)).thenReturn(review);
+        when(ratingRepository.increment(7L, 2, 2, -1)).thenReturn(1);
+        when(ratingRepository.increment(7L, 5, 5, 1)).thenReturn(1);
+        reviewService.updateReview(review.getUuid(), newReview);
+
+        //then
+        verify(ratingRepository).increment(7L, 2, 2, -1);
+        verify(ratingRepository).increment(7L, 5, 5, 1);
+    }
+
     @Test
     void shouldReturnDeletedReviewWhenDeleteReview() {
         //given
@@ -68,18 +150,31 @@ class BookReviewServiceTest {
     }
 
     @Test
-    void shouldReturnReviewsWhenFindAllReviews() {
+    void shouldReturnReviewRowsWhenFindNewestBefore() {
+        //given
+        Book book = Book.builder().id(7L).build();
+        List<BookReviewRow> expectedRows = List.of(new BookReviewRow(5L, "uuid", "title", "body", 4));
+
+        //when
+        when(reviewRepository.findNewestBefore(7L, 10L, PageRequest.of(0, 3))).thenReturn(expectedRows);
+        List<BookReviewRow> actualRows = reviewService.findNewestBefore(book, 10L, 3);
+
+        //then
+        assertEquals(expectedRows, actualRows);
+    }
+
+    @Test
+    void shouldReturnReviewRowsWhenFindTopRatedBefore() {
         //given
-        String bookIsbn = "33e45e7d-3e34-43df-9366-91c66a8cc9ae";
-        List<BookReview> expectedReviews = List.of(BookReview.builder().build());
+        Book book = Book.builder().id(7L).build();
+        List<BookReviewRow> expectedRows = List.of(new BookReviewRow(5L, "uuid", "title", "body", 4));
 
         //when
-        when(reviewRepository.findAllByBookIsbn(bookIsbn))
-                .thenReturn(expectedReviews);
-        List<BookReview> actualReviews = reviewService.findAll(bookIsbn);
+        when(reviewRepository.findTopRatedBefore(7L, 5, 10L, PageRequest.of(0, 3))).thenReturn(expectedRows);
+        List<BookReviewRow> actualRows = reviewService.findTopRatedBefore(book, 5, 10L, 3);
 
         //then
-        assertEquals(expectedReviews, actualReviews);
+        assertEquals(expectedRows, actualRows);
     }
 
     @Test
@@ -90,6 +185,7 @@ class BookReviewServiceTest {
 
         //when
         when(reviewRepository.findByUuid(reviewUuid)).thenReturn(Optional.of(expectedReview));
+        when(reviewRepository.save(expectedReview)).thenReturn(expectedReview);
         reviewService.updateReview(reviewUuid, expectedReview);
 
         //then
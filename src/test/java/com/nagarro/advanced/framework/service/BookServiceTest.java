@@ -1,8 +1,11 @@
 package com.nagarro.advanced.framework.service;
 
+import com.nagarro.advanced.framework.event.BookChangedEvent;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.entity.BookRating;
 import com.nagarro.advanced.framework.persistence.entity.Category;
+import com.nagarro.advanced.framework.persistence.repository.BookRatingRepository;
 import com.nagarro.advanced.framework.persistence.repository.BookRepository;
 import com.nagarro.advanced.framework.persistence.repository.CategoryRepository;
 import org.junit.jupiter.api.Test;
@@ -10,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -33,6 +37,12 @@ class BookServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private BookRatingRepository ratingRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     void saveShouldSaveBookForValidInput() {
         //given
@@ -44,6 +54,21 @@ class BookServiceTest {
 
         //then
         assertEquals(expectedBook, actualBook);
+        verify(eventPublisher).publishEvent(BookChangedEvent.saved(expectedBook));
+    }
+
+    @Test
+    void saveShouldCreateEmptyRatingForNewBook() {
+        //given
+        Book newBook = Book.builder().isbn("isbn").build();
+        Book savedBook = Book.builder().id(7L).isbn("isbn").build();
+
+        //when
+        when(bookRepository.save(newBook)).thenReturn(savedBook);
+        bookService.save(newBook);
+
+        //then
+        verify(ratingRepository).insertIfAbsent(BookRating.empty(7L));
     }
 
     @Test
@@ -70,6 +95,7 @@ class BookServiceTest {
 
         //then
         verify(bookRepository).delete(expectedBook);
+        verify(eventPublisher).publishEvent(BookChangedEvent.deleted(expectedBook.getIsbn()));
     }
 
     @Test
@@ -100,6 +126,7 @@ class BookServiceTest {
         //when
         when(bookRepository.findByIsbn(oldBook.getIsbn())).thenReturn(Optional.of(oldBook));
         when(categoryRepository.findByUuid(newBook.getCategory().getUuid())).thenReturn(Optional.of(oldCategory));
+        when(bookRepository.save(oldBook)).thenReturn(oldBook);
         bookService.update(oldBook.getIsbn(), newBook);
 
         //then
@@ -1,28 +1,36 @@
 package com.nagarro.advanced.framework.service;
 
+import com.nagarro.advanced.framework.cache.CartDurability;
+import com.nagarro.advanced.framework.cache.CartStore;
 import com.nagarro.advanced.framework.exception.AppException;
+import com.nagarro.advanced.framework.persistence.CartBookWriter;
+import com.nagarro.advanced.framework.persistence.EntityIdGenerator;
 import com.nagarro.advanced.framework.persistence.entity.Book;
 import com.nagarro.advanced.framework.persistence.entity.Cart;
+import com.nagarro.advanced.framework.persistence.entity.CartBook;
 import com.nagarro.advanced.framework.persistence.entity.Category;
 import com.nagarro.advanced.framework.persistence.entity.User;
 import com.nagarro.advanced.framework.persistence.repository.BookRepository;
 import com.nagarro.advanced.framework.persistence.repository.CartRepository;
 import com.nagarro.advanced.framework.persistence.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.will;
 import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,25 +49,32 @@ class CartServiceTest {
     private BookRepository bookRepository;
     @Mock
     private UserRepository userRepository;
+    @Spy
+    private CartStore cartStore = new CartStore(mock(CartBookWriter.class), mock(EntityIdGenerator.class),
+            new SimpleMeterRegistry(), false, CartDurability.WRITE_THROUGH, Duration.ofSeconds(1), 200,
+            Duration.ofMinutes(30), 16);
 
     @Test
     void shouldReturnCartWhenAddBookToCartWithValidInput() {
         //given
-        List<Book> books = getBooks();
         String bookIsbn = "15e45e7d-3e34-43df-9366-91c66a8cc9ae";
         User user = new User();
         user.setUuid("75e45e7d-3e34-43df-9366-91c66a8cc9ae");
-        Cart expectedCart = Cart.builder().id(1L).user(user).books(books).build();
+        Cart expectedCart = Cart.builder().id(1L).user(user).items(new LinkedHashSet<>()).build();
+        Book book = getBook();
+        expectedCart.getItems().add(new CartBook(expectedCart, book, 1));
         String userUuid = expectedCart.getUser().getUuid();
 
         //when
-        when(bookRepository.findByIsbn(bookIsbn)).thenReturn(Optional.of(expectedCart.getBooks().get(0)));
+        when(bookRepository.findByIsbn(bookIsbn)).thenReturn(Optional.of(book));
         when(cartRepository.findByUserUuid(userUuid)).thenReturn(Optional.of(expectedCart));
         when(userRepository.findUserByUuid(userUuid)).thenReturn(Optional.of(user));
         Cart actualCart = cartService.addBookToCart(userUuid, bookIsbn);
 
         //then
         assertEquals(expectedCart, actualCart);
+        assertEquals(1, actualCart.getItems().size());
+        assertEquals(2, actualCart.getItems().iterator().next().getQuantity());
     }
 
     @Test
@@ -67,8 +82,8 @@ class CartServiceTest {
         //given
         User user = new User();
         user.setUuid("75e45e7d-3e34-43df-9366-91c66a8cc9ae");
-        List<Book> books = getBooks();
-        Cart expectedCart =  Cart.builder().id(1L).user(user).books(books).build();
+        Cart expectedCart =  Cart.builder().id(1L).user(user).items(new LinkedHashSet<>()).build();
+        expectedCart.getItems().add(new CartBook(expectedCart, getBook(), 1));
         String userUuid = expectedCart.getUser().getUuid();
 
         //when
@@ -78,6 +93,7 @@ class CartServiceTest {
 
         //then
         assertEquals(expectedCart, actualCart);
+        assertEquals(0, actualCart.getItems().size());
     }
 
     @Test
@@ -119,13 +135,14 @@ class CartServiceTest {
         String bookIsbn = "15e45e7d-3e34-43df-9366-91c66a8cc9ae";
         Category category = new Category();
         category.setName("c1");
-        Book mockBook = Book.builder().isbn("15e45e7d-3e34-43df-9366-91c66a8cc9ae").title("dxs").author("dxc ds")
+        Book mockBook = Book.builder().id(2L).isbn("15e45e7d-3e34-43df-9366-91c66a8cc9ae").title("dxs").author("dxc ds")
                 .details("details").price(BigDecimal.valueOf(99.9)).category(category).build();
         User user = new User();
         user.setUuid("75e45e7d-3e34-43df-9366-91c66a8cc9ae");
-        Book book = Book.builder().isbn("75e45e7d-3e34-43df-9366-91c66a8cc9ae").title("Ion").author("Liviu Rebreanu")
+        Book book = Book.builder().id(1L).isbn("75e45e7d-3e34-43df-9366-91c66a8cc9ae").title("Ion").author("Liviu Rebreanu")
                 .details("details").price(BigDecimal.valueOf(99.9)).category(category).build();
-        Cart expectedCart = Cart.builder().id(1L).user(user).books(List.of(book)).build();
+        Cart expectedCart = Cart.builder().id(1L).user(user).items(new LinkedHashSet<>()).build();
+        expectedCart.getItems().add(new CartBook(expectedCart, book, 1));
         String userUuid = expectedCart.getUser().getUuid();
 
         //when
@@ -135,7 +152,7 @@ class CartServiceTest {
         Cart actualCart = cartService.removeBookFromCart(userUuid, bookIsbn);
 
         //then
-        assertEquals(expectedCart.getBooks(), actualCart.getBooks());
+        assertEquals(expectedCart.getItems(), actualCart.getItems());
     }
 
     @Test
@@ -221,12 +238,10 @@ class CartServiceTest {
         Assertions.assertEquals(USER_DOES_NOT_EXIST, thrown.getMessage());
     }
 
-    private List<Book> getBooks() {
-        List<Book> books = new ArrayList<>();
+    private Book getBook() {
         Book book = new Book();
+        book.setId(1L);
         book.setIsbn("15e45e7d-3e34-43df-9366-91c66a8cc9ae");
-        books.add(book);
-        return books;
-
+        return book;
     }
 }
@@ -0,0 +1,133 @@
+package com.nagarro.advanced.framework.service;
+
+import com.nagarro.advanced.framework.persistence.entity.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"bookstore.carts.store.enabled=true", "bookstore.carts.store.durability=WRITE_BEHIND"})
+@Sql(value = "classpath:test-data/truncate-all-tables.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class CheckoutLoadIT {
+
+    private static final int USERS = 500;
+    private static final int BOOKS = 20;
+    private static final int BOOKS_PER_CART = 3;
+    private static final int RETRY_EVERY = 5;
+    private static final String P99_TARGET = System.getProperty("checkout.p99-target");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into tbl_role (id, name) values (1, 'USER')");
+        jdbcTemplate.update("insert into tbl_category (id, uuid, name) values (1, 'category-0', 'category')");
+        List<Object[]> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(new Object[]{i + 1, "isbn-" + i, "Title " + i, "Author " + i, "details", 10 + i, 1});
+        }
+        jdbcTemplate.batchUpdate("insert into tbl_book (id, isbn, title, author, details, price, category_id) " +
+                "values (?, ?, ?, ?, ?, ?, ?)", books);
+
+        List<Object[]> users = new ArrayList<>(USERS);
+        List<Object[]> carts = new ArrayList<>(USERS);
+        List<Object[]> cartBooks = new ArrayList<>(USERS * BOOKS_PER_CART);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{i + 1, userUuid(i), "user" + i, "password", "first", "last", "user" + i + "@mail.com",
+                    "Craiova", String.format("06%08d", i), 1});
+            carts.add(new Object[]{i + 1, "cart-" + i, i + 1});
+            for (int j = 0; j < BOOKS_PER_CART; j++) {
+                cartBooks.add(new Object[]{i + 1, 1 + (i + j) % BOOKS, 1 + j});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into tbl_user (id, uuid, username, password, first_name, last_name, " +
+                "email, address, phone, role_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("insert into tbl_cart (id, uuid, user_id) values (?, ?, ?)", carts);
+        jdbcTemplate.batchUpdate("insert into tbl_cart_book (cart_id, book_id, quantity) values (?, ?, ?)", cartBooks);
+    }
+
+    @Test
+    void concurrentCheckoutsShouldPlaceEachOrderOnce() throws Exception {
+        //given
+        int requests = USERS + USERS / RETRY_EVERY;
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+        List<Future<Order>> orders = new ArrayList<>(requests);
+
+        //when
+        for (int i = 0; i < requests; i++) {
+            int user = i % USERS;
+            orders.add(executor.submit(() -> {
+                start.await();
+                long begin = System.nanoTime();
+                Order order = orderService.checkout(userUuid(user), "checkout-" + user, new Order());
+                latencies.add(System.nanoTime() - begin);
+                return order;
+            }));
+        }
+        start.countDown();
+        for (Future<Order> order : orders) {
+            order.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(USERS, jdbcTemplate.queryForObject("select count(*) from tbl_order", Integer.class));
+        assertEquals(USERS * BOOKS_PER_CART,
+                jdbcTemplate.queryForObject("select count(*) from tbl_order_book", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from tbl_cart_book", Integer.class));
+        assertEquals(expectedRevenue(), jdbcTemplate.queryForObject("select sum(total) from tbl_order", BigDecimal.class));
+        assertEquals(USERS, jdbcTemplate.queryForObject("select sum(order_count) from tbl_sales_daily", Integer.class));
+        assertEquals(expectedRevenue(),
+                jdbcTemplate.queryForObject("select sum(revenue) from tbl_sales_daily", BigDecimal.class));
+        assertEquals(expectedRevenue(),
+                jdbcTemplate.queryForObject("select sum(revenue) from tbl_sales_category_daily", BigDecimal.class));
+        assertWithinLatencyTarget(latencies);
+    }
+
+    private static void assertWithinLatencyTarget(List<Long> latencies) {
+        if (P99_TARGET == null) {
+            return;
+        }
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        Duration p99 = Duration.ofNanos(sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1));
+        Duration target = Duration.parse(P99_TARGET);
+        assertTrue(p99.compareTo(target) <= 0, "checkout p99 " + p99.toMillis() + " ms exceeds " + target);
+    }
+
+    private static BigDecimal expectedRevenue() {
+        long revenue = 0;
+        for (int i = 0; i < USERS; i++) {
+            for (int j = 0; j < BOOKS_PER_CART; j++) {
+                revenue += (10L + (i + j) % BOOKS) * (1 + j);
+            }
+        }
+        return BigDecimal.valueOf(revenue).setScale(2);
+    }
+
+    private static String userUuid(int i) {
+        return String.format("00000000-0000-0000-0000-%012d", i);
+    }
+}
@@ -0,0 +1,220 @@
+package com.nagarro.advanced.framework.service;
+
+import com.nagarro.advanced.framework.cache.CartDurability;
+import com.nagarro.advanced.framework.cache.CartStore;
+import com.nagarro.advanced.framework.cache.StockLedger;
+import com.nagarro.advanced.framework.exception.AppException;
+import com.nagarro.advanced.framework.persistence.CartBookWriter;
+import com.nagarro.advanced.framework.persistence.EntityIdGenerator;
+import com.nagarro.advanced.framework.persistence.OrderWriter;
+import com.nagarro.advanced.framework.persistence.OrderWriter.OrderLine;
+import com.nagarro.advanced.framework.persistence.OrderWriter.PendingOrder;
+import com.nagarro.advanced.framework.persistence.entity.Book;
+import com.nagarro.advanced.framework.persistence.entity.Cart;
+import com.nagarro.advanced.framework.persistence.entity.CartBook;
+import com.nagarro.advanced.framework.persistence.entity.Order;
+import com.nagarro.advanced.framework.persistence.entity.User;
+import com.nagarro.advanced.framework.persistence.projection.OrderKeyRow;
+import com.nagarro.advanced.framework.persistence.repository.BookRepository;
+import com.nagarro.advanced.framework.persistence.repository.CartRepository;
+import com.nagarro.advanced.framework.persistence.repository.OrderRepository;
+import com.nagarro.advanced.framework.persistence.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderServiceTest {
+
+    private static final String USER_UUID = "75e45e7d-3e34-43df-9366-91c66a8cc9ae";
+    private static final String IDEMPOTENCY_KEY = "3f0c2d9e-checkout";
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CartRepository cartRepository = mock(CartRepository.class);
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final OrderWriter orderWriter = mock(OrderWriter.class);
+    private final StockLedger stockLedger = mock(StockLedger.class);
+    private final EntityIdGenerator entityIdGenerator = mock(EntityIdGenerator.class);
+    private final CartStore cartStore = new CartStore(mock(CartBookWriter.class), entityIdGenerator,
+            new SimpleMeterRegistry(), false, CartDurability.WRITE_THROUGH, Duration.ofSeconds(1), 200,
+            Duration.ofMinutes(30), 16);
+    private final OrderService orderService = new OrderService(orderRepository, userRepository, cartRepository,
+            bookRepository, cartStore, stockLedger, orderWriter, entityIdGenerator, new SimpleMeterRegistry());
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(3L).uuid(USER_UUID).address("Craiova").phoneNumber("0725984687").build();
+        when(userRepository.findUserByUuid(USER_UUID)).thenReturn(Optional.of(user));
+        when(orderRepository.findByUserUuidAndIdempotencyKey(USER_UUID, IDEMPOTENCY_KEY)).thenReturn(Optional.empty());
+        when(entityIdGenerator.nextIds(Order.class, 1)).thenReturn(List.of(1000L));
+    }
+
+    @Test
+    void checkoutShouldSnapshotCartIntoOrderAtCurrentPrices() {
+        //given
+        Book ion = book(1L, "37.2");
+        Book poezii = book(2L, "15");
+        when(cartRepository.findByUserUuid(USER_UUID)).thenReturn(Optional.of(cart(ion, 2, poezii, 1)));
+        when(bookRepository.findAllById(anyList())).thenReturn(List.of(book(1L, "40"), poezii));
+
+        //when
+        Order order = orderService.checkout(USER_UUID, IDEMPOTENCY_KEY, new Order());
+
+        //then
+        ArgumentCaptor<PendingOrder> captor = ArgumentCaptor.forClass(PendingOrder.class);
+        verify(orderWriter).write(captor.capture());
+        PendingOrder written = captor.getValue();
+        assertEquals(1000L, written.orderId());
+        assertEquals(7L, written.cartId());
+        assertEquals(IDEMPOTENCY_KEY, written.idempotencyKey());
+        assertEquals(List.of(new OrderLine(1L, null, 2, new BigDecimal("40.00")),
+                new OrderLine(2L, null, 1, new BigDecimal("15.00"))),
+                written.lines());
+        assertEquals(new BigDecimal("95.00"), order.getTotal());
+        assertEquals("Craiova", order.getDeliveryAddress());
+        assertEquals(2, order.getItems().size());
+    }
+
+    @Test
+    void checkoutShouldReturnPlacedOrderForRepeatedKey() {
+        //given
+        Order placed = new Order();
+        when(orderRepository.findByUserUuidAndIdempotencyKey(USER_UUID, IDEMPOTENCY_KEY)).thenReturn(Optional.of(placed));
+
+        //when
+        Order order = orderService.checkout(USER_UUID, IDEMPOTENCY_KEY, new Order());
+
+        //then
+        assertSame(placed, order);
+        verify(orderWriter, never()).write(any());
+    }
+
+    @Test
+    void checkoutShouldReturnConcurrentlyPlacedOrderOnDuplicateKey() {
+        //given
+        Order placed = new Order();
+        when(cartRepository.findByUserUuid(USER_UUID)).thenReturn(Optional.of(cart(book(1L, "10"), 1, book(2L, "5"), 1)));
+        when(bookRepository.findAllById(anyList())).thenReturn(List.of(book(1L, "10"), book(2L, "5")));
+        when(orderRepository.findByUserUuidAndIdempotencyKey(USER_UUID, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.empty(), Optional.of(placed));
+        when(stockLedger.reserve(Map.of(1L, 1, 2L, 1))).thenReturn(Map.of(1L, 1));
+        doThrow(new DuplicateKeyException("uk_order_user_idempotency_key")).when(orderWriter).write(any());
+
+        //when
+        Order order = orderService.checkout(USER_UUID, IDEMPOTENCY_KEY, new Order());
+
+        //then
+        assertSame(placed, order);
+        verify(stockLedger).release(Map.of(1L, 1));
+    }
+
+    @Test
+    void checkoutShouldNotWriteOrderWhenStockCannotBeReserved() {
+        //given
+        when(cartRepository.findByUserUuid(USER_UUID)).thenReturn(Optional.of(cart(book(1L, "10"), 1, book(2L, "5"), 1)));
+        when(bookRepository.findAllById(anyList())).thenReturn(List.of(book(1L, "10"), book(2L, "5")));
+        when(stockLedger.reserve(any())).thenThrow(new AppException("The book is out of stock!", HttpStatus.CONFLICT));
+
+        //when
+        AppException thrown = assertThrows(AppException.class,
+                () -> orderService.checkout(USER_UUID, IDEMPOTENCY_KEY, new Order()));
+
+        //then
+        assertEquals(HttpStatus.CONFLICT, thrown.getHttpStatus());
+        verify(orderWriter, never()).write(any());
+    }
+
+    @Test
+    void checkoutShouldRejectEmptyCart() {
+        //given
+        when(cartRepository.findByUserUuid(USER_UUID)).thenReturn(Optional.empty());
+
+        //when
+        AppException thrown = assertThrows(AppException.class,
+                () -> orderService.checkout(USER_UUID, IDEMPOTENCY_KEY, new Order()));
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, thrown.getHttpStatus());
+        verify(orderWriter, never()).write(any());
+    }
+
+    @Test
+    void checkoutShouldRejectBlankIdempotencyKey() {
+        //when
+        AppException thrown = assertThrows(AppException.class,
+                () -> orderService.checkout(USER_UUID, " ", new Order()));
+
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, thrown.getHttpStatus());
+    }
+
+    @Test
+    void findOrdersBeforeShouldKeepKeyOrder() {
+        //given
+        LocalDateTime before = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Order newest = new Order();
+        newest.setId(9L);
+        Order oldest = new Order();
+        oldest.setId(4L);
+        when(orderRepository.findKeysBefore(eq(USER_UUID), eq(before), eq(20L), any()))
+                .thenReturn(List.of(new OrderKeyRow(9L, before.minusHours(1)), new OrderKeyRow(4L, before.minusHours(2))));
+        when(orderRepository.findByIdIn(List.of(9L, 4L))).thenReturn(List.of(oldest, newest));
+
+        //when
+        List<Order> orders = orderService.findOrdersBefore(USER_UUID, before, 20L, 10);
+
+        //then
+        assertEquals(List.of(newest, oldest), orders);
+    }
+
+    @Test
+    void findOrdersBeforeShouldRejectUnknownUser() {
+        //given
+        when(orderRepository.findKeysBefore(eq(USER_UUID), any(), eq(20L), any())).thenReturn(List.of());
+        when(userRepository.existsByUuid(USER_UUID)).thenReturn(false);
+
+        //when
+        AppException thrown = assertThrows(AppException.class,
+                () -> orderService.findOrdersBefore(USER_UUID, LocalDateTime.now(), 20L, 10));
+
+        //then
+        assertEquals(HttpStatus.NOT_FOUND, thrown.getHttpStatus());
+        verify(orderRepository, never()).findByIdIn(anyList());
+    }
+
+    private Cart cart(Book first, int firstQuantity, Book second, int secondQuantity) {
+        Cart cart = Cart.builder().id(7L).uuid("cart-uuid").user(user).items(new LinkedHashSet<>()).build();
+        cart.getItems().add(new CartBook(cart, first, firstQuantity));
+        cart.getItems().add(new CartBook(cart, second, secondQuantity));
+        return cart;
+    }
+
+    private Book book(long id, String price) {
+        return Book.builder().id(id).isbn("isbn-" + id).price(new BigDecimal(price)).build();
+    }
+}
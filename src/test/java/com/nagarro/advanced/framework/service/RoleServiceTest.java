@@ -1,5 +1,7 @@
 package com.nagarro.advanced.framework.service;
 
+import com.nagarro.advanced.framework.cache.RoleRegistry;
+import com.nagarro.advanced.framework.event.RoleChangedEvent;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.persistence.entity.Role;
 import com.nagarro.advanced.framework.persistence.repository.RoleRepository;
@@ -8,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
@@ -26,11 +30,17 @@ class RoleServiceTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private RoleRegistry roleRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private RoleService roleService;
 
     @BeforeEach
     void setUp() {
-        roleService = new RoleService(roleRepository);
+        roleService = new RoleService(roleRepository, roleRegistry, eventPublisher);
     }
 
     @Test
@@ -46,6 +56,7 @@ class RoleServiceTest {
         Role actualRole = roleService.saveRole(expectedRole);
 
         //then
+        verify(eventPublisher).publishEvent(RoleChangedEvent.saved(expectedRole));
         assertEquals(expectedRole.getId(), actualRole.getId());
         assertEquals(expectedRole.getName(), actualRole.getName());
     }
@@ -59,7 +70,7 @@ class RoleServiceTest {
         role.setName("admin");
 
         //when
-        when(roleRepository.findAll()).thenReturn(List.of(role));
+        when(roleRegistry.findByName("admin")).thenReturn(Optional.of(role));
         AppException appException = assertThrows(AppException.class, ()
                 -> roleService.saveRole(role));
 
@@ -67,6 +78,21 @@ class RoleServiceTest {
         assertEquals(HttpStatus.BAD_REQUEST, appException.getHttpStatus());
     }
 
+    @Test
+    void saveRoleShouldRespondWith400WhenDatabaseRejectsDuplicateRoleName() {
+        //given
+        Role role = new Role();
+        role.setName("admin");
+
+        //when
+        when(roleRepository.save(role)).thenThrow(new DataIntegrityViolationException("duplicate"));
+        AppException appException = assertThrows(AppException.class, () -> roleService.saveRole(role));
+
+        //then
+        assertEquals(DUPLICATE_DATA, appException.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, appException.getHttpStatus());
+    }
+
     @Test
     void findRoleByIdShouldReturnRoleForValidId() {
         //given
@@ -76,7 +102,7 @@ class RoleServiceTest {
         expectedRole.setName("admin");
 
         //when
-        when(roleRepository.findById(id)).thenReturn(Optional.of(expectedRole));
+        when(roleRegistry.findById(id)).thenReturn(Optional.of(expectedRole));
         Role actualRole = roleService.findRoleById(id);
 
         //then
@@ -90,7 +116,7 @@ class RoleServiceTest {
         long id = 1;
 
         //when
-        when(roleRepository.findById(id)).thenThrow(AppException.class);
+        when(roleRegistry.findById(id)).thenReturn(Optional.empty());
 
         //then
         assertThrows(AppException.class, () -> roleService.findRoleById(id));
@@ -106,7 +132,7 @@ class RoleServiceTest {
         expectedRole.setName(name);
 
         //when
-        when(roleRepository.findRoleByName(name)).thenReturn(Optional.of(expectedRole));
+        when(roleRegistry.findByName(name)).thenReturn(Optional.of(expectedRole));
         Role actualRole = roleService.findRoleByName(name);
 
         //then
@@ -120,7 +146,7 @@ class RoleServiceTest {
         String name = "1";
 
         //when
-        when(roleRepository.findRoleByName(name)).thenThrow(AppException.class);
+        when(roleRegistry.findByName(name)).thenReturn(Optional.empty());
 
         //then
         assertThrows(AppException.class, () -> roleService.findRoleByName(name));
@@ -142,6 +168,7 @@ class RoleServiceTest {
         roleService.updateRoleById(id, actualRole);
 
         //then
+        verify(eventPublisher).publishEvent(RoleChangedEvent.saved(expectedRole));
         assertEquals(expectedRole.getName(), actualRole.getName());
     }
 
@@ -155,11 +182,12 @@ class RoleServiceTest {
         expectedRole.setName(name);
 
         //when
-        when(roleRepository.findById(id)).thenReturn(Optional.of(expectedRole));
+        when(roleRegistry.findById(id)).thenReturn(Optional.of(expectedRole));
         roleService.deleteRoleById(id);
 
         //then
         verify(roleRepository).delete(expectedRole);
+        verify(eventPublisher).publishEvent(RoleChangedEvent.deleted(id));
     }
 
     @Test
@@ -176,7 +204,7 @@ class RoleServiceTest {
         expectedList.add(expectedRole2);
 
         //when
-        when(roleRepository.findAll()).thenReturn(expectedList);
+        when(roleRegistry.findAll()).thenReturn(expectedList);
         List<Role> actualList = roleService.findAll();
 
         //then
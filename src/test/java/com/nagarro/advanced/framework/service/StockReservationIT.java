@@ -0,0 +1,105 @@
+package com.nagarro.advanced.framework.service;
+
+import com.nagarro.advanced.framework.cache.StockLedger;
+import com.nagarro.advanced.framework.exception.AppException;
+import com.nagarro.advanced.framework.persistence.entity.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {"bookstore.stock.lease-size=7", "bookstore.stock.stripes=8"})
+@Sql(value = "classpath:test-data/truncate-all-tables.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class StockReservationIT {
+
+    private static final int BUYERS = 300;
+    private static final int STOCK = 100;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into tbl_role (id, name) values (1, 'USER')");
+        jdbcTemplate.update("insert into tbl_category (id, uuid, name) values (1, 'category-0', 'category')");
+        jdbcTemplate.update("insert into tbl_book (id, isbn, title, author, details, price, category_id, stock) " +
+                "values (1, 'launch-day', 'Launch Day', 'Author', 'details', 20, 1, ?)", STOCK);
+
+        List<Object[]> users = new ArrayList<>(BUYERS);
+        List<Object[]> carts = new ArrayList<>(BUYERS);
+        List<Object[]> cartBooks = new ArrayList<>(BUYERS);
+        for (int i = 0; i < BUYERS; i++) {
+            users.add(new Object[]{i + 1, userUuid(i), "buyer" + i, "password", "first", "last", "buyer" + i + "@mail.com",
+                    "Craiova", String.format("07%08d", i), 1});
+            carts.add(new Object[]{i + 1, "cart-" + i, i + 1});
+            cartBooks.add(new Object[]{i + 1, 1, 1});
+        }
+        jdbcTemplate.batchUpdate("insert into tbl_user (id, uuid, username, password, first_name, last_name, " +
+                "email, address, phone, role_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("insert into tbl_cart (id, uuid, user_id) values (?, ?, ?)", carts);
+        jdbcTemplate.batchUpdate("insert into tbl_cart_book (cart_id, book_id, quantity) values (?, ?, ?)", cartBooks);
+    }
+
+    @Test
+    void concurrentCheckoutsShouldNotOversellAHotTitle() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger placed = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        List<Future<?>> checkouts = new ArrayList<>(BUYERS);
+
+        //when
+        for (int i = 0; i < BUYERS; i++) {
+            int buyer = i;
+            checkouts.add(executor.submit(() -> {
+                start.await();
+                try {
+                    orderService.checkout(userUuid(buyer), "launch-" + buyer, new Order());
+                    placed.incrementAndGet();
+                } catch (AppException e) {
+                    assertEquals(HttpStatus.CONFLICT, e.getHttpStatus());
+                    outOfStock.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> checkout : checkouts) {
+            checkout.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        stockLedger.reconcile();
+
+        //then
+        assertEquals(STOCK, placed.get());
+        assertEquals(BUYERS - STOCK, outOfStock.get());
+        assertEquals(STOCK, jdbcTemplate.queryForObject("select count(*) from tbl_order", Integer.class));
+        assertEquals(STOCK, jdbcTemplate.queryForObject("select sum(quantity) from tbl_order_book", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("select stock from tbl_book", Integer.class));
+    }
+
+    private static String userUuid(int i) {
+        return String.format("00000000-0000-0000-0001-%012d", i);
+    }
+}
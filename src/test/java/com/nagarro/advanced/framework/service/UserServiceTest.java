@@ -1,20 +1,27 @@
 package com.nagarro.advanced.framework.service;
 
+import com.nagarro.advanced.framework.cache.CartStore;
+import com.nagarro.advanced.framework.cache.RoleRegistry;
 import com.nagarro.advanced.framework.controller.model.UserRegistrationDto;
+import com.nagarro.advanced.framework.event.UserChangedEvent;
 import com.nagarro.advanced.framework.exception.AppException;
 import com.nagarro.advanced.framework.persistence.entity.Role;
 import com.nagarro.advanced.framework.persistence.entity.User;
-import com.nagarro.advanced.framework.persistence.repository.RoleRepository;
+import com.nagarro.advanced.framework.persistence.projection.UserRow;
+import com.nagarro.advanced.framework.persistence.repository.CartRepository;
 import com.nagarro.advanced.framework.persistence.repository.UserRepository;
+import com.nagarro.advanced.framework.search.UserIdentityIndex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,8 +29,12 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,11 +48,23 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
 
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserIdentityIndex userIdentityIndex;
+
+    @Mock
+    private CartStore cartStore;
+
+    @Mock
+    private CartRepository cartRepository;
+
     @Test
     void saveUserShouldSaveForValidUser() {
         //given
@@ -67,7 +90,8 @@ class UserServiceTest {
         user.setRole(role);
 
         //when
-        when(userService.findAll()).thenReturn(List.of(user));
+        when(userIdentityIndex.mightContain(null, "margareta@gmail.com", null)).thenReturn(true);
+        when(userRepository.existsByEmailOrPhoneNumber("margareta@gmail.com", null)).thenReturn(true);
         AppException appException = assertThrows(AppException.class, ()
                 -> userService.saveUser(user));
 
@@ -75,6 +99,22 @@ class UserServiceTest {
         assertEquals(HttpStatus.BAD_REQUEST, appException.getHttpStatus());
     }
 
+    @Test
+    void saveUserShouldRespondWith400WhenDatabaseRejectsDuplicateUserDetails() {
+        //given
+        User user = User.builder().email("margareta@gmail.com").build();
+
+        //when
+        when(userIdentityIndex.mightContain(null, "margareta@gmail.com", null)).thenReturn(false);
+        when(userRepository.save(user)).thenThrow(new DataIntegrityViolationException("uk_user_email"));
+        AppException appException = assertThrows(AppException.class, () -> userService.saveUser(user));
+
+        //then
+        assertEquals(DUPLICATE_DATA, appException.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, appException.getHttpStatus());
+        verify(userIdentityIndex, never()).add(user);
+    }
+
     @Test
     void findUsersByUuidShouldReturnUserForValidUuid() {
         //given
@@ -136,11 +176,13 @@ class UserServiceTest {
 
         //when
         when(userRepository.findUserByUuid(uuid)).thenReturn(Optional.of(expectedUser));
-        when(roleRepository.findRoleByName(expectedUser.getRole().getName()))
+        when(roleRegistry.findByName(expectedUser.getRole().getName()))
                 .thenReturn(Optional.ofNullable(expectedUser.getRole()));
         userService.updateUserByUuid(uuid, actualUser);
 
         //then
+        verify(eventPublisher).publishEvent(new UserChangedEvent("john"));
+        verify(userIdentityIndex).add(expectedUser);
         assertEquals(expectedUser.getAddress(), actualUser.getAddress());
         assertEquals(expectedUser.getEmail(), actualUser.getEmail());
         assertEquals(expectedUser.getPhoneNumber(), actualUser.getPhoneNumber());
@@ -160,7 +202,8 @@ class UserServiceTest {
 
         //when
         when(userRepository.findUserByUuid("15e45e7d-3e34-43df-9366-91c66a8cc9ae")).thenReturn(Optional.of(user));
-        when(userService.findAll()).thenReturn(List.of(user));
+        when(userIdentityIndex.mightContain(null, "margareta@gmail.com", null)).thenReturn(true);
+        when(userRepository.existsByEmailOrPhoneNumber("margareta@gmail.com", null)).thenReturn(true);
         AppException appException = assertThrows(AppException.class, ()
                 -> userService.updateUserByUuid("15e45e7d-3e34-43df-9366-91c66a8cc9ae", user));
 
@@ -169,55 +212,42 @@ class UserServiceTest {
     }
 
     @Test
-    void findAllShouldReturnListOfUsersForValidInput() {
+    void upgradePasswordShouldPersistNewHashAndEvictCachedDetails() {
         //given
-        List<User> expectedList = new ArrayList<>();
-        User userJohn = User.builder().username("john").phoneNumber("0712345678").build();
-        User userJohny = User.builder().username("johny").phoneNumber("0722345678").build();
-        expectedList.add(userJohn);
-        expectedList.add(userJohny);
+        User user = User.builder().id(7L).username("gigel").password("$2a$04$outdated").build();
 
         //when
-        when(userRepository.findAll()).thenReturn(expectedList);
-        List<User> actualList = userService.findAll();
+        userService.upgradePassword(user, "$2a$12$current");
 
         //then
-        assertEquals(expectedList, actualList);
+        verify(userRepository).updatePassword(7L, "$2a$12$current");
+        verify(eventPublisher).publishEvent(new UserChangedEvent("gigel"));
+        assertEquals("$2a$12$current", user.getPassword());
     }
 
     @Test
-    void findAllByRoleShouldReturnListOfUsersForValidInput() {
+    void findPageAfterShouldQueryRowsForRoleName() {
         //given
-        String roleName = "ADMIN";
-        Role role = new Role();
-        role.setName(roleName);
-        List<User> expectedList = new ArrayList<>();
-        User userJohn = User.builder().username("john").phoneNumber("0712345678").build();
-        User userJohny = User.builder().username("johny").phoneNumber("0722345678").build();
-        expectedList.add(userJohn);
-        expectedList.add(userJohny);
+        List<UserRow> expectedRows = List.of(new UserRow(3L, "uuid", "user", "user@gmail.com", "first", "last",
+                "Cluj", "0723458967", 1L, "ADMIN"));
 
         //when
-        when(roleRepository.findRoleByName(roleName)).thenReturn(Optional.of(role));
-        when(userRepository.findAllByRole(role)).thenReturn(expectedList);
-        List<User> actualList = userService.findAllByRole(roleName);
+        when(roleRegistry.findByName("ADMIN")).thenReturn(Optional.of(new Role(1L, "ADMIN")));
+        when(userRepository.findPageAfter(2L, "ADMIN", PageRequest.of(0, 5))).thenReturn(expectedRows);
+        List<UserRow> actualRows = userService.findPageAfter(2L, "ADMIN", 5);
 
         //then
-        assertEquals(expectedList, actualList);
+        assertEquals(expectedRows, actualRows);
     }
 
     @Test
-    void findAllByRoleShouldThrowExceptionForInvalidRoleName() {
-        //given
-        String roleName = "ASDASD";
-        Role role = new Role();
-        role.setName(roleName);
-
+    void findPageAfterShouldThrowExceptionForUnknownRoleName() {
         //when
-        when(roleRepository.findRoleByName(roleName)).thenThrow(AppException.class);
+        when(roleRegistry.findByName("GUEST")).thenReturn(Optional.empty());
 
         //then
-        assertThrows(AppException.class, () -> userService.findAllByRole(roleName));
+        assertThrows(AppException.class, () -> userService.findPageAfter(0L, "GUEST", 5));
+        verify(userRepository, never()).findPageAfter(anyLong(), any(), any());
     }
 
     @Test
@@ -231,7 +261,7 @@ class UserServiceTest {
                 .firstName("fddf").lastName("vfrd").phoneNumber("sxer").role(role).build();
 
         //when
-        when(roleRepository.findRoleByName(userRegistrationDto.getRoleName())).thenReturn(Optional.of(role));
+        when(roleRegistry.findByName(userRegistrationDto.getRoleName())).thenReturn(Optional.of(role));
         when(userService.saveUser(user)).thenReturn(user);
         when(passwordEncoder.encode(userRegistrationDto.getPassword())).thenReturn(anyString());
         User actualUser = userService.register(userRegistrationDto, user);
@@ -275,9 +305,12 @@ class UserServiceTest {
                 .firstName("fsff").lastName("vfrd").phoneNumber("0723458978").roleName(role.getName()).build();
 
         //when
-        when(userRepository.findByUsernameOrEmailOrPhoneNumber(userRegistrationDto.getUsername(),
+        when(userIdentityIndex.mightContain(userRegistrationDto.getUsername(),
+                userRegistrationDto.getEmail(),
+                userRegistrationDto.getPhoneNumber())).thenReturn(true);
+        when(userRepository.existsByUsernameOrEmailOrPhoneNumber(userRegistrationDto.getUsername(),
                 userRegistrationDto.getEmail(),
-                userRegistrationDto.getPhoneNumber())).thenReturn(Optional.empty());
+                userRegistrationDto.getPhoneNumber())).thenReturn(false);
         boolean response = userService.checkNewUserDataIsUnique(userRegistrationDto);
 
         //then
@@ -291,13 +324,14 @@ class UserServiceTest {
         role.setName("vbfh");
         UserRegistrationDto userRegistrationDto = UserRegistrationDto.builder().address("fvtr").email("dfd@gmail.com")
                 .firstName("fddf").lastName("vfrd").phoneNumber("sxer").roleName(role.getName()).build();
-        User user = User.builder().address("fvtr").email("dfd@gmail.com")
-                .firstName("fddf").lastName("vfrd").phoneNumber("sxer").role(role).build();
 
         //when
-        when(userRepository.findByUsernameOrEmailOrPhoneNumber(userRegistrationDto.getUsername(),
+        when(userIdentityIndex.mightContain(userRegistrationDto.getUsername(),
                 userRegistrationDto.getEmail(),
-                userRegistrationDto.getPhoneNumber())).thenReturn(Optional.of(user));
+                userRegistrationDto.getPhoneNumber())).thenReturn(true);
+        when(userRepository.existsByUsernameOrEmailOrPhoneNumber(userRegistrationDto.getUsername(),
+                userRegistrationDto.getEmail(),
+                userRegistrationDto.getPhoneNumber())).thenReturn(true);
         AppException appException = assertThrows(AppException.class, ()
                 -> userService.checkNewUserDataIsUnique(userRegistrationDto));
 
@@ -306,6 +340,21 @@ class UserServiceTest {
         assertEquals(HttpStatus.BAD_REQUEST, appException.getHttpStatus());
     }
 
+    @Test
+    void checkIfNewUserDataIsUniqueShouldSkipDatabaseWhenIndexRulesOutDuplicates() {
+        //given
+        UserRegistrationDto userRegistrationDto = UserRegistrationDto.builder().username("newcomer").email("new@gmail.com")
+                .phoneNumber("0799999999").build();
+
+        //when
+        when(userIdentityIndex.mightContain("newcomer", "new@gmail.com", "0799999999")).thenReturn(false);
+        boolean response = userService.checkNewUserDataIsUnique(userRegistrationDto);
+
+        //then
+        assertTrue(response);
+        verifyNoInteractions(userRepository);
+    }
+
     @Test
     void findUserByUsernameShouldReturnUserForValidInput() {
         Role role = new Role();
@@ -91,4 +91,57 @@ class BookValidatorTest {
         //THEN
         assertEquals(expectedErrors, actualErrors);
     }
+
+    @Test
+    void shouldReturnRequiredPriceWhenBookHasNoPrice() {
+        //GIVEN
+        Book book = new Book();
+        book.setIsbn("237rbf74fe");
+        book.setAuthor("Liviu Rebreanu");
+        book.setTitle("Ion");
+        List<String> expectedErrors = new ArrayList<>();
+        expectedErrors.add("Price required");
+
+        //WHEN
+        List<String> actualErrors = validator.getErrorMessage(book);
+
+        //THEN
+        assertEquals(expectedErrors, actualErrors);
+    }
+
+    @Test
+    void shouldReturnTooLongTitleWhenTitleExceedsColumnLength() {
+        //GIVEN
+        Book book = new Book();
+        book.setIsbn("237rbf74fe");
+        book.setAuthor("Liviu Rebreanu");
+        book.setTitle("I".repeat(61));
+        book.setPrice(BigDecimal.valueOf(25));
+        List<String> expectedErrors = new ArrayList<>();
+        expectedErrors.add("Title cannot be longer than 60 characters");
+
+        //WHEN
+        List<String> actualErrors = validator.getErrorMessage(book);
+
+        //THEN
+        assertEquals(expectedErrors, actualErrors);
+    }
+
+    @Test
+    void shouldReturnTooLongIsbnWhenIsbnExceedsColumnLength() {
+        //GIVEN
+        Book book = new Book();
+        book.setIsbn("9".repeat(41));
+        book.setAuthor("Liviu Rebreanu");
+        book.setTitle("Ion");
+        book.setPrice(BigDecimal.valueOf(25));
+        List<String> expectedErrors = new ArrayList<>();
+        expectedErrors.add("Isbn cannot be longer than 40 characters");
+
+        //WHEN
+        List<String> actualErrors = validator.getErrorMessage(book);
+
+        //THEN
+        assertEquals(expectedErrors, actualErrors);
+    }
 }
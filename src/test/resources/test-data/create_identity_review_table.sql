@@ -0,0 +1,10 @@
+create table if not exists tbl_identity_book_review
+(
+    id      bigint      not null auto_increment primary key,
+    uuid    varchar(40) not null unique,
+    title   varchar(40) not null,
+    body    varchar(255),
+    star    float,
+    user_id bigint,
+    book_id bigint
+);
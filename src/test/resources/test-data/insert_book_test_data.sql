@@ -1,11 +1,11 @@
-insert into tbl_category (uuid, name)
-values ('29e45e7d-3e34-43df-9366-91c66a8cc9ae', 'comedy');
+insert into tbl_category (id, uuid, name)
+values (1, '29e45e7d-3e34-43df-9366-91c66a8cc9ae', 'comedy');
 
-insert into tbl_book (isbn, title, author, details, price, category_id)
-values ('33e45e7d-3e34-43df-9366-91c66a8cc9ae', 'Ion', 'Rebreanu', 'details',37.2, '1');
-insert into tbl_book (isbn, title, author, details, price, category_id)
-values ('99e45e7d-3e34-43df-9366-91c66a8cc9ae', 'Poezii', 'Eminescu', 'details', 15, '1');
-insert into tbl_book (isbn, title, author, details, price, category_id)
-values ('47e45e7d-3e34-43df-9366-91c66a8cc9ae', 'book', 'author', 'details', 16, '1');
-insert into tbl_book (isbn, title, author, details, price, category_id)
-values ('93e45e7d-3e34-43df-9366-91c66a8cc9ae', 'book2', 'author2', 'details', 99, '1');
\ No newline at end of file
+insert into tbl_book (id, isbn, title, author, details, price, category_id)
+values (1, '33e45e7d-3e34-43df-9366-91c66a8cc9ae', 'Ion', 'Rebreanu', 'details',37.2, '1');
+insert into tbl_book (id, isbn, title, author, details, price, category_id)
+values (2, '99e45e7d-3e34-43df-9366-91c66a8cc9ae', 'Poezii', 'Eminescu', 'details', 15, '1');
+insert into tbl_book (id, isbn, title, author, details, price, category_id)
+values (3, '47e45e7d-3e34-43df-9366-91c66a8cc9ae', 'book', 'author', 'details', 16, '1');
+insert into tbl_book (id, isbn, title, author, details, price, category_id)
+values (4, '93e45e7d-3e34-43df-9366-91c66a8cc9ae', 'book2', 'author2', 'details', 99, '1');
\ No newline at end of file
@@ -1,6 +1,6 @@
-insert into tbl_category (uuid, name)
-values ('29e45e7d-3e34-43df-9366-91c66a8cc9ae', 'comedy');
-insert into tbl_category (uuid, name)
-values ('35e45e7d-3e34-43df-9366-91c66a8cc9ae', 'crime');
-insert into tbl_category (uuid, name)
-values ('94b23f0a-3e34-43df-9366-91c66a8cc9ae', 'thriller');
\ No newline at end of file
+insert into tbl_category (id, uuid, name)
+values (1, '29e45e7d-3e34-43df-9366-91c66a8cc9ae', 'comedy');
+insert into tbl_category (id, uuid, name)
+values (2, '35e45e7d-3e34-43df-9366-91c66a8cc9ae', 'crime');
+insert into tbl_category (id, uuid, name)
+values (3, '94b23f0a-3e34-43df-9366-91c66a8cc9ae', 'thriller');
\ No newline at end of file
@@ -1,4 +1,4 @@
-insert into tbl_role(name)
-values ('admin');
-insert into tbl_role(name)
-values ('user');
\ No newline at end of file
+insert into tbl_role (id, name)
+values (1, 'admin');
+insert into tbl_role (id, name)
+values (2, 'user');
\ No newline at end of file
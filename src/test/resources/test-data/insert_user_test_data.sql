@@ -1,11 +1,11 @@
-insert into tbl_role(name)
-values ('ADMIN');
-insert into tbl_user(uuid, username, email, first_name, last_name, address, phone, password, role_id)
-values ('5770c971-b29a-4a7c-96c4-cb47e513a234','pauna123', 'vlad@gmail.com', 'vlad','pauna','Craiova',
+insert into tbl_role (id, name)
+values (1, 'ADMIN');
+insert into tbl_user (id, uuid, username, email, first_name, last_name, address, phone, password, role_id)
+values (1, '5770c971-b29a-4a7c-96c4-cb47e513a234','pauna123', 'vlad@gmail.com', 'vlad','pauna','Craiova',
         '0723458967','passcad',1);
-insert into tbl_user(uuid, username, email, first_name, last_name, address, phone, password, role_id)
-values ('9770c971-b29a-4a7c-96c4-cb47e513a234','mihaescu', 'radu@gmail.com', 'radu','pauna','Cluj',
+insert into tbl_user (id, uuid, username, email, first_name, last_name, address, phone, password, role_id)
+values (2, '9770c971-b29a-4a7c-96c4-cb47e513a234','mihaescu', 'radu@gmail.com', 'radu','pauna','Cluj',
         '0773458967','passcad',1);
-insert into tbl_user(uuid, username, email, first_name, last_name, address, phone, password, role_id)
-values ('9770c971-b29a-4a7c-96c4-cb47e513a214','iliescu', 'ilie@gmail.com', 'ilie','pana','Cluj',
+insert into tbl_user (id, uuid, username, email, first_name, last_name, address, phone, password, role_id)
+values (3, '9770c971-b29a-4a7c-96c4-cb47e513a214','iliescu', 'ilie@gmail.com', 'ilie','pana','Cluj',
         '0772158967','$2a$12$rpOza0CQqCeVlrtkrIgWbuGQNJNqhOMTGxdRYGBHHCpu2Sj8pNJIi',1);
\ No newline at end of file
@@ -2,11 +2,17 @@ SET foreign_key_checks = 0;
 
 TRUNCATE TABLE tbl_book;
 TRUNCATE TABLE tbl_order;
+TRUNCATE TABLE tbl_order_book;
 TRUNCATE TABLE tbl_book_review;
+TRUNCATE TABLE tbl_book_rating;
 TRUNCATE TABLE tbl_cart;
+TRUNCATE TABLE tbl_cart_book;
 TRUNCATE TABLE tbl_role;
 TRUNCATE TABLE tbl_user;
 TRUNCATE TABLE tbl_category;
+TRUNCATE TABLE tbl_outbox;
+TRUNCATE TABLE tbl_sales_daily;
+TRUNCATE TABLE tbl_sales_category_daily;
 
 
 SET foreign_key_checks = 1;
\ No newline at end of file